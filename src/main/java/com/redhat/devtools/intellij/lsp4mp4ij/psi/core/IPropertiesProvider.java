@@ -13,6 +13,9 @@ import com.intellij.openapi.extensions.ExtensionPointName;
 import com.intellij.psi.PsiModifierListOwner;
 import com.intellij.util.Query;
 
+import java.util.Collections;
+import java.util.Set;
+
 /**
  * Properties provider API.
  *
@@ -51,4 +54,21 @@ public interface IPropertiesProvider {
 	 * @param context the search context.
 	 */
 	void collectProperties(PsiModifierListOwner match, SearchContext context);
+
+	/**
+	 * Returns the names (without profile) of the MicroProfile config properties
+	 * which are read by this provider to collect properties (ex : the default
+	 * naming strategy of @ConfigProperties) and an empty set otherwise.
+	 *
+	 * <p>
+	 * The properties collected for a Java file are reused until the file changes,
+	 * they are collected again when one of those config properties changes.
+	 * </p>
+	 *
+	 * @return the names (without profile) of the MicroProfile config properties
+	 *         which are read by this provider.
+	 */
+	default Set<String> getConfigPropertyNames() {
+		return Collections.emptySet();
+	}
 }
@@ -10,9 +10,11 @@
  ******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.util.registry.Registry;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
@@ -23,11 +25,13 @@ import com.intellij.util.UniqueResultsQuery;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.MicroProfilePropertiesIndex;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollector;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.StaticPropertyProviderExtensionPointBean;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4mp.commons.*;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -36,7 +40,10 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -55,6 +62,11 @@ public class PropertiesManager {
 
     private static final PropertiesManager INSTANCE = new PropertiesManager();
 
+    /**
+     * Registry key to enable the parallel execution of the properties providers.
+     */
+    public static final String PARALLEL_SCAN_REGISTRY_KEY = "quarkus.tools.properties.parallel.scan";
+
     public static PropertiesManager getInstance() {
         return INSTANCE;
     }
@@ -101,11 +113,7 @@ public class PropertiesManager {
         if (query != null) {
             try {
                 beginSearch(context, monitor);
-                for (PsiModifierListOwner psiMember : query.findAll()) {
-                    // Check if the operation has been cancelled
-                    monitor.checkCanceled();
-                    collectProperties(psiMember, context, monitor);
-                }
+                collectProperties(query, collector, context, monitor);
             } finally {
                 endSearch(context, monitor);
             }
@@ -134,6 +142,150 @@ public class PropertiesManager {
         }
     }
 
+    /**
+     * Collect properties of the Java elements returned by the given query.
+     *
+     * <p>
+     * The properties and hints of each Java element are collected in a dedicated collector and stored in the
+     * {@link MicroProfilePropertiesIndex} per Java file, to reuse them when the file (or a library) has not changed.
+     * The contributions are merged in the order of the query, so the result is the same as collecting directly
+     * in the given collector.
+     * </p>
+     *
+     * <p>
+     * When the '{@value #PARALLEL_SCAN_REGISTRY_KEY}' registry key is enabled, the Java elements which are not
+     * indexed are processed by several workers in parallel (see {@link #collectContributionsInParallel}).
+     * </p>
+     *
+     * @param query     the query which returns the Java elements to process.
+     * @param collector the properties collector.
+     * @param context   the search context.
+     * @param monitor   the progress monitor.
+     */
+    private void collectProperties(Query<PsiModifierListOwner> query, PropertiesCollector collector, SearchContext context, ProgressIndicator monitor) {
+        Module module = context.getJavaProject();
+        MicroProfilePropertiesIndex index = MicroProfilePropertiesIndex.getInstance(module.getProject());
+        List<PsiModifierListOwner> psiMembers = new ArrayList<>(query.findAll());
+        Map<PsiFile, Integer> nbElementsPerFile = new HashMap<>();
+        for (PsiModifierListOwner psiMember : psiMembers) {
+            PsiFile file = psiMember.getContainingFile();
+            if (file != null) {
+                nbElementsPerFile.merge(file, 1, Integer::sum);
+            }
+        }
+
+        // Reuse the properties, hints of the Java elements from the index
+        ConfigurationMetadata[] contributions = new ConfigurationMetadata[psiMembers.size()];
+        Map<PsiFile, MicroProfilePropertiesIndex.FileContributions> indexedFiles = new HashMap<>();
+        Map<PsiFile, Integer> cursors = new HashMap<>();
+        Set<PsiFile> collectedFiles = new HashSet<>();
+        List<Integer> toCollect = new ArrayList<>();
+        for (int i = 0; i < psiMembers.size(); i++) {
+            // Check if the operation has been cancelled
+            monitor.checkCanceled();
+            PsiFile file = psiMembers.get(i).getContainingFile();
+            if (file != null && !indexedFiles.containsKey(file) && !collectedFiles.contains(file)) {
+                MicroProfilePropertiesIndex.FileContributions fileContributions = index.getContributions(module, file, context.getDocumentFormat(), nbElementsPerFile.get(file));
+                if (fileContributions != null) {
+                    indexedFiles.put(file, fileContributions);
+                } else {
+                    collectedFiles.add(file);
+                }
+            }
+            MicroProfilePropertiesIndex.FileContributions fileContributions = file != null ? indexedFiles.get(file) : null;
+            if (fileContributions != null) {
+                int cursor = cursors.merge(file, 1, Integer::sum) - 1;
+                contributions[i] = fileContributions.getContributions().get(cursor);
+            } else {
+                toCollect.add(i);
+            }
+        }
+
+        // Collect the properties, hints of the other Java elements in a dedicated collector
+        if (toCollect.size() > 1 && Registry.is(PARALLEL_SCAN_REGISTRY_KEY, false)) {
+            collectContributionsInParallel(psiMembers, toCollect, contributions, context, monitor);
+        } else {
+            for (int i : toCollect) {
+                contributions[i] = collectContribution(psiMembers.get(i), context, monitor);
+            }
+        }
+
+        // Merge the contributions in the order of the query
+        for (ConfigurationMetadata contribution : contributions) {
+            monitor.checkCanceled();
+            collector.mergeContribution(contribution);
+        }
+
+        // Update the index with the files which have been processed
+        if (!collectedFiles.isEmpty()) {
+            Map<PsiFile, List<ConfigurationMetadata>> collectedContributions = new HashMap<>();
+            for (int i : toCollect) {
+                PsiFile file = psiMembers.get(i).getContainingFile();
+                if (file != null) {
+                    collectedContributions.computeIfAbsent(file, k -> new ArrayList<>()).add(contributions[i]);
+                }
+            }
+            for (Map.Entry<PsiFile, List<ConfigurationMetadata>> entry : collectedContributions.entrySet()) {
+                index.putContributions(module, entry.getKey(), context.getDocumentFormat(), entry.getValue());
+            }
+            index.saveLibraryContributions();
+        }
+    }
+
+    /**
+     * Collect the properties, hints of the Java elements at the given indexes in parallel.
+     *
+     * <p>
+     * The indexes are partitioned in contiguous ranges processed by the {@link JobLauncher} workers (bounded by the
+     * number of cores), which run in read action since the caller holds one. Each worker uses its own search context
+     * (the providers store not thread-safe state in the context in {@link IPropertiesProvider#beginSearch}) and
+     * each Java element is collected in its own collector, so the contributions can be merged in the order of the
+     * query by the caller. The properties generated once per collector by the providers (ex : the mp-rest
+     * properties) are merged once by {@link PropertiesCollector#mergeContribution}, whatever the worker which has
+     * collected them. The worker search contexts are ended like the search context of the caller, the properties
+     * collected by {@link IPropertiesProvider#endSearch} in the worker collectors (ex : the static properties) are
+     * ignored since they are collected in the collector of the caller when its search context is ended.
+     * </p>
+     *
+     * <p>
+     * The workers always process their whole partition: when the search is cancelled,
+     * {@link JobLauncher#invokeConcurrentlyUnderProgress} throws a {@link com.intellij.openapi.progress.ProcessCanceledException},
+     * so an incomplete result is never merged nor stored in the index.
+     * </p>
+     */
+    private void collectContributionsInParallel(List<PsiModifierListOwner> psiMembers, List<Integer> toCollect,
+                                                ConfigurationMetadata[] contributions, SearchContext context,
+                                                ProgressIndicator monitor) {
+        int nbPartitions = Math.min(toCollect.size(), Runtime.getRuntime().availableProcessors());
+        int partitionSize = (toCollect.size() + nbPartitions - 1) / nbPartitions;
+        List<List<Integer>> partitions = new ArrayList<>();
+        for (int start = 0; start < toCollect.size(); start += partitionSize) {
+            partitions.add(toCollect.subList(start, Math.min(start + partitionSize, toCollect.size())));
+        }
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(partitions, monitor, partition -> {
+            SearchContext workerContext = new SearchContext(context.getJavaProject(), context.getScope(),
+                    new PropertiesCollector(new ConfigurationMetadata(), Collections.emptyList()), context.getUtils(),
+                    context.getDocumentFormat(), monitor);
+            try {
+                beginSearch(workerContext, monitor);
+                for (int i : partition) {
+                    contributions[i] = collectContribution(psiMembers.get(i), workerContext, monitor);
+                }
+            } finally {
+                endSearch(workerContext, monitor);
+            }
+            return true;
+        });
+    }
+
+    @NotNull
+    private ConfigurationMetadata collectContribution(PsiModifierListOwner psiMember, SearchContext context, ProgressIndicator monitor) {
+        ConfigurationMetadata contribution = new ConfigurationMetadata();
+        PropertiesCollector elementCollector = new PropertiesCollector(contribution, Collections.emptyList());
+        collectProperties(psiMember, new SearchContext(context, elementCollector), monitor);
+        return contribution;
+    }
+
     private void collectProperties(PsiModifierListOwner psiMember, SearchContext context, ProgressIndicator monitor) {
         for (IPropertiesProvider provider : getPropertiesProviders()) {
             monitor.checkCanceled();
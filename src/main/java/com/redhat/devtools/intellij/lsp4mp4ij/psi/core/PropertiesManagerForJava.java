@@ -10,11 +10,14 @@
  ******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.lang.jvm.JvmParameter;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleManager;
 import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.registry.Registry;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
 import com.intellij.psi.util.PsiTreeUtil;
@@ -44,7 +47,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * JDT quarkus manager for Java files.
@@ -58,6 +63,16 @@ public class PropertiesManagerForJava {
 
     private static final PropertiesManagerForJava INSTANCE = new PropertiesManagerForJava();
 
+    /**
+     * Registry key to enable the parallel execution of the Java inlayHint and diagnostics participants.
+     *
+     * <p>
+     * The codeLens participants are always executed serially because they share state in the codeLens context
+     * (ex : the Quarkus HTTP port and root path used by the JAX-RS URL codeLens).
+     * </p>
+     */
+    public static final String PARALLEL_PARTICIPANTS_REGISTRY_KEY = "quarkus.tools.java.parallel.participants";
+
     public static PropertiesManagerForJava getInstance() {
         return INSTANCE;
     }
@@ -170,6 +185,20 @@ public class PropertiesManagerForJava {
             if (module == null) {
                 return;
             }
+            if (isParallelParticipants(IJavaInlayHintsParticipant.EP_NAME.getExtensionList())) {
+                List<List<InlayHint>> collectedInlayHints = collectInParallel(IJavaInlayHintsParticipant.EP_NAME.getExtensionList(), monitor, definition -> {
+                    List<InlayHint> participantInlayHints = new ArrayList<>();
+                    JavaInlayHintsContext participantContext = new JavaInlayHintsContext(uri, typeRoot, utils, module, params, participantInlayHints);
+                    if (definition.isAdaptedForInlayHint(participantContext, monitor)) {
+                        definition.beginInlayHint(participantContext, monitor);
+                        definition.collectInlayHint(participantContext, monitor);
+                        definition.endInlayHint(participantContext, monitor);
+                    }
+                    return participantInlayHints;
+                });
+                collectedInlayHints.forEach(inlayHints::addAll);
+                return;
+            }
             JavaInlayHintsContext context = new JavaInlayHintsContext(uri, typeRoot, utils, module, params, inlayHints);
             List<IJavaInlayHintsParticipant> definitions = IJavaInlayHintsParticipant.EP_NAME.getExtensionList()
                     .stream()
@@ -332,6 +361,21 @@ public class PropertiesManagerForJava {
 
         try {
             Module module = utils.getModule(uri);
+            if (isParallelParticipants(IJavaDiagnosticsParticipant.EP_NAME.getExtensionList())) {
+                List<List<Diagnostic>> collectedDiagnostics = collectInParallel(IJavaDiagnosticsParticipant.EP_NAME.getExtensionList(),
+                        ProgressManager.getInstance().getProgressIndicator(), definition -> {
+                            List<Diagnostic> participantDiagnostics = new ArrayList<>();
+                            JavaDiagnosticsContext participantContext = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings, participantDiagnostics);
+                            if (definition.isAdaptedForDiagnostics(participantContext)) {
+                                definition.beginDiagnostics(participantContext);
+                                definition.collectDiagnostics(participantContext);
+                                definition.endDiagnostics(participantContext);
+                            }
+                            return participantDiagnostics;
+                        });
+                collectedDiagnostics.forEach(diagnostics::addAll);
+                return;
+            }
             // Collect all adapted diagnostics participant
             JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, module, documentFormat, settings, diagnostics);
             List<IJavaDiagnosticsParticipant> definitions = IJavaDiagnosticsParticipant.EP_NAME.getExtensionList()
@@ -353,6 +397,31 @@ public class PropertiesManagerForJava {
         }
     }
 
+    private static boolean isParallelParticipants(@NotNull List<?> participants) {
+        return participants.size() > 1 && Registry.is(PARALLEL_PARTICIPANTS_REGISTRY_KEY, false);
+    }
+
+    /**
+     * Runs the given participant task for each participant in parallel and returns the results in the order of the
+     * participants.
+     *
+     * <p>
+     * The tasks are run by the {@link JobLauncher} workers, in read action since the caller holds one. Each task must
+     * use its own context (the participants store not thread-safe state in the context in the begin phase) and its
+     * own output list, so that the results can be merged in the participants order by the caller.
+     * </p>
+     */
+    private static <P, R> List<R> collectInParallel(@NotNull List<P> participants, @Nullable ProgressIndicator monitor,
+                                                    @NotNull Function<P, R> task) {
+        List<R> results = new ArrayList<>(Collections.nCopies(participants.size(), null));
+        List<Integer> indexes = IntStream.range(0, participants.size()).boxed().toList();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(indexes, monitor, i -> {
+            results.set(i, task.apply(participants.get(i)));
+            return true;
+        });
+        return results;
+    }
+
     /**
      * Returns the hover information according to the given <code>params</code>
      *
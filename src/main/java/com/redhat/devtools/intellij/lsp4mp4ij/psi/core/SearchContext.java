@@ -51,6 +51,23 @@ public class SearchContext {
         cache = new HashMap<>();
     }
 
+    /**
+     * Creates a search context which shares the state (cache, scope, utils, etc.) of the given <code>parent</code>
+     * context but which collects properties in the given <code>collector</code>.
+     *
+     * @param parent    the parent search context.
+     * @param collector the properties collector to use.
+     */
+    public SearchContext(@NotNull SearchContext parent, IPropertiesCollector collector) {
+        this.module = parent.module;
+        this.scope = parent.scope;
+        this.collector = collector;
+        this.utils = parent.utils;
+        this.documentFormat = parent.documentFormat;
+        this.monitor = parent.monitor;
+        this.cache = parent.cache;
+    }
+
     public void put(String key, Object value) {
         cache.put(key, value);
     }
@@ -15,6 +15,7 @@ package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators;
 
 import com.intellij.openapi.extensions.ExtensionPointName;
 import com.intellij.psi.JavaRecursiveElementVisitor;
+import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaErrorCode;
@@ -23,7 +24,10 @@ import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.annotatio
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -47,7 +51,20 @@ import java.util.logging.Logger;
 
  * </code></li>
  * </ul>
- * 
+ *
+ * <p>
+ * By default, the validator walks the Java file on its own with the recursive visit of
+ * {@link JavaRecursiveElementVisitor}: it is notified with the top-level elements of the Java file and visits their
+ * children itself.
+ * </p>
+ *
+ * <p>
+ * A validator which returns false with {@link #isVisitingChildren()} opts into the shared traversal, where the Java
+ * file is walked once for all those validators: the validator is notified with {@link #visitClass(PsiClass)},
+ * {@link #endVisitClass(PsiClass)}, visitMethod, visitField and visitAnnotation for each element of the file, and
+ * must not visit the children of the given element itself (the {@link #visitElement(PsiElement)} does nothing). A
+ * validator can restrict the notified elements to the annotations it validates with {@link #getAnnotationNames()}.
+ * </p>
  * 
  * @author Angelo ZERR
  *
@@ -94,6 +111,55 @@ public class JavaASTValidator extends JavaRecursiveElementVisitor implements Clo
 		return true;
 	}
 
+	/**
+	 * Returns the fully qualified names of the annotations validated by this validator and null if the validator must
+	 * be notified for all Java elements.
+	 *
+	 * <p>
+	 * When names are returned, visitAnnotation is called only for those annotations, and visitClass, endVisitClass,
+	 * visitMethod and visitField are called only for the elements annotated with one of those annotations.
+	 * </p>
+	 *
+	 * @return the fully qualified names of the annotations validated by this validator and null if the validator must
+	 * be notified for all Java elements.
+	 */
+	public @Nullable Collection<String> getAnnotationNames() {
+		return null;
+	}
+
+	/**
+	 * Returns true if this validator visits the children of the Java elements itself and false if the children are
+	 * visited once for all the validators by the shared traversal.
+	 *
+	 * <p>
+	 * Returns true by default, so the validators which rely on the recursive visit of
+	 * {@link JavaRecursiveElementVisitor} keep walking the Java file on their own ({@link #getAnnotationNames()} and
+	 * {@link #endVisitClass(PsiClass)} are then ignored). A validator which returns false is visited by the shared
+	 * traversal.
+	 * </p>
+	 *
+	 * @return true if this validator visits the children of the Java elements itself and false otherwise.
+	 */
+	public boolean isVisitingChildren() {
+		return true;
+	}
+
+	/**
+	 * Called after the members of the given class have been visited.
+	 *
+	 * @param node the class.
+	 */
+	public void endVisitClass(PsiClass node) {
+	}
+
+	@Override
+	public void visitElement(@NotNull PsiElement element) {
+		if (isVisitingChildren()) {
+			super.visitElement(element);
+		}
+		// Otherwise the children are visited once for all the validators by the shared traversal
+	}
+
 	public Diagnostic addDiagnostic(String message, String source, PsiElement node, IJavaErrorCode code,
 									DiagnosticSeverity severity) {
 		return addDiagnostic(message, source, node.getTextOffset(), node.getTextLength(), code, severity);
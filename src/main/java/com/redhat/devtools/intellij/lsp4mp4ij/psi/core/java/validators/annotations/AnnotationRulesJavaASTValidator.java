@@ -47,6 +47,18 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 		this.rules = rules;
 	}
 
+	@Override
+	public Collection<String> getAnnotationNames() {
+		return rules.stream()
+				.map(AnnotationRule::getAnnotation)
+				.toList();
+	}
+
+	@Override
+	public boolean isVisitingChildren() {
+		return false;
+	}
+
 	@Override
 	public void visitAnnotation(PsiAnnotation annotation) {
 		// Loop for rules
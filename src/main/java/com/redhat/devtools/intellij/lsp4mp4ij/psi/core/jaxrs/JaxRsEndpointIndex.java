@@ -0,0 +1,324 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.UserDataHolderEx;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
+import com.intellij.psi.search.searches.AnnotatedElementsSearch;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.java.JaxRsInfoProviderRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
+
+/**
+ * Index, per module, of the JAX-RS endpoints (HTTP method, URL and Java method) used by the JAX-RS workspace symbols,
+ * the JAX-RS URL codeLens and {@link #findEndpoints(Module, String, IPsiUtils, ProgressIndicator)}.
+ *
+ * <p>
+ * The index is maintained incrementally:
+ * <ul>
+ *     <li>the JAX-RS classes and the @ApplicationPath value of a module are searched again only when a Java file or
+ *     the module roots have changed.</li>
+ *     <li>the endpoints of a Java file are collected again with its {@link IJaxRsInfoProvider} only when the Java file
+ *     has been modified, when the module roots have changed or when the base URL (server port, root path, application
+ *     path) is not the same.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * The index stores a {@link SmartPsiElementPointer} to the Java method of each endpoint (not the Java method itself)
+ * to avoid keeping the PSI of the Java files in memory: the {@link JaxRsMethodInfo} are created when the endpoints
+ * are returned.
+ * </p>
+ */
+public class JaxRsEndpointIndex {
+
+	private static final Logger LOGGER = Logger.getLogger(JaxRsEndpointIndex.class.getName());
+
+	private static final Key<CachedValue<Set<PsiClass>>> JAXRS_CLASSES_KEY = Key.create("jaxrs.classes");
+
+	private static final Key<CachedValue<String>> APPLICATION_PATH_KEY = Key.create("jaxrs.applicationPath");
+
+	private static final Key<Map<VirtualFile, FileEndpoints>> FILE_ENDPOINTS_KEY = Key.create("jaxrs.fileEndpoints");
+
+	/**
+	 * A JAX-RS endpoint of a Java file.
+	 */
+	record IndexedEndpoint(String url, HttpMethod httpMethod, SmartPsiElementPointer<PsiMethod> javaMethod,
+						   String documentUri) {
+	}
+
+	/**
+	 * The JAX-RS endpoints of a Java file.
+	 */
+	private record FileEndpoints(long modificationStamp, long rootsModificationCount, String baseUrl,
+								 List<IndexedEndpoint> endpoints) {
+
+		private boolean isValid(long modificationStamp, long rootsModificationCount, String baseUrl) {
+			return this.modificationStamp == modificationStamp && this.rootsModificationCount == rootsModificationCount
+					&& Objects.equals(this.baseUrl, baseUrl);
+		}
+
+		/**
+		 * Returns the JAX-RS method infos of the endpoints and null if a Java method cannot be restored.
+		 */
+		private @Nullable List<JaxRsMethodInfo> toMethodInfos() {
+			List<JaxRsMethodInfo> infos = new ArrayList<>(endpoints.size());
+			for (IndexedEndpoint endpoint : endpoints) {
+				PsiMethod javaMethod = endpoint.javaMethod().getElement();
+				if (javaMethod == null) {
+					return null;
+				}
+				infos.add(new JaxRsMethodInfo(endpoint.url(), endpoint.httpMethod(), javaMethod, endpoint.documentUri()));
+			}
+			return infos;
+		}
+	}
+
+	private final Project project;
+
+	public static JaxRsEndpointIndex getInstance(@NotNull Project project) {
+		return project.getService(JaxRsEndpointIndex.class);
+	}
+
+	public JaxRsEndpointIndex(Project project) {
+		this.project = project;
+	}
+
+	/**
+	 * Returns the JAX-RS endpoints of the given module.
+	 *
+	 * @param javaProject  the module.
+	 * @param jaxrsContext the JAX-RS context used to build the endpoint URLs.
+	 * @param utils        the Psi utilities.
+	 * @param monitor      the progress monitor.
+	 * @return the JAX-RS endpoints of the given module.
+	 */
+	public @NotNull List<JaxRsMethodInfo> getEndpoints(@NotNull Module javaProject, @NotNull JaxRsContext jaxrsContext,
+													   @NotNull IPsiUtils utils, @NotNull ProgressIndicator monitor) {
+		Set<PsiFile> files = new LinkedHashSet<>();
+		for (PsiClass jaxrsClass : getAllJaxRsClasses(javaProject, utils, monitor)) {
+			PsiFile file = jaxrsClass.getContainingFile();
+			if (file != null) {
+				files.add(file);
+			}
+		}
+		List<JaxRsMethodInfo> endpoints = new ArrayList<>();
+		Set<VirtualFile> indexedFiles = new HashSet<>();
+		for (PsiFile file : files) {
+			monitor.checkCanceled();
+			IJaxRsInfoProvider provider = JaxRsInfoProviderRegistry.getInstance().getProviderForType(file, javaProject, monitor);
+			if (provider == null) {
+				LOGGER.severe("Attempted to collect JAX-RS info for " + file.getName()
+						+ ", but no participant was suitable, despite the fact that an earlier check found a suitable participant");
+				continue;
+			}
+			endpoints.addAll(getEndpoints(file, provider, jaxrsContext, utils, monitor));
+			VirtualFile virtualFile = file.getVirtualFile();
+			if (virtualFile != null) {
+				indexedFiles.add(virtualFile);
+			}
+		}
+		// Remove the Java files which don't contain JAX-RS classes anymore
+		Map<VirtualFile, FileEndpoints> fileEndpoints = javaProject.getUserData(FILE_ENDPOINTS_KEY);
+		if (fileEndpoints != null) {
+			fileEndpoints.keySet().removeIf(file -> !file.isValid() || !indexedFiles.contains(file));
+		}
+		return endpoints;
+	}
+
+	/**
+	 * Returns the JAX-RS endpoints of the given Java file collected with the given provider.
+	 *
+	 * @param typeRoot     the Java file.
+	 * @param provider     the JAX-RS info provider which supports the Java file.
+	 * @param jaxrsContext the JAX-RS context used to build the endpoint URLs.
+	 * @param utils        the Psi utilities.
+	 * @param monitor      the progress monitor.
+	 * @return the JAX-RS endpoints of the given Java file.
+	 */
+	public @NotNull List<JaxRsMethodInfo> getEndpoints(@NotNull PsiFile typeRoot, @NotNull IJaxRsInfoProvider provider,
+													   @NotNull JaxRsContext jaxrsContext, @NotNull IPsiUtils utils,
+													   @NotNull ProgressIndicator monitor) {
+		VirtualFile file = typeRoot.getVirtualFile();
+		Module javaProject = file != null && typeRoot.isPhysical() ? utils.getModule(file) : null;
+		if (javaProject == null) {
+			return provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		}
+		long modificationStamp = typeRoot.getModificationStamp();
+		long rootsModificationCount = ProjectRootManager.getInstance(project).getModificationCount();
+		String baseUrl = jaxrsContext.getLocalBaseURL();
+		Map<VirtualFile, FileEndpoints> fileEndpoints = getFileEndpoints(javaProject);
+		FileEndpoints endpoints = fileEndpoints.get(file);
+		if (endpoints != null && endpoints.isValid(modificationStamp, rootsModificationCount, baseUrl)) {
+			List<JaxRsMethodInfo> infos = endpoints.toMethodInfos();
+			if (infos != null) {
+				return infos;
+			}
+		}
+		List<JaxRsMethodInfo> infos = provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		// The provider returns the endpoints collected so far when it is canceled
+		monitor.checkCanceled();
+		SmartPointerManager pointerManager = SmartPointerManager.getInstance(project);
+		List<IndexedEndpoint> indexedEndpoints = new ArrayList<>(infos.size());
+		for (JaxRsMethodInfo info : infos) {
+			indexedEndpoints.add(new IndexedEndpoint(info.getUrl(), info.getHttpMethod(),
+					pointerManager.createSmartPsiElementPointer(info.getJavaMethod(), typeRoot), info.getDocumentUri()));
+		}
+		fileEndpoints.put(file, new FileEndpoints(modificationStamp, rootsModificationCount, baseUrl,
+				Collections.unmodifiableList(indexedEndpoints)));
+		return infos;
+	}
+
+	/**
+	 * Returns the JAX-RS endpoints of the given module whose URL path is the given path.
+	 *
+	 * @param javaProject the module.
+	 * @param path        the URL path (ex : '/api/hello').
+	 * @param utils       the Psi utilities.
+	 * @param monitor     the progress monitor.
+	 * @return the JAX-RS endpoints of the given module whose URL path is the given path.
+	 */
+	public @NotNull List<JaxRsMethodInfo> findEndpoints(@NotNull Module javaProject, @NotNull String path,
+														@NotNull IPsiUtils utils, @NotNull ProgressIndicator monitor) {
+		List<JaxRsMethodInfo> result = new ArrayList<>();
+		for (JaxRsMethodInfo endpoint : getEndpoints(javaProject, new JaxRsContext(javaProject), utils, monitor)) {
+			try {
+				if (path.equals(new URL(endpoint.getUrl()).getPath())) {
+					result.add(endpoint);
+				}
+			} catch (MalformedURLException e) {
+				LOGGER.log(Level.WARNING, "Invalid JAX-RS endpoint URL " + endpoint.getUrl(), e);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the value of the @ApplicationPath annotation of the given module and null otherwise.
+	 *
+	 * @param javaProject the module.
+	 * @return the value of the @ApplicationPath annotation of the given module and null otherwise.
+	 */
+	public @Nullable String getApplicationPath(@NotNull Module javaProject) {
+		return CachedValuesManager.getManager(project).getCachedValue(javaProject, APPLICATION_PATH_KEY, () -> {
+			String applicationPath = null;
+			PsiClass applicationPathType = PsiTypeUtils.findType(javaProject,
+					JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION);
+			if (applicationPathType == null) {
+				applicationPathType = PsiTypeUtils.findType(javaProject,
+						JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION);
+			}
+			if (applicationPathType != null) {
+				applicationPath = findApplicationPath(applicationPathType, javaProject);
+			}
+			return CachedValueProvider.Result.create(applicationPath, getJavaModificationTracker(),
+					ProjectRootManager.getInstance(project));
+		}, false);
+	}
+
+	/**
+	 * Use the java search engine to search the java project for the location and
+	 * value of the @ApplicationPath annotation, or null if not found
+	 *
+	 * @param annotationType the type representing the @ApplicationPath annotation
+	 * @param javaProject    the java project
+	 * @return the value of the @ApplicationPath annotation, or null if not found
+	 */
+	private static @Nullable String findApplicationPath(PsiClass annotationType, Module javaProject) {
+		String applicationPath = null;
+		for (PsiClass match : AnnotatedElementsSearch.searchElements(annotationType,
+				javaProject.getModuleWithDependenciesScope(), PsiClass.class).findAll()) {
+			String applicationPathValue = getJaxRsApplicationPathValue(match);
+			if (applicationPathValue != null) {
+				applicationPath = applicationPathValue;
+			}
+		}
+		return applicationPath;
+	}
+
+	private @NotNull Set<PsiClass> getAllJaxRsClasses(@NotNull Module javaProject, @NotNull IPsiUtils utils,
+													  @NotNull ProgressIndicator monitor) {
+		return CachedValuesManager.getManager(project).getCachedValue(javaProject, JAXRS_CLASSES_KEY, () -> {
+			Set<PsiClass> jaxrsClasses = new LinkedHashSet<>();
+			for (IJaxRsInfoProvider provider : JaxRsInfoProviderRegistry.getInstance().getProviders()) {
+				jaxrsClasses.addAll(provider.getAllJaxRsClasses(javaProject, utils, monitor));
+				// The providers return an empty set when they are canceled, it must not be cached
+				monitor.checkCanceled();
+			}
+			return CachedValueProvider.Result.create(Collections.unmodifiableSet(jaxrsClasses),
+					getJavaModificationTracker(), ProjectRootManager.getInstance(project));
+		}, false);
+	}
+
+	@TestOnly
+	@Nullable
+	List<IndexedEndpoint> getIndexedEndpoints(@NotNull Module javaProject, @NotNull VirtualFile file) {
+		Map<VirtualFile, FileEndpoints> fileEndpoints = javaProject.getUserData(FILE_ENDPOINTS_KEY);
+		FileEndpoints endpoints = fileEndpoints != null ? fileEndpoints.get(file) : null;
+		return endpoints != null ? endpoints.endpoints() : null;
+	}
+
+	private @NotNull ModificationTracker getJavaModificationTracker() {
+		return PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE);
+	}
+
+	private static @NotNull Map<VirtualFile, FileEndpoints> getFileEndpoints(@NotNull Module javaProject) {
+		Map<VirtualFile, FileEndpoints> fileEndpoints = javaProject.getUserData(FILE_ENDPOINTS_KEY);
+		if (fileEndpoints == null) {
+			fileEndpoints = new ConcurrentHashMap<>();
+			if (javaProject instanceof UserDataHolderEx holder) {
+				return holder.putUserDataIfAbsent(FILE_ENDPOINTS_KEY, fileEndpoints);
+			}
+			javaProject.putUserData(FILE_ENDPOINTS_KEY, fileEndpoints);
+		}
+		return fileEndpoints;
+	}
+}
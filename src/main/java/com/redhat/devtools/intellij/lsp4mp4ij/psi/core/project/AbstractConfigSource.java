@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -32,7 +33,7 @@ import java.util.Map;
  * @author Angelo ZERR
  * @see <a href="https://github.com/redhat-developer/quarkus-ls/blob/master/microprofile.jdt/com.redhat.microprofile.jdt.core/src/main/java/com/redhat/microprofile/jdt/internal/core/project/AbstractConfigSource.java">https://github.com/redhat-developer/quarkus-ls/blob/master/microprofile.jdt/com.redhat.microprofile.jdt.core/src/main/java/com/redhat/microprofile/jdt/internal/core/project/AbstractConfigSource.java</a>
  */
-public abstract class AbstractConfigSource<T> implements IConfigSource {
+public abstract class AbstractConfigSource<T> implements IConfigSource, Cloneable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractConfigSource.class);
 
@@ -188,16 +189,36 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
     }
 
     @Override
-    public void reload(PsiFile file) {
-        reset();
+    public ReloadResult reload(PsiFile file) {
+        // Use the current loaded config (and not getConfig() which could load the updated file)
+        Map<String, String> oldValues = config != null ? getValues(config) : Collections.emptyMap();
+        AbstractConfigSource<T> reloaded = copy();
+        reloaded.reset();
         String content = file.getText();
         try (InputStream input = IOUtils.toInputStream(content, Charset.defaultCharset())) {
-            config = loadConfig(input);
-            lastModified = System.currentTimeMillis();
+            reloaded.config = reloaded.loadConfig(input);
+            reloaded.lastModified = System.currentTimeMillis();
         } catch (Exception e) {
-            reset();
+            reloaded.reset();
             LOGGER.warn("Error while loading properties from '" + sourceConfigFile + "'.", e);
         }
+        Map<String, String> newValues = reloaded.config != null ? getValues(reloaded.config) : Collections.emptyMap();
+        return new ReloadResult(reloaded, ConfigSourceDiff.compute(oldValues, newValues));
+    }
+
+    /**
+     * Returns a shallow copy of this config source. The config model is never updated once loaded (a new one is
+     * created when the config file is loaded again), so it can be shared with the copy.
+     *
+     * @return a shallow copy of this config source.
+     */
+    @SuppressWarnings("unchecked")
+    private AbstractConfigSource<T> copy() {
+        try {
+            return (AbstractConfigSource<T>) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @Override
@@ -234,6 +255,14 @@ public abstract class AbstractConfigSource<T> implements IConfigSource {
      */
     protected abstract T loadConfig(InputStream input) throws IOException;
 
+    /**
+     * Returns the values (with profile) of the given config model.
+     *
+     * @param config the config model.
+     * @return the values (with profile) of the given config model.
+     */
+    protected abstract Map<String /* property key with profile */, String> getValues(T config);
+
     /**
      * Load the property informations.
      *
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot of the properties declared in the config sources of a {@link PsiMicroProfileProject}.
+ *
+ * <p>
+ * The config sources are flattened once (the config source with the bigger ordinal wins), the property expressions are
+ * expanded and the property informations are grouped by property name, so that readers (hover, inlay hints, validation)
+ * get the values without walking the config sources. A new snapshot is created when a config source changes and
+ * published atomically by the {@link PsiMicroProfileProject}.
+ * </p>
+ *
+ * <p>
+ * The flattened values, the expanded values and the property informations of a snapshot never change once it has been
+ * created. The snapshot is not deeply immutable: it also gives access to the {@link IConfigSource} instances it has been
+ * created from (see {@link #getConfigSources()}), which load their file lazily and may read it from disk when they
+ * are accessed for the first time.
+ * </p>
+ *
+ * <p>
+ * When a config source is reloaded, the new snapshot is created with
+ * {@link #update(ConfigPropertiesSnapshot, List, ConfigSourceDiff)} which recomputes only the values, expressions and
+ * property informations impacted by the changed keys.
+ * </p>
+ */
+final class ConfigPropertiesSnapshot {
+
+    private final List<IConfigSource> configSources;
+
+    /**
+     * Unresolved values of the properties (with profile).
+     */
+    private final Map<String, String> values;
+
+    /**
+     * Expanded values of the properties which contain property expressions.
+     */
+    private final Map<String, String> expandedValues;
+
+    /**
+     * Property informations for each property name without profile.
+     */
+    private final Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations;
+
+    private ConfigPropertiesSnapshot(List<IConfigSource> configSources, Map<String, String> values,
+                                     Map<String, String> expandedValues,
+                                     Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations) {
+        this.configSources = configSources;
+        this.values = values;
+        this.expandedValues = expandedValues;
+        this.propertyInformations = propertyInformations;
+    }
+
+    /**
+     * Create a snapshot of the given config sources.
+     *
+     * @param configSources the config sources sorted by {@link IConfigSource#getOrdinal()} (bigger first).
+     * @return a snapshot of the given config sources.
+     */
+    @NotNull
+    static ConfigPropertiesSnapshot create(@NotNull List<IConfigSource> configSources) {
+        List<IConfigSource> sources = Collections.unmodifiableList(new ArrayList<>(configSources));
+        Map<String, String> values = new HashMap<>();
+        Set<String> propertyKeys = new HashSet<>();
+        for (IConfigSource configSource : sources) {
+            for (String key : configSource.getAllKeys()) {
+                if (!values.containsKey(key)) {
+                    String value = getValue(sources, key);
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                }
+                propertyKeys.add(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key));
+            }
+        }
+        Map<String, String> expandedValues = new HashMap<>();
+        expandValues(values.keySet(), values, expandedValues);
+        Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations = new HashMap<>();
+        collectPropertyInformations(propertyKeys, sources, values, expandedValues, propertyInformations);
+        return new ConfigPropertiesSnapshot(sources, values, expandedValues, propertyInformations);
+    }
+
+    /**
+     * Create a snapshot from the given snapshot, by recomputing only the values, the expressions and the property
+     * informations impacted by the keys of the given diff.
+     *
+     * @param previous      the previous snapshot.
+     * @param configSources the config sources of the previous snapshot where a config source has been replaced by
+     *                      its reloaded config source (see {@link IConfigSource#reload(com.intellij.psi.PsiFile)}).
+     * @param diff          the keys which have been added, removed or updated by the reload.
+     * @return the updated snapshot.
+     */
+    @NotNull
+    static ConfigPropertiesSnapshot update(@NotNull ConfigPropertiesSnapshot previous,
+                                           @NotNull List<IConfigSource> configSources, @NotNull ConfigSourceDiff diff) {
+        List<IConfigSource> sources = Collections.unmodifiableList(new ArrayList<>(configSources));
+        if (diff.isEmpty()) {
+            return new ConfigPropertiesSnapshot(sources, previous.values, previous.expandedValues, previous.propertyInformations);
+        }
+
+        // Update the flattened value of the changed keys
+        Map<String, String> values = new HashMap<>(previous.values);
+        Set<String> propertyKeys = new HashSet<>();
+        for (String key : diff.getChangedKeys()) {
+            String value = getValue(sources, key);
+            if (value != null) {
+                values.put(key, value);
+            } else {
+                values.remove(key);
+            }
+            propertyKeys.add(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key));
+        }
+
+        // Expand again the changed keys and the expressions which reference (directly or not) a changed property
+        Set<String> keysToExpand = new HashSet<>(diff.getChangedKeys());
+        collectReferencingExpressions(values, propertyKeys, keysToExpand);
+        Map<String, String> expandedValues = new HashMap<>(previous.expandedValues);
+        expandedValues.keySet().removeAll(keysToExpand);
+        expandValues(keysToExpand, values, expandedValues);
+
+        // Collect again the property informations of the changed properties
+        Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations = new HashMap<>(previous.propertyInformations);
+        propertyInformations.keySet().removeAll(propertyKeys);
+        collectPropertyInformations(propertyKeys, sources, values, expandedValues, propertyInformations);
+        return new ConfigPropertiesSnapshot(sources, values, expandedValues, propertyInformations);
+    }
+
+    List<IConfigSource> getConfigSources() {
+        return configSources;
+    }
+
+    /**
+     * Returns the value (with expanded property expressions) of the given property and the default value otherwise.
+     *
+     * @param propertyKey  the property with the profile included.
+     * @param defaultValue the value to return if the property is not defined.
+     * @return the value (with expanded property expressions) of the given property and the default value otherwise.
+     */
+    String getProperty(String propertyKey, String defaultValue) {
+        return getProperty(propertyKey, defaultValue, values, expandedValues);
+    }
+
+    List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+        return propertyInformations.getOrDefault(propertyKey, Collections.emptyList());
+    }
+
+    boolean hasProperty(String propertyKey) {
+        return propertyInformations.containsKey(propertyKey);
+    }
+
+    private static String getProperty(String propertyKey, String defaultValue, Map<String, String> values,
+                                      Map<String, String> expandedValues) {
+        String unresolved = values.get(propertyKey);
+        if (unresolved == null) {
+            return defaultValue;
+        }
+        if (unresolved.contains("${")) {
+            String expandedValue = expandedValues.get(propertyKey);
+            return expandedValue != null ? expandedValue : defaultValue;
+        }
+        return unresolved;
+    }
+
+    /**
+     * Returns the flattened value of the given key like the layered {@link IConfigSourcePropertiesProvider}: the config
+     * source with the bigger ordinal which declares a non-empty value wins, otherwise the config source with the lowest
+     * ordinal provides the value (even empty).
+     */
+    private static String getValue(List<IConfigSource> configSources, String key) {
+        for (int i = 0; i < configSources.size() - 1; i++) {
+            String value = configSources.get(i).getProperty(key);
+            if (StringUtils.hasText(value)) {
+                return value;
+            }
+        }
+        return configSources.isEmpty() ? null : configSources.get(configSources.size() - 1).getProperty(key);
+    }
+
+    /**
+     * Add to the given keys to expand the keys of the expressions which reference one of the given properties, and the
+     * expressions which reference those expressions, etc. As an expression can be resolved with a profile
+     * (ex : '%dev.url=${host}' uses '%dev.host'), the properties are compared without profile.
+     */
+    private static void collectReferencingExpressions(Map<String, String> values, Set<String> propertyKeys,
+                                                      Set<String> keysToExpand) {
+        Map<String, String> expressions = new HashMap<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (entry.getValue().contains("${") && !keysToExpand.contains(entry.getKey())) {
+                expressions.put(entry.getKey(), entry.getValue());
+            }
+        }
+        boolean changed = true;
+        while (changed && !expressions.isEmpty()) {
+            changed = false;
+            var iterator = expressions.entrySet().iterator();
+            while (iterator.hasNext()) {
+                var expression = iterator.next();
+                if (isReferencing(expression.getValue(), propertyKeys)) {
+                    iterator.remove();
+                    keysToExpand.add(expression.getKey());
+                    propertyKeys.add(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(expression.getKey()));
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    private static boolean isReferencing(String expression, Set<String> propertyKeys) {
+        for (String propertyKey : propertyKeys) {
+            if (expression.contains(propertyKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void expandValues(Collection<String> keys, Map<String, String> values, Map<String, String> expandedValues) {
+        PropertyValueExpander expander = null;
+        for (String key : keys) {
+            String value = values.get(key);
+            if (value != null && value.contains("${")) {
+                if (expander == null) {
+                    expander = new PropertyValueExpander(new MapPropertiesProvider(values));
+                }
+                String expandedValue = expander.getValue(key);
+                if (expandedValue != null) {
+                    expandedValues.put(key, expandedValue);
+                }
+            }
+        }
+    }
+
+    private static void collectPropertyInformations(Set<String> propertyKeys, List<IConfigSource> configSources,
+                                                    Map<String, String> values, Map<String, String> expandedValues,
+                                                    Map<String, List<MicroProfileConfigPropertyInformation>> propertyInformations) {
+        for (String propertyKey : propertyKeys) {
+            // Use a map to override property values
+            // eg. if application.yaml defines a value for a property it should override the
+            // value defined in application.properties
+            Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
+            // Go backwards so that application.properties replaces
+            // microprofile-config.properties, etc.
+            for (int i = configSources.size() - 1; i >= 0; i--) {
+                List<MicroProfileConfigPropertyInformation> infos = configSources.get(i).getPropertyInformations(propertyKey);
+                if (infos != null) {
+                    for (MicroProfileConfigPropertyInformation info : infos) {
+                        propertyToInfoMap.put(info.getPropertyNameWithProfile(), info);
+                    }
+                }
+            }
+            if (propertyToInfoMap.isEmpty()) {
+                continue;
+            }
+            List<MicroProfileConfigPropertyInformation> infos = new ArrayList<>(propertyToInfoMap.values());
+            infos.sort((a, b) -> a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile()));
+            List<MicroProfileConfigPropertyInformation> resolvedInfos = new ArrayList<>(infos.size());
+            for (MicroProfileConfigPropertyInformation info : infos) {
+                String resolved = getProperty(info.getPropertyNameWithProfile(), null, values, expandedValues);
+                resolvedInfos.add(new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
+                        info.getSourceConfigFileURI(), info.getConfigFileName()));
+            }
+            propertyInformations.put(propertyKey, Collections.unmodifiableList(resolvedInfos));
+        }
+    }
+
+    /**
+     * {@link IConfigSourcePropertiesProvider} implementation backed by the flattened values.
+     */
+    private static class MapPropertiesProvider implements IConfigSourcePropertiesProvider {
+
+        private final Map<String, String> values;
+
+        private MapPropertiesProvider(Map<String, String> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Set<String> keys() {
+            return values.keySet();
+        }
+
+        @Override
+        public boolean hasKey(String key) {
+            return StringUtils.hasText(values.get(key));
+        }
+
+        @Override
+        public String getValue(String key) {
+            return values.get(key);
+        }
+    }
+}
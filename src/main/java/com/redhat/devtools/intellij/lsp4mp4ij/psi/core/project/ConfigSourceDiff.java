@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The keys (with profile) which have been added, removed or updated when a config source has been reloaded.
+ *
+ * @see IConfigSource#reload(com.intellij.psi.PsiFile)
+ */
+public final class ConfigSourceDiff {
+
+    public static final ConfigSourceDiff EMPTY = new ConfigSourceDiff(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+
+    private final Set<String> addedKeys;
+
+    private final Set<String> removedKeys;
+
+    private final Set<String> updatedKeys;
+
+    private Set<String> changedKeys;
+
+    private ConfigSourceDiff(Set<String> addedKeys, Set<String> removedKeys, Set<String> updatedKeys) {
+        this.addedKeys = addedKeys;
+        this.removedKeys = removedKeys;
+        this.updatedKeys = updatedKeys;
+    }
+
+    /**
+     * Returns the diff between the given old and new values of a config source.
+     *
+     * @param oldValues the values of the config source before the reload.
+     * @param newValues the values of the config source after the reload.
+     * @return the diff between the given old and new values of a config source.
+     */
+    @NotNull
+    public static ConfigSourceDiff compute(@NotNull Map<String, String> oldValues, @NotNull Map<String, String> newValues) {
+        Set<String> addedKeys = new HashSet<>();
+        Set<String> updatedKeys = new HashSet<>();
+        for (Map.Entry<String, String> entry : newValues.entrySet()) {
+            String key = entry.getKey();
+            if (!oldValues.containsKey(key)) {
+                addedKeys.add(key);
+            } else if (!Objects.equals(oldValues.get(key), entry.getValue())) {
+                updatedKeys.add(key);
+            }
+        }
+        Set<String> removedKeys = new HashSet<>();
+        for (String key : oldValues.keySet()) {
+            if (!newValues.containsKey(key)) {
+                removedKeys.add(key);
+            }
+        }
+        if (addedKeys.isEmpty() && removedKeys.isEmpty() && updatedKeys.isEmpty()) {
+            return EMPTY;
+        }
+        return new ConfigSourceDiff(addedKeys, removedKeys, updatedKeys);
+    }
+
+    public Set<String> getAddedKeys() {
+        return addedKeys;
+    }
+
+    public Set<String> getRemovedKeys() {
+        return removedKeys;
+    }
+
+    public Set<String> getUpdatedKeys() {
+        return updatedKeys;
+    }
+
+    /**
+     * Returns the keys which have been added, removed or updated.
+     *
+     * @return the keys which have been added, removed or updated.
+     */
+    public Set<String> getChangedKeys() {
+        if (changedKeys == null) {
+            Set<String> keys = new HashSet<>(addedKeys);
+            keys.addAll(removedKeys);
+            keys.addAll(updatedKeys);
+            changedKeys = Collections.unmodifiableSet(keys);
+        }
+        return changedKeys;
+    }
+
+    public boolean isEmpty() {
+        return addedKeys.isEmpty() && removedKeys.isEmpty() && updatedKeys.isEmpty();
+    }
+}
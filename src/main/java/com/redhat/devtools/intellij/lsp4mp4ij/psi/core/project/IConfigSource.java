@@ -103,5 +103,25 @@ public interface IConfigSource {
 	 */
 	Set<String> getAllKeys();
 
-	void reload(PsiFile file);
+	/**
+	 * Returns a new config source loaded with the content of the given file. This
+	 * config source is not updated, so that it can still be used by the readers
+	 * of the properties which have been loaded before.
+	 *
+	 * @param file the config file.
+	 *
+	 * @return the reloaded config source and the keys which have been added,
+	 *         removed or updated by the reload.
+	 */
+	ReloadResult reload(PsiFile file);
+
+	/**
+	 * The result of {@link #reload(PsiFile)}.
+	 *
+	 * @param configSource the reloaded config source.
+	 * @param diff         the keys which have been added, removed or updated by the
+	 *                     reload.
+	 */
+	record ReloadResult(IConfigSource configSource, ConfigSourceDiff diff) {
+	}
 }
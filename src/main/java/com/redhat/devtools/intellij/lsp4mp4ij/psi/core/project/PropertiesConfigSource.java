@@ -99,6 +99,17 @@ public class PropertiesConfigSource extends AbstractConfigSource<Properties> {
 		return propertiesMap;
 	}
 
+	@Override
+	protected Map<String, String> getValues(Properties config) {
+		Map<String, String> values = new HashMap<>();
+		config.forEach((key, val) -> {
+			if (key != null) {
+				values.put(key.toString(), val != null ? val.toString() : null);
+			}
+		});
+		return values;
+	}
+
 	@Override
 	public Set<String> getAllKeys() {
 		Properties properties = getConfig();
@@ -13,24 +13,19 @@ import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.compiler.CompilerPaths;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.util.Ref;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiManager;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.project.ConfigSourcePropertiesProvider;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.qute.commons.config.PropertyConfig;
 import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
-import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
-import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
-import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * JDT MicroProfile project.
@@ -43,9 +38,7 @@ public class PsiMicroProfileProject {
     private static final Logger LOGGER = Logger.getLogger(PsiMicroProfileProject.class.getName());
 
     private final Module javaProject;
-    private List<IConfigSource> configSources;
-    private transient IConfigSourcePropertiesProvider aggregatedPropertiesProvider = null;
-    private transient PropertyValueExpander propertyValueExpander = null;
+    private volatile ConfigPropertiesSnapshot snapshot;
     private MicroProfileProjectRuntime projectRuntime;
 
     public PsiMicroProfileProject(Module javaProject) {
@@ -68,26 +61,7 @@ public class PsiMicroProfileProject {
      * defined in this project
      */
     public String getProperty(String propertyKey, String defaultValue) {
-
-        if (aggregatedPropertiesProvider == null) {
-            aggregatedPropertiesProvider = getAggregatedPropertiesProvider();
-        }
-
-        String unresolved = aggregatedPropertiesProvider.getValue(propertyKey);
-        if (unresolved == null) {
-            return defaultValue;
-        } else if (unresolved.contains("${")) {
-            if (propertyValueExpander == null) {
-                propertyValueExpander = new PropertyValueExpander(aggregatedPropertiesProvider);
-            }
-            String expandedValue = propertyValueExpander.getValue(propertyKey);
-            if (expandedValue == null) {
-                return defaultValue;
-            }
-            return expandedValue;
-        } else {
-            return unresolved;
-        }
+        return getSnapshot().getProperty(propertyKey, defaultValue);
     }
 
     /**
@@ -161,73 +135,80 @@ public class PsiMicroProfileProject {
      * defined in this project.
      */
     public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
-        // Use a map to override property values
-        // eg. if application.yaml defines a value for a property it should override the
-        // value defined in application.properties
-        Map<String, MicroProfileConfigPropertyInformation> propertyToInfoMap = new HashMap<>();
-        // Go backwards so that application.properties replaces
-        // microprofile-config.properties, etc.
-        List<IConfigSource> configSources = getConfigSources();
-        for (int i = configSources.size() - 1; i >= 0; i--) {
-            IConfigSource configSource = configSources.get(i);
-            List<MicroProfileConfigPropertyInformation> propertyInformations = configSource
-                    .getPropertyInformations(propertyKey);
-            if (propertyInformations != null) {
-                for (MicroProfileConfigPropertyInformation propertyInformation : propertyInformations) {
-                    propertyToInfoMap.put(propertyInformation.getPropertyNameWithProfile(), propertyInformation);
-                }
-            }
-        }
-        return propertyToInfoMap.values().stream() //
-                .sorted((a, b) -> {
-                    return a.getPropertyNameWithProfile().compareTo(b.getPropertyNameWithProfile());
-                }) //
-                .map(info -> {
-                    String resolved = this.getProperty(info.getPropertyNameWithProfile());
-                    return new MicroProfileConfigPropertyInformation(info.getPropertyNameWithProfile(), resolved,
-                            info.getSourceConfigFileURI(), info.getConfigFileName());
-                }).collect(Collectors.toList());
+        return getSnapshot().getPropertyInformations(propertyKey);
     }
 
     public List<IConfigSource> getConfigSources() {
-        if (configSources == null) {
-            configSources = loadConfigSources(javaProject);
+        return getSnapshot().getConfigSources();
+    }
+
+    /**
+     * Returns the snapshot of the config sources properties and load it if needed.
+     *
+     * @return the snapshot of the config sources properties.
+     */
+    private ConfigPropertiesSnapshot getSnapshot() {
+        ConfigPropertiesSnapshot current = snapshot;
+        if (current == null) {
+            current = loadSnapshot();
         }
-        return configSources;
+        return current;
     }
 
     /**
      * Evict the config sources cache and related cached information as soon as one
      * of properties, yaml file is saved.
+     *
+     * @param file the config file which has been updated, created or deleted.
+     * @return the keys (with profile) which have been added, removed or updated and null if all the config sources
+     * have been reloaded.
      */
-    public void evictConfigSourcesCache(VirtualFile file) {
-        final IConfigSource existingConfigSource = findConfigSource(file);
-        if (existingConfigSource != null) {
-            // The config source file exists, update / delete it from the cache
-            boolean updated = ReadAction.compute(() -> {
+    @Nullable
+    public Set<String> evictConfigSourcesCache(VirtualFile file) {
+        while (true) {
+            ConfigPropertiesSnapshot current = snapshot;
+            if (current == null) {
+                // The config sources have never been loaded
+                return null;
+            }
+            // The new snapshot is computed by the caller thread (ClasspathResourceChangedManager notifies changes outside of the EDT)
+            // without updating the current snapshot (the reloaded config source is a new instance) while the readers keep
+            // using it. The new snapshot is published only if the current snapshot has not been replaced in the meantime,
+            // otherwise it is computed again from the latest snapshot.
+            Ref<Set<String>> changedKeys = Ref.create();
+            ConfigPropertiesSnapshot newSnapshot = ReadAction.compute(() -> {
+                if (javaProject.isDisposed()) {
+                    return null;
+                }
+                final IConfigSource existingConfigSource = findConfigSource(current.getConfigSources(), file);
+                if (existingConfigSource == null) {
+                    // The config source file doesn't exist, reload all config sources
+                    return ConfigPropertiesSnapshot.create(loadConfigSources(javaProject));
+                }
+                // The config source file exists, update / delete it from the cache
+                List<IConfigSource> configSources = new ArrayList<>(current.getConfigSources());
                 PsiFile psiFile = LSPIJUtils.getPsiFile(file, javaProject.getProject());
                 if (psiFile != null) {
-                    // The config source file has been updated, reload it
-                    existingConfigSource.reload(psiFile);
-                    return true;
+                    // The config source file has been updated, reload it and update only the changed keys
+                    IConfigSource.ReloadResult result = existingConfigSource.reload(psiFile);
+                    configSources.set(configSources.indexOf(existingConfigSource), result.configSource());
+                    changedKeys.set(result.diff().getChangedKeys());
+                    return ConfigPropertiesSnapshot.update(current, configSources, result.diff());
                 }
                 // The config source file has been deleted, remove it
-                return false;
-            });
-            if (!updated) {
-                // Remove from config sources cache, the config source file which has been deleted
                 configSources.remove(existingConfigSource);
+                return ConfigPropertiesSnapshot.create(configSources);
+            });
+            synchronized (this) {
+                if (snapshot == current) {
+                    snapshot = newSnapshot;
+                    return changedKeys.get();
+                }
             }
-        } else {
-            // The config source file doesn't exist, evict the full cache
-            configSources = null;
         }
-        propertyValueExpander = null;
-        aggregatedPropertiesProvider = null;
     }
 
-    private IConfigSource findConfigSource(VirtualFile file) {
-        List<IConfigSource> configSources = getConfigSources();
+    private static IConfigSource findConfigSource(List<IConfigSource> configSources, VirtualFile file) {
         for (IConfigSource configSource : configSources) {
             if (configSource.isSourceConfigFile(file)) {
                 return configSource;
@@ -236,6 +217,22 @@ public class PsiMicroProfileProject {
         return null;
     }
 
+    /**
+     * Load the config sources snapshot.
+     *
+     * @return the loaded config sources snapshot.
+     */
+    private synchronized ConfigPropertiesSnapshot loadSnapshot() {
+        if (snapshot != null) {
+            // Case when there are several Threads which load config sources, the second
+            // Thread should not reload the config sources again.
+            return snapshot;
+        }
+        ConfigPropertiesSnapshot loaded = ConfigPropertiesSnapshot.create(loadConfigSources(javaProject));
+        snapshot = loaded;
+        return loaded;
+    }
+
     /**
      * Load config sources from the given project and sort it by using
      * {@link IConfigSource#getOrdinal()}
@@ -243,12 +240,7 @@ public class PsiMicroProfileProject {
      * @param javaProject the Java project
      * @return the loaded config sources.
      */
-    private synchronized List<IConfigSource> loadConfigSources(Module javaProject) {
-        if (configSources != null) {
-            // Case when there are several Threads which load config sources, the second
-            // Thread should not reload the config sources again.
-            return configSources;
-        }
+    private static List<IConfigSource> loadConfigSources(Module javaProject) {
         List<IConfigSource> configSources = new ArrayList<>();
         VirtualFile outputFile = CompilerPaths.getModuleOutputDirectory(javaProject, false);
         for (IConfigSourceProvider provider : IConfigSourceProvider.EP_NAME.getExtensions()) {
@@ -268,45 +260,7 @@ public class PsiMicroProfileProject {
      * false otherwise
      */
     public boolean hasProperty(String property) {
-        List<IConfigSource> configSources = getConfigSources();
-        for (IConfigSource configSource : configSources) {
-            if (configSource.getPropertyInformations(property) != null) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private IConfigSourcePropertiesProvider getAggregatedPropertiesProvider() {
-        List<IConfigSource> configSources = getConfigSources();
-        if (configSources.size() == 0) {
-            // Return an empty IConfigSourcePropertiesProvider
-            return new IConfigSourcePropertiesProvider() {
-
-                @Override
-                public Set<String> keys() {
-                    return Collections.emptySet();
-                }
-
-                @Override
-                public boolean hasKey(String key) {
-                    return false;
-                }
-
-                @Override
-                public String getValue(String key) {
-                    return null;
-                }
-
-            };
-        }
-        IConfigSourcePropertiesProvider provider = new ConfigSourcePropertiesProvider(
-                configSources.get(configSources.size() - 1));
-        for (int i = configSources.size() - 2; i >= 0; i--) {
-            provider = ConfigSourcePropertiesProviderUtils
-                    .layer(new ConfigSourcePropertiesProvider(configSources.get(i)), provider);
-        }
-        return provider;
+        return getSnapshot().hasProperty(property);
     }
 
     public MicroProfileProjectRuntime getProjectRuntime() {
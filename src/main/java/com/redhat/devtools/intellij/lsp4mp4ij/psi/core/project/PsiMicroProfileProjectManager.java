@@ -19,6 +19,7 @@ import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.Pair;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.util.messages.MessageBusConnection;
+import com.intellij.util.messages.Topic;
 import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
 import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
 import org.jetbrains.annotations.NotNull;
@@ -34,6 +35,23 @@ import java.util.Set;
  */
 public final class PsiMicroProfileProjectManager implements Disposable {
 
+	public static final Topic<ConfigPropertiesListener> CONFIG_PROPERTIES_TOPIC = Topic.create(ConfigPropertiesListener.class.getName(), ConfigPropertiesListener.class);
+
+	/**
+	 * Listener notified when the properties of the config sources (application.properties, etc) of a module have changed.
+	 */
+	public interface ConfigPropertiesListener {
+
+		/**
+		 * Notify that the properties of the config sources of the given module have changed.
+		 *
+		 * @param javaProject the module.
+		 * @param changedKeys the keys (with profile) which have been added, removed or updated and null if all the
+		 *                    config sources have been reloaded.
+		 */
+		void configPropertiesChanged(@NotNull Module javaProject, @Nullable Set<String> changedKeys);
+	}
+
 	private static final Key<PsiMicroProfileProject> KEY = new Key<>(PsiMicroProfileProject.class.getName());
 
 	private static final String JAVA_FILE_EXTENSION = "java";
@@ -63,8 +81,9 @@ public final class PsiMicroProfileProjectManager implements Disposable {
 					// A microprofile config file properties file source has been updated, evict the cache of the properties
 					Module javaProject = pair.getSecond();
 					PsiMicroProfileProject mpProject = getMicroProfileProject(javaProject, false);
-					if (mpProject != null) {
-						mpProject.evictConfigSourcesCache(file);
+					Set<String> changedKeys = mpProject != null ? mpProject.evictConfigSourcesCache(file) : null;
+					if (changedKeys == null || !changedKeys.isEmpty()) {
+						project.getMessageBus().syncPublisher(CONFIG_PROPERTIES_TOPIC).configPropertiesChanged(javaProject, changedKeys);
 					}
 				}
 			}
@@ -33,6 +33,7 @@ import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -55,6 +56,9 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 
     private static final AntPathMatcher pathMatcher = new AntPathMatcher();
 
+    private static final List<String> ANNOTATION_NAMES = List.of(CONFIG_PROPERTY_ANNOTATION,
+            CONFIG_PROPERTIES_ANNOTATION, QuarkusConstants.CONFIG_PROPERTIES_ANNOTATION);
+
     private static final Pattern ARRAY_SPLITTER = Pattern.compile("(?<!\\\\),");
 
     private static final String EXPECTED_TYPE_ERROR_MESSAGE = "''{0}'' does not match the expected type of ''{1}''.";
@@ -86,6 +90,16 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
         return context.getSettings().getPatterns();
     }
 
+    @Override
+    public Collection<String> getAnnotationNames() {
+        return ANNOTATION_NAMES;
+    }
+
+    @Override
+    public boolean isVisitingChildren() {
+        return false;
+    }
+
     @Override
     public void visitClass(PsiClass typeDeclaration) {
         // Get prefix from @ConfigProperties(prefix="")
@@ -98,7 +112,10 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
                 currentPrefix = PsiTypeUtils.extractStringValue(prefixExpr);
             }
         }
-        typeDeclaration.acceptChildren(this);
+    }
+
+    @Override
+    public void endVisitClass(PsiClass typeDeclaration) {
         this.currentPrefix = null;
     }
 
@@ -0,0 +1,525 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.intellij.ide.plugins.IdeaPluginDescriptor;
+import com.intellij.ide.plugins.PluginManager;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.extensions.PluginId;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.EnumTypeAdapter;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesProvider;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Application cache which stores, per JAR library, the properties and hints contributed by each class file of the JAR.
+ *
+ * <p>
+ * A JAR is identified by its path, its size and its timestamp. The contributions are stored in memory and persisted
+ * in the IDE system directory (one JSON file per JAR, document format and config key), so they are shared between
+ * projects which use the same JAR and they survive IDE restarts. When a dependency is updated, only the class files of
+ * the new JAR are processed by the properties providers.
+ * </p>
+ *
+ * <p>
+ * The contributions are valid only:
+ * <ul>
+ *     <li>for the version of the plugin and the set of registered {@link IPropertiesProvider} which have computed them
+ *     (see {@link #computeSignature()}): they are computed again when the plugin is updated or when a plugin which
+ *     contributes a properties provider is installed or removed.</li>
+ *     <li>for the values of the config properties read by the properties providers (see
+ *     {@link IPropertiesProvider#getConfigPropertyNames()}), given by the config key of the module.</li>
+ *     <li>as long as the other JARs which declare the types referenced by the contributions (ex : a config group, an
+ *     enum) are in the classpath of the module and have not changed.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * At most {@link #MAX_LOADED_JARS} JARs are kept in memory (the least recently used are evicted) and at most
+ * {@link #MAX_PERSISTED_JARS} JARs are persisted. The persisted contributions of JARs which have been updated or
+ * deleted are removed.
+ * </p>
+ */
+public class MicroProfileLibraryPropertiesCache implements Disposable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MicroProfileLibraryPropertiesCache.class);
+
+    /**
+     * Version of the persisted format, must be increased when the format changes.
+     */
+    private static final int VERSION = 3;
+
+    private static final String QUARKUS_PLUGIN_ID = "com.redhat.devtools.intellij.quarkus";
+
+    private static final long SAVE_DELAY = 5000;
+
+    /**
+     * Maximum number of JARs (per document format and config key) kept in memory.
+     */
+    static final int MAX_LOADED_JARS = 500;
+
+    /**
+     * Maximum number of JARs (per document format and config key) persisted.
+     */
+    static final int MAX_PERSISTED_JARS = 2000;
+
+    private static final Type JAR_CONTRIBUTIONS_TYPE = new TypeToken<JarContributions>() {
+    }.getType();
+
+    /**
+     * Identity of the persisted contributions of a JAR, read without the contributions to prune the storage directory.
+     */
+    private static class JarHeader {
+
+        protected String signature;
+
+        protected String path;
+
+        protected long length;
+
+        protected long timestamp;
+    }
+
+    /**
+     * Properties and hints contributed by the class files of a JAR.
+     */
+    private static class JarContributions extends JarHeader {
+
+        private String configKey;
+
+        /**
+         * Stamps ('length:timestamp') of the other JARs which declare types referenced by the contributions, indexed by
+         * the JAR path.
+         */
+        private Map<String, String> dependencies;
+
+        private Map<String, List<ConfigurationMetadata>> entries;
+
+        private transient volatile boolean dirty;
+
+        private transient volatile long lastAccess;
+
+        private boolean isValid(@NotNull VirtualFile jarFile, @NotNull String signature, @NotNull Set<String> classpath) {
+            if (!(signature.equals(this.signature)
+                    && jarFile.getPath().equals(path)
+                    && jarFile.getLength() == length
+                    && jarFile.getTimeStamp() == timestamp)) {
+                return false;
+            }
+            for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+                String dependencyPath = dependency.getKey();
+                if (!classpath.contains(dependencyPath)) {
+                    // The referenced types are declared by another JAR in this classpath (or not declared at all)
+                    return false;
+                }
+                VirtualFile dependencyFile = LocalFileSystem.getInstance().findFileByPath(dependencyPath);
+                if (dependencyFile == null || !dependency.getValue().equals(getStamp(dependencyFile))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final Map<String, JarContributions> jars;
+
+    private final Path storageDir;
+
+    private final Gson gson;
+
+    private final AtomicBoolean saveScheduled;
+
+    private final AtomicBoolean pruned;
+
+    private volatile String signature;
+
+    public static MicroProfileLibraryPropertiesCache getInstance() {
+        return ApplicationManager.getApplication().getService(MicroProfileLibraryPropertiesCache.class);
+    }
+
+    public MicroProfileLibraryPropertiesCache() {
+        this(Paths.get(PathManager.getSystemPath(), "quarkus", "microprofile-properties"), null);
+        // Compute the signature again when a properties provider is added or removed
+        IPropertiesProvider.EP_NAME.addChangeListener(() -> signature = null, this);
+    }
+
+    MicroProfileLibraryPropertiesCache(@NotNull Path storageDir, @Nullable String signature) {
+        this.jars = new ConcurrentHashMap<>();
+        this.storageDir = storageDir;
+        this.signature = signature;
+        this.saveScheduled = new AtomicBoolean();
+        this.pruned = new AtomicBoolean();
+        // EnumTypeAdapter from LSP4J should be used, but we cannot use EnumTypeAdapter from LSP4J
+        // coming from LSP4IJ to avoid classpath issues we use a copy of EnumTypeAdapter
+        this.gson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+    }
+
+    /**
+     * Returns true if the given file is a class file stored in a JAR and false otherwise.
+     *
+     * @param file the file.
+     * @return true if the given file is a class file stored in a JAR and false otherwise.
+     */
+    public static boolean isJarEntry(@NotNull VirtualFile file) {
+        return file.getFileSystem() instanceof JarFileSystem;
+    }
+
+    /**
+     * Returns the properties and hints contributed by each matched Java element of the given class file and null
+     * if the JAR has never been processed or if it has changed.
+     *
+     * @param classFile      the class file stored in a JAR.
+     * @param documentFormat the document format used to compute the descriptions.
+     * @param configKey      the values of the config properties read by the properties providers in the module.
+     * @param classpath      the paths of the JARs of the module classpath.
+     * @return the properties and hints contributed by each matched Java element of the given class file and null otherwise.
+     */
+    @Nullable
+    public List<ConfigurationMetadata> getContributions(@NotNull VirtualFile classFile, DocumentFormat documentFormat,
+                                                        @NotNull String configKey, @NotNull Set<String> classpath) {
+        VirtualFile jarFile = JarFileSystem.getInstance().getVirtualFileForJar(classFile);
+        if (jarFile == null) {
+            return null;
+        }
+        JarContributions contributions = getJarContributions(jarFile, documentFormat, configKey, classpath);
+        return contributions.entries.get(getEntryPath(classFile));
+    }
+
+    /**
+     * Stores the properties and hints contributed by each matched Java element of the given class file.
+     *
+     * @param classFile      the class file stored in a JAR.
+     * @param documentFormat the document format used to compute the descriptions.
+     * @param configKey      the values of the config properties read by the properties providers in the module.
+     * @param classpath      the paths of the JARs of the module classpath.
+     * @param contributions  the properties and hints contributed by each matched Java element of the class file.
+     * @param dependencies   the other JARs which declare types referenced by the contributions.
+     */
+    public void putContributions(@NotNull VirtualFile classFile, DocumentFormat documentFormat,
+                                 @NotNull String configKey, @NotNull Set<String> classpath,
+                                 @NotNull List<ConfigurationMetadata> contributions,
+                                 @NotNull Collection<VirtualFile> dependencies) {
+        VirtualFile jarFile = JarFileSystem.getInstance().getVirtualFileForJar(classFile);
+        if (jarFile == null) {
+            return;
+        }
+        JarContributions jarContributions = getJarContributions(jarFile, documentFormat, configKey, classpath);
+        for (VirtualFile dependency : dependencies) {
+            jarContributions.dependencies.put(dependency.getPath(), getStamp(dependency));
+        }
+        jarContributions.entries.put(getEntryPath(classFile), contributions);
+        jarContributions.dirty = true;
+    }
+
+    /**
+     * Evicts from the memory the contributions computed with a config key (the contributions of JARs processed when
+     * a config property read by the properties providers is defined), which are not used by a module whose config
+     * property has changed. The persisted contributions are kept since they are still valid for their config key.
+     */
+    public void evictConfiguredContributions() {
+        for (Map.Entry<String, JarContributions> entry : jars.entrySet()) {
+            JarContributions contributions = entry.getValue();
+            if (!contributions.configKey.isEmpty() && jars.remove(entry.getKey(), contributions)) {
+                saveIfDirty(entry.getKey(), contributions);
+            }
+        }
+    }
+
+    /**
+     * Persists in background the JAR contributions which have been updated. The requests received while a save is
+     * scheduled are coalesced in this save. The first save removes the persisted contributions which are obsolete.
+     */
+    public void scheduleSave() {
+        if (saveScheduled.compareAndSet(false, true)) {
+            AppExecutorUtil.getAppScheduledExecutorService().schedule(() -> {
+                saveScheduled.set(false);
+                save();
+                if (pruned.compareAndSet(false, true)) {
+                    prune();
+                }
+            }, SAVE_DELAY, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Persists the JAR contributions which have been updated.
+     */
+    public void save() {
+        for (Map.Entry<String, JarContributions> entry : jars.entrySet()) {
+            saveIfDirty(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void saveIfDirty(@NotNull String key, @NotNull JarContributions contributions) {
+        if (contributions.dirty) {
+            contributions.dirty = false;
+            save(key, contributions);
+        }
+    }
+
+    @NotNull
+    private JarContributions getJarContributions(@NotNull VirtualFile jarFile, DocumentFormat documentFormat,
+                                                 @NotNull String configKey, @NotNull Set<String> classpath) {
+        String key = jarFile.getPath() + "#" + documentFormat + (configKey.isEmpty() ? "" : "#" + configKey);
+        String signature = getSignature();
+        JarContributions contributions = jars.get(key);
+        if (contributions == null || !contributions.isValid(jarFile, signature, classpath)) {
+            contributions = jars.compute(key, (k, existing) -> {
+                if (existing != null && existing.isValid(jarFile, signature, classpath)) {
+                    return existing;
+                }
+                JarContributions loaded = load(k);
+                if (loaded != null) {
+                    if (loaded.isValid(jarFile, signature, classpath)) {
+                        return loaded;
+                    }
+                    // The JAR, the plugin or the JARs which declare the referenced types have changed
+                    delete(getStorageFile(k));
+                }
+                JarContributions created = new JarContributions();
+                created.signature = signature;
+                created.path = jarFile.getPath();
+                created.length = jarFile.getLength();
+                created.timestamp = jarFile.getTimeStamp();
+                created.configKey = configKey;
+                created.dependencies = new ConcurrentHashMap<>();
+                created.entries = new ConcurrentHashMap<>();
+                return created;
+            });
+            contributions.lastAccess = System.nanoTime();
+            evictLeastRecentlyUsed();
+        } else {
+            contributions.lastAccess = System.nanoTime();
+        }
+        return contributions;
+    }
+
+    /**
+     * Evicts from the memory the least recently used JAR contributions when there are more than
+     * {@link #MAX_LOADED_JARS} JARs (the contributions which have been updated are persisted before).
+     */
+    private void evictLeastRecentlyUsed() {
+        int nbEvicted = jars.size() - MAX_LOADED_JARS;
+        if (nbEvicted <= 0) {
+            return;
+        }
+        List<Map.Entry<String, JarContributions>> entries = new ArrayList<>(jars.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+        for (int i = 0; i < nbEvicted && i < entries.size(); i++) {
+            Map.Entry<String, JarContributions> entry = entries.get(i);
+            if (jars.remove(entry.getKey(), entry.getValue())) {
+                saveIfDirty(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @NotNull
+    private String getSignature() {
+        String signature = this.signature;
+        if (signature == null) {
+            signature = computeSignature();
+            this.signature = signature;
+        }
+        return signature;
+    }
+
+    /**
+     * Returns the signature of the persisted contributions, built with the version of the persisted format, the
+     * version of the plugin and the class names of the registered properties providers.
+     *
+     * @return the signature of the persisted contributions.
+     */
+    @NotNull
+    static String computeSignature() {
+        StringBuilder signature = new StringBuilder().append(VERSION);
+        IdeaPluginDescriptor descriptor = PluginManager.getInstance().findEnabledPlugin(PluginId.getId(QUARKUS_PLUGIN_ID));
+        signature.append('|').append(descriptor != null ? descriptor.getVersion() : null);
+        TreeSet<String> providers = new TreeSet<>();
+        for (IPropertiesProvider provider : IPropertiesProvider.EP_NAME.getExtensionList()) {
+            providers.add(provider.getClass().getName());
+        }
+        for (String provider : providers) {
+            signature.append('|').append(provider);
+        }
+        return signature.toString();
+    }
+
+    @Nullable
+    private JarContributions load(@NotNull String key) {
+        Path file = getStorageFile(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JarContributions contributions = gson.fromJson(reader, JAR_CONTRIBUTIONS_TYPE);
+            if (contributions == null || contributions.entries == null) {
+                return null;
+            }
+            contributions.configKey = Objects.requireNonNullElse(contributions.configKey, "");
+            contributions.dependencies = contributions.dependencies != null ? new ConcurrentHashMap<>(contributions.dependencies) : new ConcurrentHashMap<>();
+            contributions.entries = new ConcurrentHashMap<>(contributions.entries);
+            return contributions;
+        } catch (Exception e) {
+            LOGGER.warn("Cannot load MicroProfile properties cache '" + file + "'.", e);
+            return null;
+        }
+    }
+
+    private void save(@NotNull String key, @NotNull JarContributions contributions) {
+        Path file = getStorageFile(key);
+        try {
+            Files.createDirectories(storageDir);
+            Path tempFile = Files.createTempFile(storageDir, file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                gson.toJson(contributions, JAR_CONTRIBUTIONS_TYPE, writer);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (Exception e) {
+            LOGGER.warn("Cannot save MicroProfile properties cache '" + file + "'.", e);
+        }
+    }
+
+    /**
+     * Removes the persisted contributions of the JARs which have been updated or deleted, or which have been computed
+     * by another version of the plugin, and the oldest persisted contributions when there are more than
+     * {@link #MAX_PERSISTED_JARS} JARs.
+     */
+    void prune() {
+        if (!Files.isDirectory(storageDir)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(storageDir)) {
+            files = stream.filter(file -> file.getFileName().toString().endsWith(".json")).toList();
+        } catch (IOException e) {
+            LOGGER.warn("Cannot list MicroProfile properties cache '" + storageDir + "'.", e);
+            return;
+        }
+        String signature = getSignature();
+        List<Path> keptFiles = new ArrayList<>();
+        for (Path file : files) {
+            JarHeader header = loadHeader(file);
+            if (header == null || !signature.equals(header.signature) || !isUpToDate(header)) {
+                delete(file);
+            } else {
+                keptFiles.add(file);
+            }
+        }
+        int nbDeleted = keptFiles.size() - MAX_PERSISTED_JARS;
+        if (nbDeleted > 0) {
+            // The persisted contributions are touched when they are loaded, delete the least recently used
+            keptFiles.sort(Comparator.comparingLong(file -> file.toFile().lastModified()));
+            for (int i = 0; i < nbDeleted; i++) {
+                delete(keptFiles.get(i));
+            }
+        }
+    }
+
+    @Nullable
+    private JarHeader loadHeader(@NotNull Path file) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, JarHeader.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static boolean isUpToDate(@NotNull JarHeader header) {
+        if (header.path == null) {
+            return false;
+        }
+        File jarFile = new File(header.path);
+        return jarFile.isFile() && jarFile.length() == header.length && jarFile.lastModified() == header.timestamp;
+    }
+
+    private static void delete(@NotNull Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot delete MicroProfile properties cache '" + file + "'.", e);
+        }
+    }
+
+    @NotNull
+    private Path getStorageFile(@NotNull String key) {
+        return storageDir.resolve(sha1(key) + ".json");
+    }
+
+    @Override
+    public void dispose() {
+        // Persists the contributions which have been updated since the last save
+        save();
+    }
+
+    @NotNull
+    private static String getStamp(@NotNull VirtualFile jarFile) {
+        return jarFile.getLength() + ":" + jarFile.getTimeStamp();
+    }
+
+    @NotNull
+    private static String getEntryPath(@NotNull VirtualFile classFile) {
+        String path = classFile.getPath();
+        int index = path.indexOf(JarFileSystem.JAR_SEPARATOR);
+        return index != -1 ? path.substring(index + JarFileSystem.JAR_SEPARATOR.length()) : path;
+    }
+
+    @NotNull
+    private static String sha1(@NotNull String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(key.hashCode());
+        }
+    }
+}
@@ -0,0 +1,487 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.UserDataHolderEx;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassOwner;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.messages.MessageBusConnection;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesProvider;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.MicroProfileConfigPropertyInformation;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MicroProfile properties index stores, per module and per Java file (source or class file), the properties and hints
+ * collected by the {@link com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesProvider} for each Java element
+ * of the file which matches the search patterns.
+ *
+ * <p>
+ * The contributions of class files stored in a JAR are delegated to the {@link MicroProfileLibraryPropertiesCache},
+ * which is keyed by the JAR path, size and timestamp and by the values of the config properties read by the providers
+ * (see {@link #getConfigKey(Module)}), and persisted across IDE restarts. The library contributions are valid as long as
+ * the other JARs which declare the types they reference are unchanged in the module classpath.
+ * </p>
+ *
+ * <p>
+ * The properties providers resolve types, annotations and Javadoc across files, so the contributions cannot be computed
+ * by a {@link com.intellij.util.indexing.FileBasedIndex} indexer (which must only use the content of the indexed file).
+ * Contributions are computed by the providers when the properties are collected, and reused as long as:
+ * <ul>
+ *     <li>the file has not been modified (PSI modification stamp).</li>
+ *     <li>no library has changed (see {@link ClasspathResourceChangedManager.Listener#librariesChanged()}).</li>
+ *     <li>no Java source which declares a type referenced by the contributions (ex : a @ConfigGroup class, an enum
+ *     used as property type) has changed. The Java sources which declare the referenced types are resolved when the
+ *     contributions are stored, and their modification stamp is checked when the contributions are reused.</li>
+ *     <li>no property of the MicroProfile config files of the module read by the providers has changed (like the
+ *     default naming strategy of @ConfigProperties, see {@link IPropertiesProvider#getConfigPropertyNames()}).</li>
+ * </ul>
+ * </p>
+ */
+public class MicroProfilePropertiesIndex implements ClasspathResourceChangedManager.Listener, PsiMicroProfileProjectManager.ConfigPropertiesListener, Disposable {
+
+    private static final Key<Map<VirtualFile, FileContributions>> MICROPROFILE_PROPERTIES_INDEX_KEY = new Key<>(MicroProfilePropertiesIndex.class.getName());
+
+    private static final Key<CachedValue<Set<String>>> LIBRARY_PATHS_KEY = new Key<>(MicroProfilePropertiesIndex.class.getName() + ".libraryPaths");
+
+    /**
+     * Properties and hints collected for each matched Java element of a given file, in the order of the search.
+     */
+    public static class FileContributions {
+
+        private final long modificationStamp;
+
+        private final DocumentFormat documentFormat;
+
+        private final List<ConfigurationMetadata> contributions;
+
+        private final Set<String> referencedTypeNames;
+
+        private final Map<VirtualFile, Long> dependencies;
+
+        FileContributions(long modificationStamp, DocumentFormat documentFormat, List<ConfigurationMetadata> contributions) {
+            this(modificationStamp, documentFormat, contributions, Collections.emptySet(), Collections.emptyMap());
+        }
+
+        FileContributions(long modificationStamp, DocumentFormat documentFormat, List<ConfigurationMetadata> contributions,
+                          Set<String> referencedTypeNames, Map<VirtualFile, Long> dependencies) {
+            this.modificationStamp = modificationStamp;
+            this.documentFormat = documentFormat;
+            this.contributions = Collections.unmodifiableList(contributions);
+            this.referencedTypeNames = referencedTypeNames;
+            this.dependencies = dependencies;
+        }
+
+        /**
+         * Returns the properties and hints collected for each matched Java element of the file, in the order of the search.
+         *
+         * @return the properties and hints collected for each matched Java element of the file, in the order of the search.
+         */
+        public List<ConfigurationMetadata> getContributions() {
+            return contributions;
+        }
+
+        private boolean isValid(@NotNull PsiFile file, DocumentFormat documentFormat, int nbElements) {
+            if (modificationStamp != file.getModificationStamp()
+                    || !Objects.equals(this.documentFormat, documentFormat)
+                    || contributions.size() != nbElements) {
+                return false;
+            }
+            // Check that the Java sources which declare the types referenced by the contributions have not changed
+            PsiManager psiManager = file.getManager();
+            for (Map.Entry<VirtualFile, Long> dependency : dependencies.entrySet()) {
+                VirtualFile dependencyFile = dependency.getKey();
+                PsiFile dependencyPsiFile = dependencyFile.isValid() ? psiManager.findFile(dependencyFile) : null;
+                if (dependencyPsiFile == null || dependencyPsiFile.getModificationStamp() != dependency.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isReferencingAny(Set<String> typeNames) {
+            for (String typeName : typeNames) {
+                if (referencedTypeNames.contains(typeName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Returns the qualified names of the Java types referenced by the given contributions (type and source type of
+     * the properties, source type of the hints and of their values) ('$' of inner classes is replaced with '.').
+     */
+    private static Set<String> collectReferencedTypeNames(List<ConfigurationMetadata> contributions) {
+        Set<String> typeNames = new HashSet<>();
+        for (ConfigurationMetadata contribution : contributions) {
+            if (contribution.getProperties() != null) {
+                for (ItemMetadata property : contribution.getProperties()) {
+                    addTypeNames(property.getSourceType(), typeNames);
+                    addTypeNames(property.getType(), typeNames);
+                }
+            }
+            if (contribution.getHints() != null) {
+                for (ItemHint hint : contribution.getHints()) {
+                    addTypeNames(hint.getSourceType(), typeNames);
+                    if (hint.getValues() != null) {
+                        for (ValueHint value : hint.getValues()) {
+                            addTypeNames(value.getSourceType(), typeNames);
+                        }
+                    }
+                }
+            }
+        }
+        return typeNames;
+    }
+
+    /**
+     * Add the qualified names of the given Java type (ex : 'java.util.Map<java.lang.String,org.acme.Config$Group>'
+     * adds 'java.util.Map', 'java.lang.String' and 'org.acme.Config.Group').
+     */
+    private static void addTypeNames(@Nullable String type, Set<String> typeNames) {
+        if (type == null) {
+            return;
+        }
+        for (String segment : type.split("[<>,\\[\\]? ]")) {
+            if (segment.indexOf('.') > 0) {
+                typeNames.add(segment.replace('$', '.'));
+            }
+        }
+    }
+
+    private final MessageBusConnection connection;
+
+    private final Project project;
+
+    public static MicroProfilePropertiesIndex getInstance(@NotNull Project project) {
+        return project.getService(MicroProfilePropertiesIndex.class);
+    }
+
+    public MicroProfilePropertiesIndex(Project project) {
+        this.project = project;
+        // Create the MicroProfile project manager before subscribing to be notified of config properties changes
+        // before the other listeners of classpath resources changes
+        PsiMicroProfileProjectManager.getInstance(project);
+        connection = project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, this);
+        connection.subscribe(PsiMicroProfileProjectManager.CONFIG_PROPERTIES_TOPIC, this);
+    }
+
+    /**
+     * Returns the contributions of the given file if they are up to date and null otherwise.
+     *
+     * @param module         the module.
+     * @param file           the Java file (source or class file).
+     * @param documentFormat the document format used to compute the descriptions.
+     * @param nbElements     the number of elements of the file which match the search patterns.
+     * @return the contributions of the given file if they are up to date and null otherwise.
+     */
+    @Nullable
+    public FileContributions getContributions(@NotNull Module module, @NotNull PsiFile file, DocumentFormat documentFormat, int nbElements) {
+        VirtualFile virtualFile = file.getVirtualFile();
+        if (virtualFile == null) {
+            return null;
+        }
+        if (MicroProfileLibraryPropertiesCache.isJarEntry(virtualFile)) {
+            List<ConfigurationMetadata> libraryContributions = MicroProfileLibraryPropertiesCache.getInstance()
+                    .getContributions(virtualFile, documentFormat, getConfigKey(module), getLibraryPaths(module));
+            if (libraryContributions != null && libraryContributions.size() == nbElements) {
+                return new FileContributions(file.getModificationStamp(), documentFormat, libraryContributions);
+            }
+            return null;
+        }
+        FileContributions contributions = getIndex(module).get(virtualFile);
+        if (contributions != null && contributions.isValid(file, documentFormat, nbElements)) {
+            return contributions;
+        }
+        return null;
+    }
+
+    /**
+     * Stores the contributions of the given file.
+     *
+     * @param module         the module.
+     * @param file           the Java file (source or class file).
+     * @param documentFormat the document format used to compute the descriptions.
+     * @param contributions  the properties and hints collected for each matched Java element of the file.
+     */
+    public void putContributions(@NotNull Module module, @NotNull PsiFile file, DocumentFormat documentFormat, @NotNull List<ConfigurationMetadata> contributions) {
+        VirtualFile virtualFile = file.getVirtualFile();
+        if (virtualFile == null || module.isDisposed()) {
+            return;
+        }
+        Set<String> referencedTypeNames = collectReferencedTypeNames(contributions);
+        if (MicroProfileLibraryPropertiesCache.isJarEntry(virtualFile)) {
+            MicroProfileLibraryPropertiesCache.getInstance().putContributions(virtualFile, documentFormat,
+                    getConfigKey(module), getLibraryPaths(module), contributions,
+                    collectLibraryDependencies(module, virtualFile, referencedTypeNames));
+            return;
+        }
+        getIndex(module).put(virtualFile, new FileContributions(file.getModificationStamp(), documentFormat, contributions,
+                referencedTypeNames, collectDependencies(file, referencedTypeNames)));
+    }
+
+    /**
+     * Returns the modification stamp of the Java sources of the project (other than the given file) which declare
+     * the given types.
+     */
+    private Map<VirtualFile, Long> collectDependencies(@NotNull PsiFile file, Set<String> referencedTypeNames) {
+        if (referencedTypeNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<VirtualFile, Long> dependencies = new HashMap<>();
+        JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+        GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        for (String typeName : referencedTypeNames) {
+            for (PsiClass type : facade.findClasses(typeName, scope)) {
+                PsiFile typeFile = type.getContainingFile();
+                VirtualFile typeVirtualFile = typeFile != null ? typeFile.getVirtualFile() : null;
+                if (typeVirtualFile != null && !typeFile.equals(file)) {
+                    dependencies.put(typeVirtualFile, typeFile.getModificationStamp());
+                }
+            }
+        }
+        return dependencies.isEmpty() ? Collections.emptyMap() : dependencies;
+    }
+
+    /**
+     * Returns the JARs of the module classpath (other than the JAR of the given class file) which declare the given
+     * types.
+     */
+    private Collection<VirtualFile> collectLibraryDependencies(@NotNull Module module, @NotNull VirtualFile classFile, Set<String> referencedTypeNames) {
+        if (referencedTypeNames.isEmpty()) {
+            return Collections.emptySet();
+        }
+        JarFileSystem jarFileSystem = JarFileSystem.getInstance();
+        VirtualFile jarFile = jarFileSystem.getVirtualFileForJar(classFile);
+        Set<VirtualFile> dependencies = new HashSet<>();
+        JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+        GlobalSearchScope scope = module.getModuleWithLibrariesScope();
+        for (String typeName : referencedTypeNames) {
+            for (PsiClass type : facade.findClasses(typeName, scope)) {
+                PsiFile typeFile = type.getContainingFile();
+                VirtualFile typeVirtualFile = typeFile != null ? typeFile.getVirtualFile() : null;
+                VirtualFile typeJarFile = typeVirtualFile != null ? jarFileSystem.getVirtualFileForJar(typeVirtualFile) : null;
+                if (typeJarFile != null && !typeJarFile.equals(jarFile)) {
+                    dependencies.add(typeJarFile);
+                }
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Returns the values of the config properties of the module read by the properties providers (see
+     * {@link IPropertiesProvider#getConfigPropertyNames()}) as a key of the library contributions, and an empty string
+     * if no property read by the properties providers is defined.
+     */
+    @NotNull
+    private String getConfigKey(@NotNull Module module) {
+        Map<String, String> values = new TreeMap<>();
+        for (IPropertiesProvider provider : IPropertiesProvider.EP_NAME.getExtensionList()) {
+            for (String propertyName : provider.getConfigPropertyNames()) {
+                if (!values.containsKey(propertyName)) {
+                    String value = PsiMicroProfileProjectManager.getInstance(project).getMicroProfileProject(module)
+                            .getProperty(propertyName, null);
+                    if (value != null) {
+                        values.put(propertyName, value);
+                    }
+                }
+            }
+        }
+        return values.isEmpty() ? "" : values.toString();
+    }
+
+    /**
+     * Returns the local paths of the JARs of the module classpath.
+     */
+    @NotNull
+    private Set<String> getLibraryPaths(@NotNull Module module) {
+        return CachedValuesManager.getManager(project).getCachedValue(module, LIBRARY_PATHS_KEY, () -> {
+            Set<String> paths = new HashSet<>();
+            JarFileSystem jarFileSystem = JarFileSystem.getInstance();
+            for (VirtualFile root : OrderEnumerator.orderEntries(module).recursively().librariesOnly().classes().getRoots()) {
+                VirtualFile jarFile = jarFileSystem.getVirtualFileForJar(root);
+                if (jarFile != null) {
+                    paths.add(jarFile.getPath());
+                }
+            }
+            return CachedValueProvider.Result.create(paths, ProjectRootManager.getInstance(project));
+        }, false);
+    }
+
+    /**
+     * Persists in background the library contributions which have been updated (the saves requested by several
+     * searches in a short time are coalesced).
+     */
+    public void saveLibraryContributions() {
+        MicroProfileLibraryPropertiesCache.getInstance().scheduleSave();
+    }
+
+    @NotNull
+    private static Map<VirtualFile, FileContributions> getIndex(@NotNull Module module) {
+        Map<VirtualFile, FileContributions> index = module.getUserData(MICROPROFILE_PROPERTIES_INDEX_KEY);
+        if (index == null) {
+            index = new ConcurrentHashMap<>();
+            if (module instanceof UserDataHolderEx holder) {
+                return holder.putUserDataIfAbsent(MICROPROFILE_PROPERTIES_INDEX_KEY, index);
+            }
+            module.putUserData(MICROPROFILE_PROPERTIES_INDEX_KEY, index);
+        }
+        return index;
+    }
+
+    @Override
+    public void librariesChanged() {
+        // The module indexes store only the contributions of sources and class folders, they are all evicted.
+        // The contributions of JAR class files are stored in the library cache which validates them with the
+        // JAR size and timestamp and with the JARs which declare the referenced types, so they are kept for the JARs
+        // which have not changed.
+        evictAll();
+    }
+
+    @Override
+    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+        for (var pair : sources) {
+            VirtualFile file = pair.getFirst();
+            Module module = pair.getSecond();
+            if (PsiMicroProfileProjectManager.isJavaFile(file)) {
+                // Evict the contributions of the Java file. The contributions which depend on a Java source which has
+                // been updated or deleted are evicted when they are validated with the modification stamp of their
+                // dependencies, evict here the contributions which reference a type declared by the Java file, which
+                // could not be resolved when they were collected (ex : the Java file has been created or renamed).
+                if (module != null) {
+                    getIndex(module).remove(file);
+                }
+                Set<String> typeNames = ReadAction.compute(() -> getDeclaredTypeNames(file));
+                if (typeNames.isEmpty()) {
+                    continue;
+                }
+                for (Module m : getModules()) {
+                    Map<VirtualFile, FileContributions> index = m.getUserData(MICROPROFILE_PROPERTIES_INDEX_KEY);
+                    if (index != null) {
+                        index.values().removeIf(contributions -> contributions.isReferencingAny(typeNames));
+                    }
+                }
+            }
+        }
+    }
+
+    private Set<String> getDeclaredTypeNames(@NotNull VirtualFile file) {
+        if (project.isDisposed() || !file.isValid()) {
+            return Collections.emptySet();
+        }
+        PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+        if (!(psiFile instanceof PsiClassOwner classOwner)) {
+            return Collections.emptySet();
+        }
+        Set<String> typeNames = new HashSet<>();
+        addDeclaredTypeNames(classOwner.getClasses(), typeNames);
+        return typeNames;
+    }
+
+    private static void addDeclaredTypeNames(PsiClass[] classes, Set<String> typeNames) {
+        for (PsiClass psiClass : classes) {
+            String qualifiedName = psiClass.getQualifiedName();
+            if (qualifiedName != null) {
+                typeNames.add(qualifiedName);
+            }
+            addDeclaredTypeNames(psiClass.getInnerClasses(), typeNames);
+        }
+    }
+
+    @Override
+    public void configPropertiesChanged(@NotNull Module javaProject, @Nullable Set<String> changedKeys) {
+        // The notification is sent only when a property has been added, removed or updated (not when a comment is updated),
+        // evict the contributions only if a property read by the properties providers has changed.
+        if (changedKeys == null || isReadByPropertiesProviders(changedKeys)) {
+            javaProject.putUserData(MICROPROFILE_PROPERTIES_INDEX_KEY, null);
+            // The library contributions are keyed by the values of the properties read by the providers, the
+            // contributions computed with the old values are not used anymore by the module.
+            MicroProfileLibraryPropertiesCache.getInstance().evictConfiguredContributions();
+        }
+    }
+
+    private static boolean isReadByPropertiesProviders(@NotNull Set<String> changedKeys) {
+        Set<String> propertyNames = new HashSet<>();
+        for (IPropertiesProvider provider : IPropertiesProvider.EP_NAME.getExtensionList()) {
+            propertyNames.addAll(provider.getConfigPropertyNames());
+        }
+        if (propertyNames.isEmpty()) {
+            return false;
+        }
+        for (String key : changedKeys) {
+            // The changed key contains the profile (ex : '%dev.quarkus.arc.config-properties-default-naming-strategy')
+            if (propertyNames.contains(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(key))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Module[] getModules() {
+        return project.isDisposed() ? Module.EMPTY_ARRAY : ModuleManager.getInstance(project).getModules();
+    }
+
+    private void evictAll() {
+        for (Module module : getModules()) {
+            module.putUserData(MICROPROFILE_PROPERTIES_INDEX_KEY, null);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        connection.disconnect();
+        evictAll();
+    }
+}
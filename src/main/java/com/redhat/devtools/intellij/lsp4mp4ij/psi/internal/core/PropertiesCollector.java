@@ -13,12 +13,20 @@
 *******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.EnumTypeAdapter;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -34,10 +42,30 @@ import org.eclipse.lsp4mp.commons.metadata.ValueHint;
  */
 public class PropertiesCollector implements IPropertiesCollector {
 
+	/**
+	 * Gson used to copy the properties and hints of the contributions, which are
+	 * stored in the properties index and must not be shared with the collected
+	 * configuration.
+	 */
+	private static final Gson COPY_GSON = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+
 	private final ConfigurationMetadata configuration;
 
 	private final Map<String, ItemHint> hintsCache;
 
+	/**
+	 * Properties indexed by name, in the order of the configuration properties
+	 * list (the same name can be collected several times with
+	 * {@link MergingStrategy#FORCE}).
+	 */
+	private final Map<String, ArrayDeque<ItemMetadata>> propertiesCache;
+
+	/**
+	 * Properties replaced by a merge which must be removed from the configuration
+	 * properties list.
+	 */
+	private final Set<ItemMetadata> removedProperties;
+
 	private final boolean onlySources;
 
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
@@ -45,6 +73,8 @@ public class PropertiesCollector implements IPropertiesCollector {
 		this.configuration.setProperties(new ArrayList<>());
 		this.configuration.setHints(new ArrayList<>());
 		this.hintsCache = new HashMap<>();
+		this.propertiesCache = new HashMap<>();
+		this.removedProperties = Collections.newSetFromMap(new IdentityHashMap<>());
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
 	}
 
@@ -70,7 +100,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
 
-		configuration.getProperties().add(property);
+		addProperty(property);
 		return property;
 	}
 
@@ -97,8 +127,9 @@ public class PropertiesCollector implements IPropertiesCollector {
 		List<ItemMetadata> properties = metadata.getProperties();
 		if (properties != null) {
 			for (ItemMetadata property: properties) {
-				merge(property, mergingStrategy);
+				doMerge(property, mergingStrategy);
 			}
+			flushRemovedProperties();
 		}
 		List<ItemHint> hints = metadata.getHints();
 		if (hints != null) {
@@ -108,7 +139,104 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 	}
 
+	/**
+	 * Merges the properties and hints collected for a single Java element in a
+	 * dedicated collector (see {@link MicroProfilePropertiesIndex}).
+	 *
+	 * <p>
+	 * Properties are added like with {@link MergingStrategy#FORCE}, except the
+	 * properties which are identical (name, type, description, source and default
+	 * value) to a property merged by a previous contribution. Some properties are
+	 * generated once per search by the providers (ex : the
+	 * '${mp.register.rest.client.class}/mp-rest/*' properties, the
+	 * '&lt;annotation&gt;/&lt;parameter&gt;' fault tolerance properties): they are
+	 * stored in the contribution of each Java element which generates them, so that
+	 * a contribution can be replayed without the others, and they must be merged
+	 * once to give the same result as a search which collects directly in this
+	 * collector. The properties of a Java element are bound to its declaring type,
+	 * field or method, so two contributions never contain identical properties
+	 * otherwise. Hint values are added only if they don't exist, which is the
+	 * result that the providers give when they collect directly in this collector.
+	 * </p>
+	 *
+	 * <p>
+	 * The given contribution is stored in the index and is never updated: the
+	 * properties, hints and hint values are copied before being added.
+	 * </p>
+	 *
+	 * @param contribution the properties and hints collected for a Java element.
+	 */
+	public void mergeContribution(ConfigurationMetadata contribution) {
+		List<ItemMetadata> properties = contribution.getProperties();
+		if (properties != null && !properties.isEmpty()) {
+			// Check the duplicates against the properties merged before this contribution
+			boolean[] duplicates = new boolean[properties.size()];
+			for (int i = 0; i < properties.size(); i++) {
+				duplicates[i] = isMerged(properties.get(i));
+			}
+			for (int i = 0; i < properties.size(); i++) {
+				if (!duplicates[i]) {
+					doMerge(copy(properties.get(i)), MergingStrategy.FORCE);
+				}
+			}
+		}
+		List<ItemHint> hints = contribution.getHints();
+		if (hints != null) {
+			for (ItemHint itemHint : hints) {
+				ItemHint existingItemHint = getExistingItemHint(itemHint.getName());
+				if (existingItemHint == null) {
+					addItemHint(copy(itemHint));
+				} else {
+					merge(copy(itemHint).getValues(), existingItemHint, MergingStrategy.IGNORE_IF_EXISTS);
+				}
+			}
+		}
+	}
+
+	private boolean isMerged(ItemMetadata property) {
+		ArrayDeque<ItemMetadata> configProperties = propertiesCache.get(property.getName());
+		if (configProperties == null) {
+			return false;
+		}
+		for (ItemMetadata configProperty : configProperties) {
+			if (isSameProperty(configProperty, property)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isSameProperty(ItemMetadata p1, ItemMetadata p2) {
+		return Objects.equals(p1.getName(), p2.getName()) //
+				&& Objects.equals(p1.getType(), p2.getType()) //
+				&& Objects.equals(p1.getDescription(), p2.getDescription()) //
+				&& Objects.equals(p1.getSourceType(), p2.getSourceType()) //
+				&& Objects.equals(p1.getSourceField(), p2.getSourceField()) //
+				&& Objects.equals(p1.getSourceMethod(), p2.getSourceMethod()) //
+				&& Objects.equals(p1.getDefaultValue(), p2.getDefaultValue()) //
+				&& Objects.equals(p1.getExtensionName(), p2.getExtensionName()) //
+				&& Objects.equals(p1.getSource(), p2.getSource()) //
+				&& p1.getPhase() == p2.getPhase();
+	}
+
+	private static ItemMetadata copy(ItemMetadata property) {
+		return COPY_GSON.fromJson(COPY_GSON.toJsonTree(property), ItemMetadata.class);
+	}
+
+	private static ItemHint copy(ItemHint itemHint) {
+		ItemHint copy = COPY_GSON.fromJson(COPY_GSON.toJsonTree(itemHint), ItemHint.class);
+		if (copy.getValues() == null) {
+			copy.setValues(new ArrayList<>());
+		}
+		return copy;
+	}
+
 	public void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
+		doMerge(property, mergingStrategy);
+		flushRemovedProperties();
+	}
+
+	private void doMerge(ItemMetadata property, MergingStrategy mergingStrategy) {
 		if (onlySources && (property.getSource() == null || !property.getSource())) {
 			// In the case of the scopes is only sources, the property which is a binary
 			// property must not be added.
@@ -128,30 +256,38 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private void mergeWithIgnoreIfExists(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
+		ItemMetadata configProperty = getExistingProperty(property);
+		if (configProperty != null) {
 			return;
 		}
 		addProperty(property);
 	}
 
-	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		Optional<ItemMetadata> configProperty = configProperties.stream()
-				.filter(cp -> cp.getName().equals(property.getName())).findFirst();
-		return configProperty;
+	private ItemMetadata getExistingProperty(ItemMetadata property) {
+		ArrayDeque<ItemMetadata> configProperties = propertiesCache.get(property.getName());
+		return configProperties != null ? configProperties.peekFirst() : null;
 	}
 
 	private void mergeWithReplace(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
-			configuration.getProperties().remove(configProperty.get());
+		ArrayDeque<ItemMetadata> configProperties = propertiesCache.get(property.getName());
+		if (configProperties != null && !configProperties.isEmpty()) {
+			// The removal from the properties list is done in one pass when the merge
+			// is finished, to avoid scanning the list for each replaced property.
+			removedProperties.add(configProperties.pollFirst());
 		}
 		addProperty(property);
 	}
 
 	private void addProperty(ItemMetadata property) {
 		configuration.getProperties().add(property);
+		propertiesCache.computeIfAbsent(property.getName(), k -> new ArrayDeque<>()).addLast(property);
+	}
+
+	private void flushRemovedProperties() {
+		if (!removedProperties.isEmpty()) {
+			configuration.getProperties().removeIf(removedProperties::contains);
+			removedProperties.clear();
+		}
 	}
 
 	// --------------- ItemHint merge
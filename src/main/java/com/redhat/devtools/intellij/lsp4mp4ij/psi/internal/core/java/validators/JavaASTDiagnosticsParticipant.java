@@ -39,11 +39,27 @@ public class JavaASTDiagnosticsParticipant implements IJavaDiagnosticsParticipan
 	public void collectDiagnostics(JavaDiagnosticsContext context) {
 		// Collect the list of JavaASTValidator which are adapted for the current AST
 		// compilation unit to validate.
-		Collection<JavaRecursiveElementVisitor> validators = JavaASTValidatorRegistry.getInstance().getValidators(context);
-		if (!validators.isEmpty()) {
-			// Visit the AST compilation unit and process each validator.
-			PsiFile ast = context.getASTRoot();
-			ast.accept(new MultiASTVisitor(validators));
+		Collection<JavaASTValidator> validators = JavaASTValidatorRegistry.getInstance().getValidators(context);
+		if (validators.isEmpty()) {
+			return;
+		}
+		List<JavaASTValidator> sharedValidators = new ArrayList<>(validators.size());
+		List<JavaRecursiveElementVisitor> walkingValidators = new ArrayList<>();
+		for (JavaASTValidator validator : validators) {
+			if (validator.isVisitingChildren()) {
+				walkingValidators.add(validator);
+			} else {
+				sharedValidators.add(validator);
+			}
+		}
+		PsiFile ast = context.getASTRoot();
+		if (!sharedValidators.isEmpty()) {
+			// Visit the AST compilation unit once and process each validator.
+			ast.accept(new JavaASTValidatorsVisitor(sharedValidators));
+		}
+		if (!walkingValidators.isEmpty()) {
+			// The validators which visit the children themselves walk the AST compilation unit on their own.
+			ast.accept(new MultiASTVisitor(walkingValidators));
 		}
 	}
 
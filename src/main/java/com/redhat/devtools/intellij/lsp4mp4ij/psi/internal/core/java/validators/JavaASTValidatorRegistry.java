@@ -13,7 +13,6 @@
 *******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
 
-import com.intellij.psi.JavaRecursiveElementVisitor;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidatorExtensionPointBean;
@@ -117,8 +116,8 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 		return rule;
 	}
 
-	public Collection<JavaRecursiveElementVisitor> getValidators(JavaDiagnosticsContext context) {
-		List<JavaRecursiveElementVisitor> validators = new ArrayList<>();
+	public Collection<JavaASTValidator> getValidators(JavaDiagnosticsContext context) {
+		List<JavaASTValidator> validators = new ArrayList<>();
 		addValidator(new AnnotationRulesJavaASTValidator(getRules()), context, validators);
 		for (JavaASTValidatorExtensionPointBean ce : validatorsFromClass) {
 			try {
@@ -132,7 +131,7 @@ public class JavaASTValidatorRegistry extends AnnotationValidator {
 	}
 
 	private void addValidator(JavaASTValidator validator, JavaDiagnosticsContext context,
-			List<JavaRecursiveElementVisitor> validators) {
+			List<JavaASTValidator> validators) {
 		validator.initialize(context);
 		if (validator.isAdaptedForDiagnostics(context)) {
 			validators.add(validator);
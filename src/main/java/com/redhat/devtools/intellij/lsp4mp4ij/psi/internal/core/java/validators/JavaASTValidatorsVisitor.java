@@ -0,0 +1,189 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.java.validators;
+
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.psi.JavaRecursiveElementVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierListOwner;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.validators.JavaASTValidator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Java PSI visitor which walks a Java file once and dispatches the class, method, field and annotation events to
+ * the {@link JavaASTValidator}s interested by the visited element.
+ *
+ * <p>
+ * A validator which declares the annotations it validates (see {@link JavaASTValidator#getAnnotationNames()}) is
+ * notified only for those annotations and for the elements annotated with one of them, the other validators are
+ * notified for all elements.
+ * </p>
+ */
+public class JavaASTValidatorsVisitor extends JavaRecursiveElementVisitor {
+
+	private static final Logger LOGGER = Logger.getLogger(JavaASTValidatorsVisitor.class.getName());
+
+	private final List<JavaASTValidator> validators;
+
+	private final List<Collection<String>> annotationNames;
+
+	private final boolean filtered;
+
+	public JavaASTValidatorsVisitor(Collection<JavaASTValidator> validators) {
+		this.validators = new ArrayList<>(validators);
+		this.annotationNames = new ArrayList<>(validators.size());
+		boolean filtered = false;
+		for (JavaASTValidator validator : this.validators) {
+			Collection<String> names = validator.getAnnotationNames();
+			annotationNames.add(names);
+			filtered |= names != null;
+		}
+		this.filtered = filtered;
+	}
+
+	@Override
+	public void visitClass(PsiClass node) {
+		List<JavaASTValidator> interested = getInterestedValidators(node);
+		dispatch(interested, validator -> validator.visitClass(node));
+		super.visitClass(node);
+		dispatch(interested, validator -> validator.endVisitClass(node));
+	}
+
+	@Override
+	public void visitMethod(PsiMethod node) {
+		dispatch(getInterestedValidators(node), validator -> validator.visitMethod(node));
+		super.visitMethod(node);
+	}
+
+	@Override
+	public void visitField(PsiField node) {
+		dispatch(getInterestedValidators(node), validator -> validator.visitField(node));
+		super.visitField(node);
+	}
+
+	@Override
+	public void visitAnnotation(PsiAnnotation node) {
+		List<JavaASTValidator> interested = validators;
+		if (filtered) {
+			String qualifiedName = node.getQualifiedName();
+			interested = new ArrayList<>(validators.size());
+			for (int i = 0; i < validators.size(); i++) {
+				Collection<String> names = annotationNames.get(i);
+				if (names == null || isMatchAnnotation(qualifiedName, names)) {
+					interested.add(validators.get(i));
+				}
+			}
+		}
+		dispatch(interested, validator -> validator.visitAnnotation(node));
+		super.visitAnnotation(node);
+	}
+
+	/**
+	 * Returns the validators which must be notified for the given element.
+	 *
+	 * @param node the class, method or field.
+	 * @return the validators which must be notified for the given element.
+	 */
+	private List<JavaASTValidator> getInterestedValidators(PsiModifierListOwner node) {
+		if (!filtered) {
+			return validators;
+		}
+		List<String> qualifiedNames = null;
+		List<JavaASTValidator> interested = new ArrayList<>(validators.size());
+		for (int i = 0; i < validators.size(); i++) {
+			Collection<String> names = annotationNames.get(i);
+			if (names == null) {
+				interested.add(validators.get(i));
+				continue;
+			}
+			if (qualifiedNames == null) {
+				// Resolve the annotations of the element only once for all the validators
+				qualifiedNames = getAnnotationQualifiedNames(node);
+			}
+			for (String qualifiedName : qualifiedNames) {
+				if (isMatchAnnotation(qualifiedName, names)) {
+					interested.add(validators.get(i));
+					break;
+				}
+			}
+		}
+		return interested;
+	}
+
+	private static List<String> getAnnotationQualifiedNames(PsiModifierListOwner node) {
+		PsiAnnotation[] annotations = node.getAnnotations();
+		if (annotations.length == 0) {
+			return Collections.emptyList();
+		}
+		List<String> qualifiedNames = new ArrayList<>(annotations.length);
+		for (PsiAnnotation annotation : annotations) {
+			String qualifiedName = annotation.getQualifiedName();
+			if (qualifiedName != null) {
+				qualifiedNames.add(qualifiedName);
+			}
+		}
+		return qualifiedNames;
+	}
+
+	/**
+	 * Returns true if the given annotation qualified name matches one of the given annotation names and false
+	 * otherwise (same rule as {@link com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils#isMatchAnnotation}).
+	 */
+	private static boolean isMatchAnnotation(@Nullable String qualifiedName, @NotNull Collection<String> names) {
+		if (qualifiedName == null) {
+			return false;
+		}
+		for (String name : names) {
+			if (name.endsWith(qualifiedName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void dispatch(List<JavaASTValidator> validators, Consumer<JavaASTValidator> event) {
+		if (validators.isEmpty()) {
+			return;
+		}
+		ProgressManager.checkCanceled();
+		for (JavaASTValidator validator : validators) {
+			try {
+				event.accept(validator);
+			} catch (ProcessCanceledException e) {
+				//Since 2024.2 ProcessCanceledException extends CancellationException so we can't use multicatch to keep backward compatibility
+				//TODO delete block when minimum required version is 2024.2
+				throw e;
+			} catch (IndexNotReadyException | CancellationException e) {
+				throw e;
+			} catch (Exception e) {
+				LOGGER.log(Level.WARNING, "Error while visiting node with " + validator.getClass().getName(), e);
+			}
+		}
+	}
+}
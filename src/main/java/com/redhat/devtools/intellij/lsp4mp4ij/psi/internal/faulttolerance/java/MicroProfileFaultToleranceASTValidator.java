@@ -32,9 +32,11 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import java.text.MessageFormat;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -74,6 +76,9 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 
 	private static final String RETRY_WARNING_MESSAGE = "The effective delay may exceed the `maxDuration` member value.";
 
+	private static final List<String> ANNOTATION_NAMES = List.of(FALLBACK_ANNOTATION, ASYNCHRONOUS_ANNOTATION,
+			RETRY_ANNOTATION);
+
 	private final Map<PsiClass, Set<String>> methodsCache;
 
 	private final Set<String> allowedReturnTypesForAsynchronousAnnotation;
@@ -105,6 +110,16 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 		}
 	}
 
+	@Override
+	public Collection<String> getAnnotationNames() {
+		return ANNOTATION_NAMES;
+	}
+
+	@Override
+	public boolean isVisitingChildren() {
+		return false;
+	}
+
 	@Override
 	public void visitMethod(PsiMethod node) {
 			validateMethod(node);
@@ -123,7 +138,6 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 				validateRetryAnnotation(annotation);
 			}
 		}
-		type.acceptChildren(this);
 	}
 
 	/**
@@ -199,6 +199,8 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 
 		private final Set<String> processedAnnotations;
 
+		private IPropertiesCollector collector;
+
 		public MicroProfileFaultToleranceContext(Module javaProject, IPsiUtils utils,
 				DocumentFormat documentFormat) {
 			this.cache = new HashMap<>();
@@ -208,6 +210,24 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 			this.documentFormat = documentFormat;
 		}
 
+		/**
+		 * Set the collector where the properties are generated.
+		 *
+		 * <p>
+		 * The generated properties are tracked per collector: each Java element is collected in its own collector
+		 * to store its contribution in the properties index, and the same properties generated by several
+		 * contributions are merged once (see PropertiesCollector#mergeContribution).
+		 * </p>
+		 *
+		 * @param collector the properties collector.
+		 */
+		public void setCollector(IPropertiesCollector collector) {
+			if (this.collector != collector) {
+				this.collector = collector;
+				processedAnnotations.clear();
+			}
+		}
+
 		public AnnotationInfo getAnnotationInfo(String annotation) {
 			AnnotationInfo info = cache.get(annotation);
 			if (info != null) {
@@ -377,6 +397,7 @@ public class MicroProfileFaultToleranceProvider extends AbstractAnnotationTypeRe
 		}
 		// The java element is method or a class
 		MicroProfileFaultToleranceContext mpftContext = getMicroProfileFaultToleranceContext(context);
+		mpftContext.setCollector(context.getCollector());
 		AnnotationInfo info = mpftContext.getAnnotationInfo(annotationName);
 		if (info != null) {
 			// 1. Collect properties for <annotation>/<list of parameters>
@@ -70,6 +70,11 @@ public class MicroProfileGraphQLASTValidator extends JavaASTValidator {
         return true;
     }
 
+    @Override
+    public boolean isVisitingChildren() {
+        return false;
+    }
+
     @Override
     public void visitMethod(@NotNull PsiMethod node) {
         validateDirectivesOnMethod(node);
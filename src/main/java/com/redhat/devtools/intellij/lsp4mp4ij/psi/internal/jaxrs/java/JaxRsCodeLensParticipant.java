@@ -24,6 +24,7 @@ import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.codelens.JavaCodeLen
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.HttpMethod;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.IJaxRsInfoProvider;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsContext;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsEndpointIndex;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsMethodInfo;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import org.eclipse.lsp4j.CodeLens;
@@ -91,7 +92,8 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 		if (provider == null) {
 			return Collections.emptyList();
 		}
-		List<JaxRsMethodInfo> infos = provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		List<JaxRsMethodInfo> infos = JaxRsEndpointIndex.getInstance(typeRoot.getProject())
+				.getEndpoints(typeRoot, provider, jaxrsContext, utils, monitor);
 
 		MicroProfileJavaCodeLensParams params = context.getParams();
 		return infos.stream() //
@@ -0,0 +1,123 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.jaxrs.java;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiExpressionList;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.definition.IJavaDefinitionParticipant;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.definition.JavaDefinitionContext;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsEndpointIndex;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.JaxRsMethodInfo;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PositionUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
+import org.eclipse.lsp4j.LocationLink;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4mp.commons.MicroProfileDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JAX-RS definition participant to navigate from the path of a REST Assured request (ex : get("/fruits") in a
+ * Quarkus test) to the JAX-RS endpoints of the module which have the same path and HTTP method.
+ */
+public class JaxRsRestAssuredDefinitionParticipant implements IJavaDefinitionParticipant {
+
+	private static final String REST_ASSURED_TYPE = "io.restassured.RestAssured";
+
+	private static final String REST_ASSURED_PACKAGE_PREFIX = "io.restassured.";
+
+	private static final Set<String> HTTP_METHODS = Set.of("get", "head", "post", "put", "delete", "options", "patch");
+
+	@Override
+	public boolean isAdaptedForDefinition(JavaDefinitionContext context) {
+		// Definition is done only if REST Assured is on the classpath
+		Module javaProject = context.getJavaProject();
+		return javaProject != null && PsiTypeUtils.findType(javaProject, REST_ASSURED_TYPE) != null;
+	}
+
+	@Override
+	public List<MicroProfileDefinition> collectDefinitions(JavaDefinitionContext context) {
+		PsiFile typeRoot = context.getTypeRoot();
+		IPsiUtils utils = context.getUtils();
+		Position position = context.getHyperlinkedPosition();
+		int offset = utils.toOffset(typeRoot, position.getLine(), position.getCharacter());
+		PsiLiteralExpression literal = PsiTreeUtil.getParentOfType(typeRoot.findElementAt(offset), PsiLiteralExpression.class);
+		if (literal == null || !(literal.getValue() instanceof String path) || !isRequestPath(literal)) {
+			return null;
+		}
+		PsiMethodCallExpression request = (PsiMethodCallExpression) literal.getParent().getParent();
+		String httpMethod = request.getMethodExpression().getReferenceName();
+
+		// Collect the JAX-RS endpoints of the module with the same path and HTTP method
+		List<JaxRsMethodInfo> endpoints = JaxRsEndpointIndex.getInstance(typeRoot.getProject())
+				.findEndpoints(context.getJavaProject(), path.startsWith("/") ? path : "/" + path, utils,
+						new EmptyProgressIndicator());
+		if (endpoints.isEmpty()) {
+			return null;
+		}
+		TextRange literalRange = literal.getTextRange();
+		Range pathRange = utils.toRange(typeRoot, literalRange.getStartOffset() + 1, literalRange.getLength() - 2);
+		List<MicroProfileDefinition> definitions = new ArrayList<>();
+		for (JaxRsMethodInfo endpoint : endpoints) {
+			if (endpoint.getHttpMethod().name().equalsIgnoreCase(httpMethod)) {
+				PsiMethod method = endpoint.getJavaMethod();
+				Range methodNameRange = PositionUtils.toNameRange(method, utils);
+				MicroProfileDefinition definition = new MicroProfileDefinition();
+				LocationLink location = new LocationLink();
+				definition.setLocation(location);
+				location.setTargetUri(endpoint.getDocumentUri());
+				location.setTargetRange(methodNameRange);
+				location.setTargetSelectionRange(methodNameRange);
+				location.setOriginSelectionRange(pathRange);
+				definitions.add(definition);
+			}
+		}
+		return definitions;
+	}
+
+	/**
+	 * Returns true if the given literal is the path (first argument) of a REST Assured request (ex : get("/fruits"))
+	 * and false otherwise.
+	 */
+	private static boolean isRequestPath(PsiLiteralExpression literal) {
+		PsiElement parent = literal.getParent();
+		if (!(parent instanceof PsiExpressionList arguments)
+				|| !(arguments.getParent() instanceof PsiMethodCallExpression request)) {
+			return false;
+		}
+		PsiExpression[] expressions = arguments.getExpressions();
+		if (expressions.length == 0 || expressions[0] != literal
+				|| !HTTP_METHODS.contains(request.getMethodExpression().getReferenceName())) {
+			return false;
+		}
+		PsiMethod method = request.resolveMethod();
+		PsiClass requestType = method != null ? method.getContainingClass() : null;
+		String requestTypeName = requestType != null ? requestType.getQualifiedName() : null;
+		return requestTypeName != null && requestTypeName.startsWith(REST_ASSURED_PACKAGE_PREFIX);
+	}
+}
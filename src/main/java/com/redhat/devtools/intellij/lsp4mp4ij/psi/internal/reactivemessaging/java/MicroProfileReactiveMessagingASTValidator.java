@@ -23,6 +23,8 @@ import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -56,6 +58,8 @@ public class MicroProfileReactiveMessagingASTValidator extends JavaASTValidator
 
     private static final Logger LOGGER = Logger.getLogger(MicroProfileReactiveMessagingASTValidator.class.getName());
 
+    private static final List<String> ANNOTATION_NAMES = List.of(INCOMING_ANNOTATION, OUTGOING_ANNOTATION);
+
     @Override
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context) {
         Module javaProject = context.getJavaProject();
@@ -64,6 +68,16 @@ public class MicroProfileReactiveMessagingASTValidator extends JavaASTValidator
         return adapted;
     }
 
+    @Override
+    public Collection<String> getAnnotationNames() {
+        return ANNOTATION_NAMES;
+    }
+
+    @Override
+    public boolean isVisitingChildren() {
+        return false;
+    }
+
     @Override
     public void visitAnnotation(PsiAnnotation node) {
         validateIncomingOutgoingAnnotation(node);
@@ -12,16 +12,10 @@
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.restclient.java;
 
 import com.intellij.openapi.module.Module;
-import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiReference;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.search.searches.ReferencesSearch;
-import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.util.Query;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.java.diagnostics.JavaDiagnosticsContext;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
@@ -35,7 +29,6 @@ import org.eclipse.lsp4j.Range;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION;
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION;
@@ -191,32 +184,15 @@ public class MicroProfileRestClientDiagnosticsParticipant implements IJavaDiagno
 			return;
 		}
 
-		final AtomicInteger nbReferences = new AtomicInteger(0);
-		Query<PsiReference> query = ReferencesSearch.search(interfaceType, createSearchScope(context.getJavaProject()));
-		for (PsiReference match : query.findAll()) {
-			// Check if the operation has been cancelled
-			ProgressManager.checkCanceled();
-			PsiField field = PsiTreeUtil.getParentOfType(match.getElement(), PsiField.class);
-			if (field != null) {
-				boolean hasInjectAnnotation = AnnotationUtils.hasAnyAnnotation(field, INJECT_JAVAX_ANNOTATION, INJECT_JAKARTA_ANNOTATION);
-				boolean hasRestClientAnnotation = AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION);
-				if (hasInjectAnnotation && hasRestClientAnnotation) {
-					nbReferences.incrementAndGet();
-				}
-			}
-		}
-
-		if (nbReferences.get() > 0) {
+		int nbReferences = MicroProfileRestClientInjectionIndex.getInstance(interfaceType.getProject())
+				.getInjectionCount(context.getJavaProject(), interfaceType);
+		if (nbReferences > 0) {
 			Range restInterfaceRange = PositionUtils.toNameRange(interfaceType, context.getUtils());
 			context.addDiagnostic("The interface `" + interfaceType.getName()
-							+ "` does not have the @RegisterRestClient annotation. The " + nbReferences.get()
+							+ "` does not have the @RegisterRestClient annotation. The " + nbReferences
 							+ " fields references will not be injected as CDI beans.",
 					restInterfaceRange, MicroProfileRestClientConstants.DIAGNOSTIC_SOURCE,
 					MicroProfileRestClientErrorCode.RegisterRestClientAnnotationMissing);
 		}
 	}
-
-	private static GlobalSearchScope createSearchScope(Module javaProject) {
-		return javaProject.getModuleContentScope();
-	}
 }
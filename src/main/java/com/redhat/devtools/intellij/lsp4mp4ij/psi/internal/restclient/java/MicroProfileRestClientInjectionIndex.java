@@ -0,0 +1,202 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.restclient.java;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.UserDataHolderEx;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTypeElement;
+import com.intellij.psi.search.PsiSearchHelper;
+import com.intellij.psi.search.UsageSearchContext;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.restclient.MicroProfileRestClientConstants.REST_CLIENT_ANNOTATION;
+
+/**
+ * Index, per module, of the number of fields annotated with @Inject and @RestClient which reference a given
+ * interface.
+ *
+ * <p>
+ * Only the Java files of the module which contain the 'RestClient' word (see the word index) are parsed to collect
+ * the injection fields, and the injection fields of a Java file are collected again only when the Java file is
+ * modified. The counts of the module are computed once per Java PSI modification, so that the diagnostics of each
+ * interface don't need to search the references of the interface.
+ * </p>
+ *
+ * <p>
+ * The index of a Java file stores the offsets of the type references of its injection fields (not the resolved
+ * types): the type references are resolved when the counts of the module are computed, so the counts are updated
+ * when the referenced interface is created, renamed or moved without modifying the Java file of the fields.
+ * </p>
+ */
+public class MicroProfileRestClientInjectionIndex {
+
+	private static final String REST_CLIENT_WORD = "RestClient";
+
+	private static final Key<CachedValue<Map<String, Integer>>> INJECTIONS_KEY = Key.create("restclient.injections");
+
+	private static final Key<Map<VirtualFile, FileInjections>> FILE_INJECTIONS_KEY = Key.create("restclient.fileInjections");
+
+	/**
+	 * The offsets of the type references of the injection fields of a Java file.
+	 */
+	private record FileInjections(long modificationStamp, int[] referenceOffsets) {
+	}
+
+	private final Project project;
+
+	public static MicroProfileRestClientInjectionIndex getInstance(@NotNull Project project) {
+		return project.getService(MicroProfileRestClientInjectionIndex.class);
+	}
+
+	public MicroProfileRestClientInjectionIndex(Project project) {
+		this.project = project;
+	}
+
+	/**
+	 * Returns the number of fields of the given module annotated with @Inject and @RestClient which reference the
+	 * given interface.
+	 *
+	 * @param javaProject   the module.
+	 * @param interfaceType the interface.
+	 * @return the number of fields of the given module annotated with @Inject and @RestClient which reference the
+	 * given interface.
+	 */
+	public int getInjectionCount(@NotNull Module javaProject, @NotNull PsiClass interfaceType) {
+		String qualifiedName = interfaceType.getQualifiedName();
+		if (qualifiedName == null) {
+			return 0;
+		}
+		return getInjections(javaProject).getOrDefault(qualifiedName, 0);
+	}
+
+	private @NotNull Map<String, Integer> getInjections(@NotNull Module javaProject) {
+		return CachedValuesManager.getManager(project).getCachedValue(javaProject, INJECTIONS_KEY, () ->
+				CachedValueProvider.Result.create(computeInjections(javaProject),
+						PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE),
+						ProjectRootManager.getInstance(project)), false);
+	}
+
+	private @NotNull Map<String, Integer> computeInjections(@NotNull Module javaProject) {
+		Set<VirtualFile> files = new HashSet<>();
+		PsiSearchHelper.getInstance(project).processCandidateFilesForText(javaProject.getModuleContentScope(),
+				UsageSearchContext.IN_CODE, true, REST_CLIENT_WORD, file -> {
+					files.add(file);
+					return true;
+				});
+
+		Map<VirtualFile, FileInjections> fileInjections = getFileInjections(javaProject);
+		// Remove the Java files which have been deleted or which don't contain the 'RestClient' word anymore
+		fileInjections.keySet().retainAll(files);
+
+		Map<String, Integer> injections = new HashMap<>();
+		PsiManager psiManager = PsiManager.getInstance(project);
+		for (VirtualFile file : files) {
+			ProgressManager.checkCanceled();
+			PsiFile psiFile = file.isValid() ? psiManager.findFile(file) : null;
+			if (!(psiFile instanceof PsiJavaFile)) {
+				continue;
+			}
+			long modificationStamp = psiFile.getModificationStamp();
+			FileInjections injectionsOfFile = fileInjections.get(file);
+			if (injectionsOfFile == null || injectionsOfFile.modificationStamp() != modificationStamp) {
+				injectionsOfFile = new FileInjections(modificationStamp, collectReferenceOffsets(psiFile));
+				fileInjections.put(file, injectionsOfFile);
+			}
+			resolveInjections(psiFile, injectionsOfFile.referenceOffsets(), injections);
+		}
+		return injections;
+	}
+
+	/**
+	 * Resolves the type references at the given offsets of the given Java file and adds their types to the given
+	 * number of injection fields per referenced type.
+	 */
+	private static void resolveInjections(@NotNull PsiFile file, int[] referenceOffsets, Map<String, Integer> injections) {
+		for (int offset : referenceOffsets) {
+			PsiJavaCodeReferenceElement reference = PsiTreeUtil.getParentOfType(file.findElementAt(offset), PsiJavaCodeReferenceElement.class);
+			PsiElement resolved = reference != null ? reference.resolve() : null;
+			if (resolved instanceof PsiClass type && type.getQualifiedName() != null) {
+				injections.merge(type.getQualifiedName(), 1, Integer::sum);
+			}
+		}
+	}
+
+	/**
+	 * Returns the offsets of the type references of the fields annotated with @Inject and @RestClient of the given
+	 * Java file.
+	 */
+	private static int[] collectReferenceOffsets(@NotNull PsiFile file) {
+		List<Integer> referenceOffsets = new ArrayList<>();
+		file.accept(new JavaRecursiveElementWalkingVisitor() {
+
+			@Override
+			public void visitField(@NotNull PsiField field) {
+				super.visitField(field);
+				PsiTypeElement typeElement = field.getTypeElement();
+				if (typeElement == null
+						|| !AnnotationUtils.hasAnyAnnotation(field, INJECT_JAVAX_ANNOTATION, INJECT_JAKARTA_ANNOTATION)
+						|| !AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION)) {
+					return;
+				}
+				for (PsiJavaCodeReferenceElement reference : PsiTreeUtil.findChildrenOfType(typeElement, PsiJavaCodeReferenceElement.class)) {
+					PsiElement nameElement = reference.getReferenceNameElement();
+					if (nameElement != null) {
+						referenceOffsets.add(nameElement.getTextOffset());
+					}
+				}
+			}
+		});
+		return referenceOffsets.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static @NotNull Map<VirtualFile, FileInjections> getFileInjections(@NotNull Module javaProject) {
+		Map<VirtualFile, FileInjections> fileInjections = javaProject.getUserData(FILE_INJECTIONS_KEY);
+		if (fileInjections == null) {
+			fileInjections = new ConcurrentHashMap<>();
+			if (javaProject instanceof UserDataHolderEx holder) {
+				return holder.putUserDataIfAbsent(FILE_INJECTIONS_KEY, fileInjections);
+			}
+			javaProject.putUserData(FILE_INJECTIONS_KEY, fileInjections);
+		}
+		return fileInjections;
+	}
+}
@@ -107,7 +107,10 @@ public class MicroProfileRegisterRestClientProvider extends AbstractAnnotationTy
 		if (psiElement instanceof PsiClass) {
 
 			IPropertiesCollector collector = context.getCollector();
-			if (context.get(MP_REST_ADDED) == null) {
+			// The mp-rest properties are added once per collector: each Java element is collected in its own
+			// collector to store its contribution in the properties index, and the same properties added by
+			// several contributions are merged once (see PropertiesCollector#mergeContribution).
+			if (context.get(MP_REST_ADDED) != collector) {
 
 				// FIXME: move this dynamic properties declaration on MicroProfile LS side.
 				// /mp-rest/url
@@ -153,7 +156,7 @@ public class MicroProfileRegisterRestClientProvider extends AbstractAnnotationTy
 				super.addItemMetadata(collector, MP_REST_CLIENT_CLASS_REFERENCE_TYPE + "/mp-rest/readTimeout", "long",
 						docs, null, null, null, null, null, false);
 
-				context.put(MP_REST_ADDED, Boolean.TRUE);
+				context.put(MP_REST_ADDED, collector);
 			}
 
 			PsiClass type = (PsiClass) psiElement;
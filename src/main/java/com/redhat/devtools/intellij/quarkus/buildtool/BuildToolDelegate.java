@@ -92,6 +92,14 @@ public interface BuildToolDelegate {
     }
 
     static String getDeploymentJarId(@NotNull File file) {
+        if (file.isDirectory()) {
+            // The content of a directory can change without updating its last modified time, don't cache it
+            return loadDeploymentJarId(file);
+        }
+        return DeploymentJarIdCache.getDeploymentJarId(file, BuildToolDelegate::loadDeploymentJarId);
+    }
+
+    private static String loadDeploymentJarId(@NotNull File file) {
         String result = null;
         if (file.isDirectory()) {
             File quarkusFile = new File(file, QUARKUS_EXTENSION_PROPERTIES);
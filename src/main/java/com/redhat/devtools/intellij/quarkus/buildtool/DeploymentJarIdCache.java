@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.buildtool;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache of the Quarkus deployment artifact id declared in the META-INF/quarkus-extension.properties of a dependency JAR.
+ *
+ * <p>
+ * A JAR is identified by its path, its size and its last modified time, so it is opened and parsed only once for all
+ * the modules and the imports which use it.
+ * </p>
+ */
+final class DeploymentJarIdCache {
+
+    private static final Map<String, DeploymentJarId> CACHE = new ConcurrentHashMap<>();
+
+    private static class DeploymentJarId {
+
+        private final long lastModified;
+
+        private final long length;
+
+        private final @Nullable String deploymentId;
+
+        private DeploymentJarId(long lastModified, long length, @Nullable String deploymentId) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.deploymentId = deploymentId;
+        }
+    }
+
+    private DeploymentJarIdCache() {
+    }
+
+    /**
+     * Returns the deployment artifact id of the given JAR file, by using the cache if the JAR has not changed.
+     *
+     * @param jarFile the JAR file.
+     * @param loader  the function which reads the deployment artifact id from the JAR file.
+     * @return the deployment artifact id of the given JAR file and null otherwise.
+     */
+    @Nullable
+    static String getDeploymentJarId(@NotNull File jarFile, @NotNull Function<File, String> loader) {
+        String path = jarFile.getAbsolutePath();
+        long lastModified = jarFile.lastModified();
+        long length = jarFile.length();
+        DeploymentJarId cached = CACHE.get(path);
+        if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+            return cached.deploymentId;
+        }
+        String deploymentId = loader.apply(jarFile);
+        if (lastModified != 0L) {
+            // the file exists
+            CACHE.put(path, new DeploymentJarId(lastModified, length, deploymentId));
+        }
+        return deploymentId;
+    }
+}
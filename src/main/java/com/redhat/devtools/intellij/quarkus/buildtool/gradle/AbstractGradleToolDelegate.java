@@ -65,6 +65,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 public abstract class AbstractGradleToolDelegate implements BuildToolDelegate {
@@ -73,6 +74,28 @@ public abstract class AbstractGradleToolDelegate implements BuildToolDelegate {
 
     private static final String GRADLE_LIBRARY_PREFIX = "Gradle: ";
 
+    /**
+     * Deployment artifacts (binaries and sources) resolved by Gradle, indexed by the set of deployment artifact ids.
+     *
+     * <p>
+     * The modules of a multi-module Gradle project generally use the same Quarkus extensions, in this case the
+     * deployment artifacts are resolved by only one Gradle execution and reused by the other modules (and the next
+     * imports as long as the Quarkus extensions are not updated).
+     * </p>
+     */
+    private static final Map<String, List<ResolvedDeploymentArtifact>> RESOLVED_DEPLOYMENT_ARTIFACTS = new ConcurrentHashMap<>();
+
+    private static final Map<String, Object> RESOLUTION_LOCKS = new ConcurrentHashMap<>();
+
+    /**
+     * Deployment artifact resolved by the Gradle 'listQuarkusDependencies' task.
+     *
+     * @param id   the component identifier (group:artifact:version).
+     * @param file the artifact file path.
+     */
+    private record ResolvedDeploymentArtifact(@NotNull String id, @NotNull String file) {
+    }
+
     private boolean scriptExists(@NotNull Module module) {
         String path = getModuleDirPath(module);
         if (path != null) {
@@ -110,7 +133,8 @@ public abstract class AbstractGradleToolDelegate implements BuildToolDelegate {
     }
 
     /**
-     * Collect all deployment JARs and dependencies including the sources JARs. Will run a specific Gradle task.
+     * Collect all deployment JARs and dependencies including the sources JARs. Will run a specific Gradle task if the
+     * deployment JARs have not been already resolved for the same deployment ids.
      *
      * @param module        the module
      * @param deploymentIds the Maven coordinates of the module deployment JARs
@@ -120,6 +144,54 @@ public abstract class AbstractGradleToolDelegate implements BuildToolDelegate {
     private void processDownload(@NotNull Module module,
                                  @NotNull Set<String> deploymentIds,
                                  @NotNull List<VirtualFile>[] result) throws IOException {
+        String key = getDeploymentArtifactsKey(deploymentIds);
+        List<ResolvedDeploymentArtifact> artifacts;
+        // The modules which are imported at the same time with the same deployment ids wait for the first Gradle execution
+        synchronized (RESOLUTION_LOCKS.computeIfAbsent(key, k -> new Object())) {
+            artifacts = RESOLVED_DEPLOYMENT_ARTIFACTS.get(key);
+            if (artifacts == null || !exists(artifacts)) {
+                artifacts = resolveDeploymentArtifacts(module, deploymentIds);
+                if (!artifacts.isEmpty()) {
+                    RESOLVED_DEPLOYMENT_ARTIFACTS.put(key, artifacts);
+                }
+            }
+        }
+        ModuleRootManager manager = ModuleRootManager.getInstance(module);
+        for (ResolvedDeploymentArtifact artifact : artifacts) {
+            String[] ids = artifact.id().split(":");
+            if (!isDependency(manager, ids[0], ids[1])) {
+                VirtualFile jarFile = getJarFile(artifact.file());
+                if (jarFile != null) {
+                    result[artifact.file().endsWith("sources.jar") ? SOURCES : BINARY].add(jarFile);
+                }
+            }
+        }
+    }
+
+    private @NotNull String getDeploymentArtifactsKey(@NotNull Set<String> deploymentIds) {
+        return getScriptName() + "#" + String.join(",", new TreeSet<>(deploymentIds));
+    }
+
+    private static boolean exists(@NotNull List<ResolvedDeploymentArtifact> artifacts) {
+        for (ResolvedDeploymentArtifact artifact : artifacts) {
+            if (!new File(artifact.file()).exists()) {
+                // The artifact has been removed from the Gradle cache
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolve all deployment JARs and dependencies including the sources JARs with a specific Gradle task.
+     *
+     * @param module        the module
+     * @param deploymentIds the Maven coordinates of the module deployment JARs
+     * @return the resolved deployment artifacts
+     * @throws IOException if an error occurs running Gradle
+     */
+    private List<ResolvedDeploymentArtifact> resolveDeploymentArtifacts(@NotNull Module module,
+                                                                        @NotNull Set<String> deploymentIds) throws IOException {
         Path outputPath = Files.createTempFile(null, ".txt");
         Path customBuildFile = generateCustomGradleBuild(getModuleDirPath(module), outputPath, deploymentIds);
         Path customSettingsFile = generateCustomGradleSettings(getModuleDirPath(module), customBuildFile);
@@ -146,9 +218,10 @@ public abstract class AbstractGradleToolDelegate implements BuildToolDelegate {
 
         };
         try {
-            collectDependencies(module, customSettingsFile, outputPath, result, callback);
+            return collectDependencies(module, customSettingsFile, outputPath, callback);
         } catch (IOException e) {
             LOGGER.warn(e.getLocalizedMessage(), e);
+            return Collections.emptyList();
         } finally {
             Files.delete(outputPath);
         }
@@ -163,15 +236,14 @@ public abstract class AbstractGradleToolDelegate implements BuildToolDelegate {
      *
      * @param module     the module to analyze
      * @param outputPath the file where the result of the specific task is stored
-     * @param result     the list where to place results to
      * @param callback   the callback to call after running the task
+     * @return the resolved deployment artifacts
      * @throws IOException if an error occurs running Gradle
      */
-    private void collectDependencies(@NotNull Module module,
-                                     @NotNull Path customSettingsFile,
-                                     @NotNull Path outputPath,
-                                     @NotNull List<VirtualFile>[] result,
-                                     @NotNull TaskCallback callback) throws IOException {
+    private List<ResolvedDeploymentArtifact> collectDependencies(@NotNull Module module,
+                                                                 @NotNull Path customSettingsFile,
+                                                                 @NotNull Path outputPath,
+                                                                 @NotNull TaskCallback callback) throws IOException {
         try {
             ExternalSystemTaskExecutionSettings executionSettings = new ExternalSystemTaskExecutionSettings();
             executionSettings.setExternalSystemIdString(GradleConstants.SYSTEM_ID.toString());
@@ -181,20 +253,18 @@ public abstract class AbstractGradleToolDelegate implements BuildToolDelegate {
             ExternalSystemUtil.runTask(executionSettings,DefaultRunExecutor.EXECUTOR_ID,
                 module.getProject(),
                 GradleConstants.SYSTEM_ID, callback, ProgressExecutionMode.IN_BACKGROUND_ASYNC, false);
+            List<ResolvedDeploymentArtifact> artifacts = new ArrayList<>();
             try (BufferedReader reader = Files.newBufferedReader(outputPath)) {
                 String id;
 
                 while ((id = reader.readLine()) != null) {
                     String file = reader.readLine();
-                    String[] ids = id.split(":");
-                    if (!isDependency(ModuleRootManager.getInstance(module), ids[0], ids[1]) && file != null) {
-                        VirtualFile jarFile = getJarFile(file);
-                        if (jarFile != null) {
-                            result[file.endsWith("sources.jar") ? SOURCES : BINARY].add(jarFile);
-                        }
+                    if (file != null && id.split(":").length >= 2) {
+                        artifacts.add(new ResolvedDeploymentArtifact(id, file));
                     }
                 }
             }
+            return artifacts;
         } catch (IOException e) {
             throw e;
         } catch (Exception e) {
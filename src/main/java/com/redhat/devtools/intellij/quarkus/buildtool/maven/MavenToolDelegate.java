@@ -10,6 +10,7 @@
  ******************************************************************************/
 package com.redhat.devtools.intellij.quarkus.buildtool.maven;
 
+import com.intellij.concurrency.JobLauncher;
 import com.intellij.execution.RunManager;
 import com.intellij.execution.RunnerAndConfigurationSettings;
 import com.intellij.openapi.application.ReadAction;
@@ -45,12 +46,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.jetbrains.idea.maven.project.MavenEmbeddersManager.FOR_DEPENDENCIES_RESOLVE;
 
 public class MavenToolDelegate implements BuildToolDelegate {
     private static final Logger LOGGER = LoggerFactory.getLogger(MavenToolDelegate.class);
 
+    /**
+     * Deployment artifacts (resolved without their dependencies) stored in the local repository, indexed by
+     * 'groupId:artifactId:version[:classifier]'.
+     */
+    private final Map<String, MavenArtifact> resolvedArtifacts = new ConcurrentHashMap<>();
+
     @Override
     public boolean isValid(Module module) {
         return MavenUtil.isMavenModule(module);
@@ -91,25 +99,34 @@ public class MavenToolDelegate implements BuildToolDelegate {
 
         List<MavenArtifact> dependencies = mavenProject.getDependencies();
         double counter = 80d / 100d / 3d;
-        double i = counter / dependencies.size();
+        double i;
         double p = 0;
 
-        // Step1: searching deployment JAR
-        for (MavenArtifact artifact : dependencies) {
-            progressIndicator.checkCanceled();
-            progressIndicator.setText2("Searching deployment descriptor in '" + artifact.getArtifactId() + "' in Maven project dependencies.");
+        // Step1: searching deployment JAR (the JARs are opened in parallel and the result is cached per JAR)
+        progressIndicator.setText2("Searching deployment descriptor in " + dependencies.size() + " Maven project dependencies.");
+        String[] deploymentIds = new String[dependencies.size()];
+        List<Integer> indexes = new ArrayList<>(dependencies.size());
+        for (int index = 0; index < dependencies.size(); index++) {
+            indexes.add(index);
+        }
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(indexes, progressIndicator, index -> {
+            MavenArtifact artifact = dependencies.get(index);
             if (artifact.getFile() != null) {
-                String deploymentIdStr = BuildToolDelegate.getDeploymentJarId(artifact.getFile());
-                if (deploymentIdStr != null) {
-                    MavenId deploymentId = new MavenId(deploymentIdStr);
-                    if (mavenProject.findDependencies(deploymentId).isEmpty()) {
-                        toDownload.add(deploymentId);
-                    }
+                deploymentIds[index] = BuildToolDelegate.getDeploymentJarId(artifact.getFile());
+            }
+            return true;
+        });
+        for (String deploymentIdStr : deploymentIds) {
+            progressIndicator.checkCanceled();
+            if (deploymentIdStr != null) {
+                MavenId deploymentId = new MavenId(deploymentIdStr);
+                if (mavenProject.findDependencies(deploymentId).isEmpty()) {
+                    toDownload.add(deploymentId);
                 }
             }
-            p += i;
-            progressIndicator.setFraction(p);
         }
+        p += counter;
+        progressIndicator.setFraction(p);
 
         // Step2
         progressIndicator.checkCanceled();
@@ -159,29 +176,35 @@ public class MavenToolDelegate implements BuildToolDelegate {
     private Set<MavenArtifact> resolveDeploymentArtifacts(Module module, MavenProject mavenProject, Set<MavenId> deploymentIds, String classifier, ProgressIndicator progressIndicator) {
         Set<MavenArtifact> deploymentArtifacts = new HashSet<>();
         try {
-            MavenEmbedderWrapper serverWrapper = MavenProjectsManager.getInstance(module.getProject()).getEmbeddersManager().getEmbedder(mavenProject, FOR_DEPENDENCIES_RESOLVE);
-            if (classifier != null) {
-                for (MavenId id : deploymentIds) {
-                    deploymentArtifacts.add(serverWrapper.resolve(new MavenArtifactInfo(id, "jar", classifier), mavenProject.getRemoteRepositories()));
+            MavenEmbedderWrapper serverWrapper = null;
+            List<MavenId> transitiveIds = new ArrayList<>();
+            for (var deploymentId : deploymentIds) {
+                progressIndicator.checkCanceled();
+                if (classifier == null && BuildToolDelegate.shouldResolveArtifactTransitively(deploymentId)) {
+                    // Resolving the deployment artifact and their dependencies, done in one batch below
+                    transitiveIds.add(deploymentId);
+                    continue;
                 }
-            } else {
-                for (var deploymentId : deploymentIds) {
-                    boolean shouldResolveArtifactTransitively = BuildToolDelegate.shouldResolveArtifactTransitively(deploymentId);
-                    progressIndicator.checkCanceled();
-                    progressIndicator.setText2("Resolving " + (shouldResolveArtifactTransitively ? " (Transitively) " : "") + "'" + deploymentId + "'");
-                    if (shouldResolveArtifactTransitively) {
-                        // Resolving the deployment artifact and their dependencies
-                        List<MavenArtifactInfo> infos = List.of(new MavenArtifactInfo(deploymentId, "jar", classifier));
-                        List<MavenArtifact> resolvedArtifacts = serverWrapper.resolveArtifactTransitively(infos, mavenProject.getRemoteRepositories()).mavenResolvedArtifacts;
-                        for (var resolvedArtifact : resolvedArtifacts) {
-                            addDeploymentArtifact(resolvedArtifact, deploymentArtifacts);
-                        }
-                    } else {
-                        // Resolving only the deployment artifact
-                        MavenArtifact resolvedArtifact = serverWrapper.resolve(new MavenArtifactInfo(deploymentId, "jar", classifier), mavenProject.getRemoteRepositories()); //.mavenResolvedArtifacts;
-                        addDeploymentArtifact(resolvedArtifact, deploymentArtifacts);
+                // Resolving only the deployment artifact, the resolved artifacts are stored in the local repository and cached
+                String key = deploymentId.getKey() + (classifier != null ? ":" + classifier : "");
+                MavenArtifact resolvedArtifact = getResolvedArtifact(key);
+                if (resolvedArtifact == null) {
+                    progressIndicator.setText2("Resolving '" + deploymentId + "'" + (classifier != null ? " (" + classifier + ")" : ""));
+                    if (serverWrapper == null) {
+                        serverWrapper = getEmbedder(module, mavenProject);
+                    }
+                    resolvedArtifact = serverWrapper.resolve(new MavenArtifactInfo(deploymentId, "jar", classifier), mavenProject.getRemoteRepositories());
+                    if (resolvedArtifact != null && resolvedArtifact.isResolved()) {
+                        resolvedArtifacts.put(key, resolvedArtifact);
                     }
                 }
+                addDeploymentArtifact(resolvedArtifact, deploymentArtifacts);
+            }
+            if (!transitiveIds.isEmpty()) {
+                if (serverWrapper == null) {
+                    serverWrapper = getEmbedder(module, mavenProject);
+                }
+                resolveArtifactsTransitively(serverWrapper, mavenProject, transitiveIds, deploymentArtifacts, progressIndicator);
             }
         } catch (ProcessCanceledException e) {
             throw e;
@@ -191,6 +214,61 @@ public class MavenToolDelegate implements BuildToolDelegate {
         return deploymentArtifacts;
     }
 
+    /**
+     * Resolves the given deployment artifacts and their dependencies in one batch. When the batch fails (ex : one
+     * artifact cannot be resolved), the artifacts are resolved one by one so that one artifact in error doesn't prevent
+     * the others from being resolved.
+     */
+    private static void resolveArtifactsTransitively(MavenEmbedderWrapper serverWrapper, MavenProject mavenProject, List<MavenId> deploymentIds,
+                                                     Set<MavenArtifact> deploymentArtifacts, ProgressIndicator progressIndicator) {
+        progressIndicator.checkCanceled();
+        progressIndicator.setText2("Resolving (Transitively) " + deploymentIds.size() + " deployment artifacts");
+        try {
+            List<MavenArtifactInfo> infos = deploymentIds.stream()
+                    .map(deploymentId -> new MavenArtifactInfo(deploymentId, "jar", null))
+                    .toList();
+            List<MavenArtifact> resolvedArtifacts = serverWrapper.resolveArtifactTransitively(infos, mavenProject.getRemoteRepositories()).mavenResolvedArtifacts;
+            for (var resolvedArtifact : resolvedArtifacts) {
+                addDeploymentArtifact(resolvedArtifact, deploymentArtifacts);
+            }
+            return;
+        } catch (ProcessCanceledException e) {
+            throw e;
+        } catch (Exception e) {
+            LOGGER.warn("Error while resolving " + deploymentIds.size() + " deployment artifacts in one batch, resolving them one by one", e);
+        }
+        for (var deploymentId : deploymentIds) {
+            progressIndicator.checkCanceled();
+            progressIndicator.setText2("Resolving (Transitively) '" + deploymentId + "'");
+            try {
+                List<MavenArtifactInfo> infos = List.of(new MavenArtifactInfo(deploymentId, "jar", null));
+                List<MavenArtifact> resolvedArtifacts = serverWrapper.resolveArtifactTransitively(infos, mavenProject.getRemoteRepositories()).mavenResolvedArtifacts;
+                for (var resolvedArtifact : resolvedArtifacts) {
+                    addDeploymentArtifact(resolvedArtifact, deploymentArtifacts);
+                }
+            } catch (ProcessCanceledException e) {
+                throw e;
+            } catch (Exception e) {
+                LOGGER.warn("Error while resolving '" + deploymentId + "'", e);
+            }
+        }
+    }
+
+    private static MavenEmbedderWrapper getEmbedder(Module module, MavenProject mavenProject) {
+        return MavenProjectsManager.getInstance(module.getProject()).getEmbeddersManager().getEmbedder(mavenProject, FOR_DEPENDENCIES_RESOLVE);
+    }
+
+    @Nullable
+    private MavenArtifact getResolvedArtifact(String key) {
+        MavenArtifact resolvedArtifact = resolvedArtifacts.get(key);
+        if (resolvedArtifact != null && !resolvedArtifact.getFile().exists()) {
+            // The artifact has been removed from the local repository
+            resolvedArtifacts.remove(key);
+            return null;
+        }
+        return resolvedArtifact;
+    }
+
     private static void addDeploymentArtifact(MavenArtifact resolvedArtifact, Set<MavenArtifact> result) {
         if (resolvedArtifact != null && !result.contains(resolvedArtifact)) {
             result.add(resolvedArtifact);
@@ -16,9 +16,19 @@ import com.intellij.psi.javadoc.PsiDocComment;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 
 public class JavadocContentAccess {
-    private static Reader getHTMLContentReader(PsiMember member, boolean allowInherited, boolean useAttachedJavadoc) {
+
+    /**
+     * Maximum number of characters (Javadoc comments and renderings) kept by the rendering cache.
+     */
+    private static final long MAX_RENDERING_CACHE_WEIGHT = 8 * 1024 * 1024;
+
+    private static final JavadocRenderingCache RENDERING_CACHE = new JavadocRenderingCache(MAX_RENDERING_CACHE_WEIGHT);
+
+    private static String getJavadoc(PsiMember member, boolean allowInherited) {
         PsiDocComment doc = null;
         // Check the Javadoc of the current member
         if (member instanceof PsiDocCommentOwner) {
@@ -28,7 +38,28 @@ public class JavadocContentAccess {
         if (doc == null && allowInherited && member.getNavigationElement() instanceof PsiDocCommentOwner) {
             doc = ((PsiDocCommentOwner) member.getNavigationElement()).getDocComment();
         }
-        return doc == null ? null : new JavaDocCommentReader(doc.getText());
+        return doc == null ? null : doc.getText();
+    }
+
+    private static Reader getRenderedContentReader(PsiMember member, JavadocRenderingCache.Format format) {
+        String javadoc = getJavadoc(member, true);
+        if (javadoc == null) {
+            return null;
+        }
+        String rendering = RENDERING_CACHE.getRendering(javadoc, format, content -> render(content, format));
+        return rendering != null ? new StringReader(rendering) : null;
+    }
+
+    private static String render(String javadoc, JavadocRenderingCache.Format format) {
+        Reader contentReader = new JavaDocCommentReader(javadoc);
+        try {
+            return switch (format) {
+                case MARKDOWN -> new JavaDoc2MarkdownConverter(contentReader).getAsString();
+                case PLAIN_TEXT -> new JavaDoc2PlainTextConverter(contentReader).getAsString();
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -44,15 +75,7 @@ public class JavadocContentAccess {
      *         comment or if no source is available
      */
     public static Reader getMarkdownContentReader(PsiMember member) {
-        Reader contentReader = getHTMLContentReader(member, true, true);
-        if (contentReader != null) {
-            try {
-                return new JavaDoc2MarkdownConverter(contentReader).getAsReader();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-        return null;
+        return getRenderedContentReader(member, JavadocRenderingCache.Format.MARKDOWN);
     }
 
     /**
@@ -67,14 +90,6 @@ public class JavadocContentAccess {
      *         if no source is available
      */
     public static Reader getPlainTextContentReader(PsiMember member) {
-        Reader contentReader = getHTMLContentReader(member, true, true);
-        if (contentReader != null) {
-            try {
-                return new JavaDoc2PlainTextConverter(contentReader).getAsReader();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-        return null;
+        return getRenderedContentReader(member, JavadocRenderingCache.Format.PLAIN_TEXT);
     }
 }
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.javadoc;
+
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the Javadoc rendered in Markdown / plain text, keyed by the Javadoc comment content.
+ *
+ * <p>
+ * The key is the content of the Javadoc comment (and not the member), so the rendering of a source member is
+ * computed again as soon as its Javadoc is modified, and the rendering of a library member (which never changes)
+ * is computed once. The weight of an entry is the number of characters of the Javadoc comment and of its rendering,
+ * the least recently used entries are evicted when the total weight exceeds the maximum weight.
+ * </p>
+ */
+class JavadocRenderingCache {
+
+    enum Format {
+        MARKDOWN,
+        PLAIN_TEXT
+    }
+
+    private record Key(Format format, String javadoc) {
+    }
+
+    private final long maxWeight;
+
+    private final LinkedHashMap<Key, String> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private long weight;
+
+    JavadocRenderingCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Returns the rendering of the given Javadoc comment content in the given format from the cache, and rendered
+     * with the given renderer otherwise.
+     *
+     * @param javadoc  the Javadoc comment content.
+     * @param format   the rendering format.
+     * @param renderer the renderer.
+     * @return the rendering of the given Javadoc comment content in the given format.
+     */
+    String getRendering(String javadoc, Format format, Function<String, String> renderer) {
+        Key key = new Key(format, javadoc);
+        synchronized (this) {
+            String rendering = entries.get(key);
+            if (rendering != null) {
+                return rendering;
+            }
+        }
+        // Render outside the lock, two threads could render the same Javadoc, but the result is the same
+        String rendering = renderer.apply(javadoc);
+        if (rendering != null) {
+            put(key, rendering);
+        }
+        return rendering;
+    }
+
+    private synchronized void put(Key key, String rendering) {
+        long entryWeight = getWeight(key, rendering);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        String old = entries.put(key, rendering);
+        if (old != null) {
+            weight -= getWeight(key, old);
+        }
+        weight += entryWeight;
+        // Evict the least recently used entries
+        Iterator<Map.Entry<Key, String>> it = entries.entrySet().iterator();
+        while (weight > maxWeight && it.hasNext()) {
+            Map.Entry<Key, String> eldest = it.next();
+            weight -= getWeight(eldest.getKey(), eldest.getValue());
+            it.remove();
+        }
+    }
+
+    @TestOnly
+    synchronized int size() {
+        return entries.size();
+    }
+
+    @TestOnly
+    synchronized long getWeight() {
+        return weight;
+    }
+
+    private static long getWeight(Key key, String rendering) {
+        return (long) key.javadoc().length() + rendering.length();
+    }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.lsp;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Manages the project infos computed in partial result mode: the sources properties (fast to compute) are returned
+ * first, and when the complete project info (with the properties of the dependencies) is computed, it is kept and the
+ * language server is notified to request it again.
+ *
+ * <p>
+ * A complete project info is returned for all the requests of the same key until the next classpath or sources change
+ * (see {@link #invalidate()}), so that the request sent by the language server after the notification doesn't start
+ * another computation which would notify the language server again. The complete project infos which are being
+ * computed when a change happens are obsolete: they are cancelled and never notified.
+ * </p>
+ */
+class PartialProjectInfoManager {
+
+    private final Map<String, MicroProfileProjectInfo> completedProjectInfos = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<MicroProfileProjectInfo>> pendingProjectInfos = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the complete project info computed in partial result mode for the given key and null otherwise.
+     *
+     * @param key the key of the project info request (uri, scopes and document format).
+     * @return the complete project info computed in partial result mode for the given key and null otherwise.
+     */
+    @Nullable
+    public MicroProfileProjectInfo getCompletedProjectInfo(@NotNull String key) {
+        return completedProjectInfos.get(key);
+    }
+
+    /**
+     * Returns the sources project info and computes in background the complete project info. When the complete project
+     * info is computed after the sources project info, it is kept and the given notifier is called.
+     *
+     * @param key                the key of the project info request (uri, scopes and document format).
+     * @param projectInfo        the computation of the complete project info.
+     * @param sourcesProjectInfo the computation of the sources project info.
+     * @param notifier           the notifier called with the complete project info when it has been computed after the
+     *                           sources project info.
+     * @return the sources project info, or the complete project info if it is computed first.
+     */
+    @NotNull
+    public CompletableFuture<MicroProfileProjectInfo> computeProjectInfo(@NotNull String key,
+                                                                       @NotNull Supplier<CompletableFuture<MicroProfileProjectInfo>> projectInfo,
+                                                                       @NotNull Supplier<CompletableFuture<MicroProfileProjectInfo>> sourcesProjectInfo,
+                                                                       @NotNull Consumer<MicroProfileProjectInfo> notifier) {
+        CompletableFuture<MicroProfileProjectInfo> fullInfo = projectInfo.get();
+        CompletableFuture<MicroProfileProjectInfo> previousFullInfo = pendingProjectInfos.put(key, fullInfo);
+        if (previousFullInfo != null && previousFullInfo != fullInfo) {
+            // The complete project info of the previous request will never be notified
+            previousFullInfo.cancel(true);
+        }
+        CompletableFuture<MicroProfileProjectInfo> sourcesInfo = sourcesProjectInfo.get();
+
+        CompletableFuture<MicroProfileProjectInfo> result = new CompletableFuture<>();
+        sourcesInfo.whenComplete((info, error) -> {
+            if (error == null) {
+                result.complete(info);
+            }
+        });
+        fullInfo.whenComplete((info, error) -> {
+            // The complete project info is obsolete if it has been cancelled by a classpath / sources change
+            // or replaced by a new request
+            boolean obsolete = !pendingProjectInfos.remove(key, fullInfo);
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else if (!result.complete(info) && !result.isCancelled() && !obsolete) {
+                completedProjectInfos.put(key, info);
+                notifier.accept(info);
+            }
+        });
+        result.whenComplete((info, error) -> {
+            if (result.isCancelled()) {
+                sourcesInfo.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Evicts the complete project infos and cancels the complete project infos which are being computed.
+     */
+    public void invalidate() {
+        completedProjectInfos.clear();
+        List<CompletableFuture<MicroProfileProjectInfo>> pending = new ArrayList<>(pendingProjectInfos.values());
+        pendingProjectInfos.clear();
+        for (CompletableFuture<MicroProfileProjectInfo> projectInfo : pending) {
+            projectInfo.cancel(true);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Disposer;
 import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.registry.Registry;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.profile.ProfileChangeAdapter;
 import com.intellij.util.messages.MessageBusConnection;
@@ -28,6 +29,7 @@ import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.MicroProfilePropertiesIndex;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import com.redhat.devtools.intellij.lsp4mp4ij.settings.MicroProfileInspectionsInfo;
 import com.redhat.devtools.intellij.lsp4mp4ij.settings.UserDefinedMicroProfileSettings;
@@ -59,12 +61,25 @@ public class QuarkusLanguageClient extends IndexAwareLanguageClient implements M
 
     private MicroProfileInspectionsInfo inspectionsInfo;
 
+    /**
+     * Registry key to send the sources properties before the properties of the dependencies.
+     */
+    private static final String PARTIAL_PROJECT_INFO_REGISTRY_KEY = "quarkus.tools.properties.partial.projectInfo";
+
+    /**
+     * Complete project infos computed in partial result mode.
+     */
+    private final PartialProjectInfoManager partialProjectInfos = new PartialProjectInfoManager();
+
     public QuarkusLanguageClient(Project project) {
         super(project);
         // Call Quarkus deployment support here to react on library changed (to evict quarkus deployment cache) before
         // sending an LSP microprofile/propertiesChanged notifications
         Disposer.register(QuarkusPluginDisposable.getInstance(project), this);
         QuarkusDeploymentSupport.getInstance(project);
+        // Call MicroProfile properties index here to evict the properties contributions of changed files / libraries
+        // before sending an LSP microprofile/propertiesChanged notifications
+        MicroProfilePropertiesIndex.getInstance(project);
         connection = project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project));
         connection.subscribe(ClasspathResourceChangedManager.TOPIC, this);
         inspectionsInfo = MicroProfileInspectionsInfo.getMicroProfileInspectionInfo(project);
@@ -121,6 +136,7 @@ public class QuarkusLanguageClient extends IndexAwareLanguageClient implements M
             // The language client has been disposed, ignore changes in libraries
             return;
         }
+        partialProjectInfos.invalidate();
         sendPropertiesChangeEvent(Collections.singletonList(MicroProfilePropertiesScope.dependencies), QuarkusModuleUtil.getModulesURIs(getProject()));
     }
 
@@ -130,6 +146,7 @@ public class QuarkusLanguageClient extends IndexAwareLanguageClient implements M
             // The language client has been disposed, ignore changes in Java source / microprofile-config.properties files
             return;
         }
+        partialProjectInfos.invalidate();
         List<Pair<String, MicroProfilePropertiesScope>> info = sources.stream()
                 .filter(pair -> isJavaFile(pair.getFirst()) || isConfigSource(pair.getFirst()))
                 .map(pair -> Pair.pair(PsiUtilsLSImpl.getProjectURI(pair.getSecond()), getScope(pair.getFirst()))).
@@ -174,6 +191,38 @@ public class QuarkusLanguageClient extends IndexAwareLanguageClient implements M
     }
 
     private CompletableFuture<MicroProfileProjectInfo> internalGetProjectInfo(MicroProfileProjectInfoParams params) {
+        String key = params.getUri() + "#" + params.getScopes() + "#" + params.getDocumentFormat();
+        MicroProfileProjectInfo completedInfo = partialProjectInfos.getCompletedProjectInfo(key);
+        if (completedInfo != null) {
+            // The properties of the dependencies have been computed after sending the sources properties,
+            // the complete project info is kept until the next classpath / sources change
+            return CompletableFuture.completedFuture(completedInfo);
+        }
+        if (!params.getScopes().contains(MicroProfilePropertiesScope.dependencies)
+                || MicroProfilePropertiesScope.isOnlySources(params.getScopes())
+                || !Registry.is(PARTIAL_PROJECT_INFO_REGISTRY_KEY, false)) {
+            return computeProjectInfo(params);
+        }
+
+        // Partial result mode: the LSP microprofile/projectInfo request doesn't support partial results, so
+        // the sources properties (fast to compute) are returned first, and when the properties of the dependencies
+        // are computed, a microprofile/propertiesChanged notification is sent to the language server which
+        // requests again the project info and receives the complete result.
+        MicroProfileProjectInfoParams sourcesParams = new MicroProfileProjectInfoParams();
+        sourcesParams.setUri(params.getUri());
+        sourcesParams.setScopes(MicroProfilePropertiesScope.ONLY_SOURCES);
+        sourcesParams.setDocumentFormat(params.getDocumentFormat());
+        return partialProjectInfos.computeProjectInfo(key,
+                () -> computeProjectInfo(params),
+                () -> computeProjectInfo(sourcesParams),
+                info -> {
+                    if (!isDisposed()) {
+                        sendPropertiesChangeEvent(Collections.singletonList(MicroProfilePropertiesScope.dependencies), Collections.singleton(info.getProjectURI()));
+                    }
+                });
+    }
+
+    private CompletableFuture<MicroProfileProjectInfo> computeProjectInfo(MicroProfileProjectInfoParams params) {
         var coalesceBy = new CoalesceByKey("microprofile/projectInfo", params.getUri(), params.getScopes());
         String filePath = getFilePath(params.getUri());
         return runAsBackground("Computing MicroProfile properties for '" + filePath + "'.", monitor ->
@@ -18,7 +18,7 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.tree.IElementType;
-import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import com.intellij.util.text.ImmutableCharSequence;
 import com.redhat.qute.parser.injection.InjectionDetector;
 import com.redhat.qute.parser.template.scanner.ScannerState;
 import com.redhat.qute.parser.template.scanner.TemplateScanner;
@@ -31,8 +31,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
-import static com.redhat.devtools.intellij.qute.psi.internal.extensions.roq.RoqUtils.isRoqProject;
-
 /**
  * Qute lexer based on the Qute LS scanner to parse Qute template.
  */
@@ -45,16 +43,41 @@ public class QuteLexer extends LexerBase {
     public static final Key<Boolean> FORCE_ALT_EXPR_SYNTAX = Key.create("qute.force.alt.expr.syntax");
 
     public static final List<InjectionDetector> YAML_FRONT_MATTER_DETECTORS = Collections.singletonList(new YamlFrontMatterDetector());
+
+    /**
+     * State of a token which starts in the template content (outside any expression, section, comment, etc): the lexer
+     * can be restarted at the start offset of this token with a new template scanner.
+     */
+    static final int CONTENT_STATE = 0;
+
+    /**
+     * Base of the state of a token which starts inside a template construct (ex : after '{!' of a comment).
+     */
+    private static final int TEMPLATE_STATE = 1;
+
+    /**
+     * Base of the state of a token which is parsed by a sub lexer (expression, start section, language injection).
+     */
+    private static final int SUB_LEXER_STATE = 100;
+
     private final Collection<InjectionDetector> injectors;
     private final Character expressionCommand;
     private IElementType myTokenType;
     private CharSequence myText;
+    /**
+     * Text given to the Qute scanners, shared by the template scanner and all the sub lexers.
+     */
+    private String myScannedText;
 
     private int myTokenStart;
     private int myTokenEnd;
 
     private int myBufferEnd;
     private int myState;
+    /**
+     * State of the template scanner at the start offset of the next token.
+     */
+    private int myScannerState;
 
     private boolean myFailed;
 
@@ -67,11 +90,13 @@ public class QuteLexer extends LexerBase {
     private int startLanguageInjectionOffset;
 
     public QuteLexer(@Nullable VirtualFile file, @NotNull Module module) {
-        this(isRoqProject(module), isAltExprSyntax(file, module));
+        this(QuteSyntaxSettingsManager.getInstance(module.getProject()).isRoqSupport(module),
+                QuteSyntaxSettingsManager.getInstance(module.getProject()).isAltExprSyntax(file, module));
     }
 
     public QuteLexer(@Nullable VirtualFile file, @NotNull Project project) {
-        this(isRoqProject(project), isAltExprSyntax(file, getFirstModule(project)));
+        this(QuteSyntaxSettingsManager.getInstance(project).isRoqSupport(),
+                QuteSyntaxSettingsManager.getInstance(project).isAltExprSyntax(file, getFirstModule(project)));
     }
 
     private static @Nullable Module getFirstModule(@NotNull Project project) {
@@ -79,58 +104,6 @@ public class QuteLexer extends LexerBase {
         return modules != null && modules.length > 0 ? modules[0] : null;
     }
 
-    private static boolean isAltExprSyntax(@Nullable VirtualFile file, @Nullable Module module) {
-        if (file == null && module == null){
-            return false;
-        }
-
-        // Check UserData first (for testing purposes)
-        if (module != null) {
-            Boolean forceAltSyntax = module.getProject().getUserData(FORCE_ALT_EXPR_SYNTAX);
-            if (forceAltSyntax != null && forceAltSyntax) {
-                return true;
-            }
-
-            // Check application.properties
-            var mpProject = PsiMicroProfileProjectManager.getInstance(module.getProject()).getMicroProfileProject(module);
-            if (mpProject.getProperty("quarkus.qute.alt-expr-syntax", "false").equals("true")) {
-                return true;
-            }
-        }
-
-        if (file != null) {
-            // Search for .qute file in parent directories
-            return searchAltExprSyntaxInParent(file);
-        }
-        return false;
-    }
-
-    /**
-     * Searches for a {@code .qute} file in the parent directories of the given file
-     * and checks if {@code alt-expr-syntax=true} is set.
-     *
-     * @param file the template file to start searching from.
-     * @return {@code true} if alt-expr-syntax is enabled in a parent .qute file, {@code false} otherwise.
-     */
-    private static boolean searchAltExprSyntaxInParent(@NotNull VirtualFile file) {
-        VirtualFile parent = file.getParent();
-        while (parent != null) {
-            VirtualFile dotQuteFile = parent.findChild(".qute");
-            if (dotQuteFile != null && dotQuteFile.exists() && !dotQuteFile.isDirectory()) {
-                java.util.Properties props = new java.util.Properties();
-                try (java.io.InputStream is = dotQuteFile.getInputStream()) {
-                    props.load(is);
-                    Object result = props.getOrDefault("alt-expr-syntax", false);
-                    return result instanceof Boolean ? (Boolean) result : Boolean.parseBoolean(result.toString());
-                } catch (java.io.IOException e) {
-                    // Ignore and continue searching in parent directories
-                }
-            }
-            parent = parent.getParent();
-        }
-        return false;
-    }
-
     public QuteLexer() {
         this(true);
     }
@@ -146,17 +119,43 @@ public class QuteLexer extends LexerBase {
 
     @Override
     public void start(@NotNull CharSequence buffer, int startOffset, int endOffset, int initialState) {
+        // The Qute scanners work on a String which is created once and shared by the template scanner and all the
+        // sub lexers. When the lexer is restarted on the same immutable document text, the String is reused.
+        if (myScannedText == null || buffer != myText || !(buffer instanceof ImmutableCharSequence)
+                || endOffset != myScannedText.length()) {
+            myScannedText = toScannedText(buffer, endOffset);
+        }
         myText = buffer;
         myTokenStart = myTokenEnd = startOffset;
         myBufferEnd = endOffset;
+        myState = CONTENT_STATE;
+        myScannerState = CONTENT_STATE;
+        myFailed = false;
         startTagOpenOffset = -1;
         startExpressionOffset = -1;
         startLanguageInjectionOffset = -1;
         currentSubLexer = null;
-        scanner = (TemplateScanner) TemplateScanner.createScanner(buffer.subSequence(0, endOffset).toString(), startOffset, expressionCommand, injectors);
+        scanner = (TemplateScanner) TemplateScanner.createScanner(myScannedText, startOffset, expressionCommand, injectors);
         myTokenType = null;
     }
 
+    private static String toScannedText(@NotNull CharSequence buffer, int endOffset) {
+        if (buffer instanceof String text) {
+            // No copy when the whole text is lexed
+            return endOffset == text.length() ? text : text.substring(0, endOffset);
+        }
+        return buffer.subSequence(0, endOffset).toString();
+    }
+
+    /**
+     * Returns the state of the current token. As the Qute scanners cannot be restarted in a given state,
+     * {@link #CONTENT_STATE} is returned only for tokens which start in the template content, so that the
+     * {@link com.intellij.openapi.editor.ex.util.LexerEditorHighlighter} restarts the lexer (with a new template scanner)
+     * only before those tokens after a document change.
+     *
+     * @return the state of the current token.
+     */
+
     @Override
     public int getState() {
         locateToken();
@@ -207,13 +206,13 @@ public class QuteLexer extends LexerBase {
         try {
             if (startLanguageInjectionOffset != -1 && currentSubLexer == null) {
                 // create a sub lexer to parse content of Qute expression (ex: {|foo.bar(0)|})
-                currentSubLexer = new QuteLexerForLanguageInjection(myText.toString(), scanner, startLanguageInjectionOffset);
+                currentSubLexer = new QuteLexerForLanguageInjection(myScannedText, scanner, startLanguageInjectionOffset);
             } else  if (startExpressionOffset != -1 && currentSubLexer == null) {
                 // create a sub lexer to parse content of Qute expression (ex: {|foo.bar(0)|})
-                currentSubLexer = new QuteLexerForExpression(myText.toString(), scanner, startExpressionOffset);
+                currentSubLexer = new QuteLexerForExpression(myScannedText, scanner, startExpressionOffset);
             } else if (startTagOpenOffset != -1 && currentSubLexer == null) {
                 // create a sub lexer to parse content of Qute start section (ex: {#let |name='foo'|}{/let})
-                currentSubLexer = new QuteLexerForStartTag(myText.toString(), scanner, startTagOpenOffset);
+                currentSubLexer = new QuteLexerForStartTag(myScannedText, scanner, startTagOpenOffset);
             }
             boolean continueToScanTemplate = currentSubLexer == null;
             if (currentSubLexer != null) {
@@ -236,9 +235,11 @@ public class QuteLexer extends LexerBase {
                     startTagOpenOffset = -1;
                     startLanguageInjectionOffset = -1;
                     currentSubLexer = null;
+                    // the template scanner has consumed the end of the expression, section, etc
+                    myScannerState = getStateAsInt(scanner.getScannerState());
                 } else {
                     // collect token from the sub lexer
-                    myState = currentSubLexer.getState();
+                    myState = SUB_LEXER_STATE + currentSubLexer.getState();
                     myTokenEnd = currentSubLexer.getTokenEnd();
                     currentSubLexer.advance();
                 }
@@ -250,7 +251,9 @@ public class QuteLexer extends LexerBase {
                 while (tokenType != TokenType.EOS) {
                     IElementType elementType = getTokenType(tokenType);
                     if (elementType != null) {
-                        myState = getStateAsInt(scanner.getScannerState());
+                        // the state is the state of the template scanner before scanning the token
+                        myState = myScannerState;
+                        myScannerState = getStateAsInt(scanner.getScannerState());
                         myTokenType = elementType;
                         myTokenEnd = scanner.getTokenEnd();
                         if (myTokenType == QuteTokenType.QUTE_START_EXPRESSION) {
@@ -322,7 +325,7 @@ public class QuteLexer extends LexerBase {
     }
 
     static int getStateAsInt(ScannerState state) {
-        return state.ordinal();
+        return state == ScannerState.WithinContent ? CONTENT_STATE : TEMPLATE_STATE + state.ordinal();
     }
 
     @Override
@@ -86,7 +86,7 @@ public class QuteLexerForMethodParameters extends AbstractQuteSubLexer {
                         int endExpressionOffset = scanner.getTokenEnd();
                         myTokenType = null;
                         myTokenEnd = startExpressionOffset;
-                        currentSubLexer = new QuteLexerForExpressionMethodParameter(text.toString(), startExpressionOffset, endExpressionOffset);
+                        currentSubLexer = new QuteLexerForExpressionMethodParameter(text, startExpressionOffset, endExpressionOffset);
                         locateToken();
                         return;
                     }
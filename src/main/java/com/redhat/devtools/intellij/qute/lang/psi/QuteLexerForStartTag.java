@@ -97,7 +97,7 @@ public class QuteLexerForStartTag extends AbstractQuteSubLexer {
                             int endExpressionOffset = scanner.getTokenEnd();
                             myTokenType = null;
                             myTokenEnd = startExpressionOffset;
-                            currentSubLexer = new QuteLexerForExpressionParameter(text.toString(), startExpressionOffset, endExpressionOffset);
+                            currentSubLexer = new QuteLexerForExpressionParameter(text, startExpressionOffset, endExpressionOffset);
                             locateToken();
                             return;
                         }
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.qute.lang.psi;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.util.PathUtil;
+import com.intellij.util.messages.MessageBusConnection;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project.PsiMicroProfileProjectManager;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.redhat.devtools.intellij.qute.psi.internal.extensions.roq.RoqUtils.isRoqProject;
+
+/**
+ * Qute syntax settings (Roq support, alt-expr-syntax) used to create a {@link QuteLexer}.
+ *
+ * <p>
+ * Lexers are created very often by the highlighter and the parser definition, so the settings are computed once and
+ * reused:
+ * <ul>
+ *     <li>per module: the Roq support and the 'quarkus.qute.alt-expr-syntax' property of the application.properties,
+ *     invalidated when libraries, module roots or the 'quarkus.qute.alt-expr-syntax' property change.</li>
+ *     <li>per directory: the 'alt-expr-syntax' declared in a '.qute' file of the directory or of its parent directories,
+ *     invalidated when a '.qute' file is created, updated or deleted, or when a directory is moved or renamed.</li>
+ * </ul>
+ * </p>
+ */
+public class QuteSyntaxSettingsManager implements ClasspathResourceChangedManager.Listener,
+        PsiMicroProfileProjectManager.ConfigPropertiesListener, BulkFileListener, Disposable {
+
+    private static final String ALT_EXPR_SYNTAX_PROPERTY = "quarkus.qute.alt-expr-syntax";
+
+    private static final String DOT_QUTE_FILE_NAME = ".qute";
+
+    private static final Key<CachedValue<ModuleSyntaxSettings>> MODULE_SYNTAX_SETTINGS_KEY = Key.create("qute.moduleSyntaxSettings");
+
+    private static final Key<CachedValue<Boolean>> PROJECT_ROQ_KEY = Key.create("qute.projectRoq");
+
+    private record ModuleSyntaxSettings(boolean roqSupport, boolean altExprSyntax) {
+    }
+
+    private final Project project;
+
+    private final MessageBusConnection connection;
+
+    private final MessageBusConnection appConnection;
+
+    /**
+     * Tracks the changes of libraries and of the 'quarkus.qute.alt-expr-syntax' property.
+     */
+    private final SimpleModificationTracker modificationTracker = new SimpleModificationTracker();
+
+    /**
+     * The alt-expr-syntax declared by the nearest '.qute' file of a directory.
+     */
+    private final Map<VirtualFile, Boolean> directoryAltExprSyntax = new ConcurrentHashMap<>();
+
+    public static QuteSyntaxSettingsManager getInstance(@NotNull Project project) {
+        return project.getService(QuteSyntaxSettingsManager.class);
+    }
+
+    public QuteSyntaxSettingsManager(Project project) {
+        this.project = project;
+        // Create the MicroProfile project manager to be notified of config properties changes
+        PsiMicroProfileProjectManager.getInstance(project);
+        connection = project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, this);
+        connection.subscribe(PsiMicroProfileProjectManager.CONFIG_PROPERTIES_TOPIC, this);
+        appConnection = ApplicationManager.getApplication().getMessageBus().connect(QuarkusPluginDisposable.getInstance(project));
+        appConnection.subscribe(VirtualFileManager.VFS_CHANGES, this);
+    }
+
+    /**
+     * Returns true if the given module is a Roq project and false otherwise.
+     *
+     * @param module the module.
+     * @return true if the given module is a Roq project and false otherwise.
+     */
+    public boolean isRoqSupport(@NotNull Module module) {
+        return getModuleSyntaxSettings(module).roqSupport();
+    }
+
+    /**
+     * Returns true if the project is a Roq project and false otherwise.
+     *
+     * @return true if the project is a Roq project and false otherwise.
+     */
+    public boolean isRoqSupport() {
+        return CachedValuesManager.getManager(project).getCachedValue(project, PROJECT_ROQ_KEY, () ->
+                CachedValueProvider.Result.create(isRoqProject(project), ProjectRootManager.getInstance(project), modificationTracker), false);
+    }
+
+    /**
+     * Returns true if the alt-expr-syntax ('{=...}') must be used to parse the given template file and false otherwise.
+     *
+     * @param file   the template file.
+     * @param module the module of the template file.
+     * @return true if the alt-expr-syntax ('{=...}') must be used to parse the given template file and false otherwise.
+     */
+    public boolean isAltExprSyntax(@Nullable VirtualFile file, @Nullable Module module) {
+        if (file == null && module == null) {
+            return false;
+        }
+
+        if (module != null) {
+            // Check UserData first (for testing purposes)
+            Boolean forceAltSyntax = module.getProject().getUserData(QuteLexer.FORCE_ALT_EXPR_SYNTAX);
+            if (forceAltSyntax != null && forceAltSyntax) {
+                return true;
+            }
+
+            // Check application.properties
+            if (getModuleSyntaxSettings(module).altExprSyntax()) {
+                return true;
+            }
+        }
+
+        if (file != null) {
+            // Search for .qute file in parent directories
+            VirtualFile parent = file.getParent();
+            return parent != null && isAltExprSyntaxInDirectory(parent);
+        }
+        return false;
+    }
+
+    private ModuleSyntaxSettings getModuleSyntaxSettings(@NotNull Module module) {
+        return CachedValuesManager.getManager(module.getProject()).getCachedValue(module, MODULE_SYNTAX_SETTINGS_KEY, () -> {
+            var mpProject = PsiMicroProfileProjectManager.getInstance(module.getProject()).getMicroProfileProject(module);
+            boolean altExprSyntax = mpProject.getProperty(ALT_EXPR_SYNTAX_PROPERTY, "false").equals("true");
+            ModuleSyntaxSettings settings = new ModuleSyntaxSettings(isRoqProject(module), altExprSyntax);
+            return CachedValueProvider.Result.create(settings, ProjectRootManager.getInstance(module.getProject()), modificationTracker);
+        }, false);
+    }
+
+    /**
+     * Returns true if a {@code .qute} file of the given directory or of its parent directories
+     * declares {@code alt-expr-syntax=true} and false otherwise.
+     *
+     * @param directory the directory.
+     * @return true if a {@code .qute} file of the given directory or of its parent directories
+     * declares {@code alt-expr-syntax=true} and false otherwise.
+     */
+    private boolean isAltExprSyntaxInDirectory(@NotNull VirtualFile directory) {
+        Boolean altExprSyntax = directoryAltExprSyntax.get(directory);
+        if (altExprSyntax != null) {
+            return altExprSyntax;
+        }
+        altExprSyntax = loadAltExprSyntax(directory);
+        if (altExprSyntax == null) {
+            // No readable .qute file in the directory, use the parent directory
+            VirtualFile parent = directory.getParent();
+            altExprSyntax = parent != null && isAltExprSyntaxInDirectory(parent);
+        }
+        directoryAltExprSyntax.put(directory, altExprSyntax);
+        return altExprSyntax;
+    }
+
+    @Nullable
+    private static Boolean loadAltExprSyntax(@NotNull VirtualFile directory) {
+        VirtualFile dotQuteFile = directory.findChild(DOT_QUTE_FILE_NAME);
+        if (dotQuteFile != null && dotQuteFile.exists() && !dotQuteFile.isDirectory()) {
+            Properties props = new Properties();
+            try (InputStream is = dotQuteFile.getInputStream()) {
+                props.load(is);
+                Object result = props.getOrDefault("alt-expr-syntax", false);
+                return result instanceof Boolean ? (Boolean) result : Boolean.parseBoolean(result.toString());
+            } catch (IOException e) {
+                // Ignore and continue searching in parent directories
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void librariesChanged() {
+        modificationTracker.incModificationCount();
+    }
+
+    @Override
+    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+        // The 'quarkus.qute.alt-expr-syntax' property changes are tracked with configPropertiesChanged
+    }
+
+    @Override
+    public void configPropertiesChanged(@NotNull Module javaProject, @Nullable Set<String> changedKeys) {
+        if (changedKeys == null || changedKeys.stream()
+                .anyMatch(key -> key.endsWith(ALT_EXPR_SYNTAX_PROPERTY))) {
+            // 'quarkus.qute.alt-expr-syntax' or '%dev.quarkus.qute.alt-expr-syntax', etc has changed
+            modificationTracker.incModificationCount();
+        }
+    }
+
+    @Override
+    public void after(@NotNull List<? extends VFileEvent> events) {
+        if (directoryAltExprSyntax.isEmpty()) {
+            return;
+        }
+        for (VFileEvent event : events) {
+            if (isDotQuteFileEvent(event) || isDirectoryEvent(event)) {
+                directoryAltExprSyntax.clear();
+                return;
+            }
+        }
+    }
+
+    private static boolean isDotQuteFileEvent(@NotNull VFileEvent event) {
+        if (DOT_QUTE_FILE_NAME.equals(PathUtil.getFileName(event.getPath()))) {
+            return true;
+        }
+        // A file has been renamed to / from '.qute'
+        return event instanceof VFilePropertyChangeEvent propertyChangeEvent
+                && propertyChangeEvent.isRename()
+                && DOT_QUTE_FILE_NAME.equals(propertyChangeEvent.getOldValue());
+    }
+
+    private static boolean isDirectoryEvent(@NotNull VFileEvent event) {
+        // A directory has been moved or renamed: the parent directories of its templates have changed
+        boolean moved = event instanceof VFileMoveEvent
+                || (event instanceof VFilePropertyChangeEvent propertyChangeEvent && propertyChangeEvent.isRename());
+        VirtualFile file = event.getFile();
+        return moved && (file == null || file.isDirectory());
+    }
+
+    @Override
+    public void dispose() {
+        connection.disconnect();
+        appConnection.disconnect();
+        directoryAltExprSyntax.clear();
+    }
+}
@@ -27,6 +27,7 @@ import com.redhat.devtools.intellij.qute.psi.internal.template.QuarkusIntegratio
 import com.redhat.devtools.intellij.qute.psi.internal.template.QuteSupportForTemplateGenerateMissingJavaMemberHandler;
 import com.redhat.devtools.intellij.qute.psi.internal.template.TemplateDataSupport;
 import com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype.ResolvedJavaTypeFactoryRegistry;
+import com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype.ResolvedJavaTypeInfoCache;
 import com.redhat.devtools.intellij.qute.psi.utils.PsiQuteProjectUtils;
 import com.redhat.qute.commons.*;
 import com.redhat.qute.commons.binary.BinaryTemplateInfo;
@@ -345,7 +346,9 @@ public class QuteSupportForTemplate {
         }
 
         ValueResolverKind kind = params.getKind();
-        return ResolvedJavaTypeFactoryRegistry.getInstance().create(type, kind, javaProject);
+        return ResolvedJavaTypeInfoCache.getInstance(javaProject.getProject())
+                .getResolvedJavaType(type, kind, javaProject,
+                        () -> ResolvedJavaTypeFactoryRegistry.getInstance().create(type, kind, javaProject));
     }
 
     /**
@@ -27,6 +27,7 @@ import com.redhat.devtools.intellij.qute.psi.utils.*;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.qute.psi.internal.AnnotationLocationSupport;
+import com.redhat.devtools.intellij.qute.psi.internal.template.QuteTemplateFilesIndex;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lsp4j.Range;
 import org.jetbrains.annotations.NotNull;
@@ -64,14 +65,14 @@ public abstract class AbstractQuteTemplateLinkCollector extends JavaRecursiveEle
     protected final PsiFile typeRoot;
     protected final IPsiUtils utils;
     protected final ProgressIndicator monitor;
-    private final @Nullable VirtualFile templatesDir;
-    private final String relativeTemplatesBaseDir;
+    private @Nullable VirtualFile templatesDir;
+    private String relativeTemplatesBaseDir;
     private int levelTypeDecl;
 
     private AnnotationLocationSupport annotationLocationSupport;
 
     private PsiFile compilationUnit;
-    private final String[] suffixes;
+    private String[] suffixes;
 
     public AbstractQuteTemplateLinkCollector(PsiFile typeRoot, IPsiUtils utils, ProgressIndicator monitor) {
         this.typeRoot = typeRoot;
@@ -79,12 +80,33 @@ public abstract class AbstractQuteTemplateLinkCollector extends JavaRecursiveEle
         this.utils = utils;
         this.monitor = monitor;
         this.levelTypeDecl = 0;
-        VirtualFile resourcesDir = findBestResourcesDir(utils.getModule());
-        this.templatesDir = resourcesDir != null ? resourcesDir.findFileByRelativePath(TEMPLATES_FOLDER_NAME) : null;
+    }
+
+    /**
+     * Collects the template links of the Java file from the template links model shared by the Qute codeLens,
+     * diagnostics and document links.
+     *
+     * @see QuteJavaTemplateLinks
+     */
+    public void collect() {
+        for (QuteJavaTemplateLinks.TemplateLink link : QuteJavaTemplateLinks.getTemplateLinks(typeRoot, utils, monitor)) {
+            collectTemplateLink(link.basePath(), link.fieldOrMethod(), link.locationAnnotation(), link.type(),
+                    link.className(), link.fieldOrMethodName(), link.location(), link.templateFile(), link.templatePathInfo());
+        }
+    }
+
+    /**
+     * Initializes the templates folder and the template suffixes of the module when the first template link is found.
+     */
+    private void initializeTemplatesSettings() {
+        if (suffixes != null) {
+            return;
+        }
         var javaProject = utils.getModule();
+        VirtualFile resourcesDir = findBestResourcesDir(javaProject);
+        this.templatesDir = QuteTemplateFilesIndex.getInstance(javaProject.getProject()).getTemplatesDir(javaProject);
         this.relativeTemplatesBaseDir = PsiQuteProjectUtils.getRelativeTemplateBaseDir(javaProject, resourcesDir);
-        var mpProject = PsiMicroProfileProjectManager.getInstance(javaProject.getProject()).getMicroProfileProject(javaProject);
-        String customSuffixes = mpProject.getProperty(QuteConfigConstants.QUARKUS_QUTE_SUFFIXES);
+        String customSuffixes = getCustomSuffixes(javaProject);
         if (StringUtils.isNotBlank(customSuffixes)) {
             this.suffixes = Arrays.stream(customSuffixes.split(","))
                     .map(String::trim)
@@ -96,6 +118,17 @@ public abstract class AbstractQuteTemplateLinkCollector extends JavaRecursiveEle
         }
     }
 
+    /**
+     * Returns the value of the 'quarkus.qute.suffixes' property of the given module.
+     *
+     * @param javaProject the module.
+     * @return the value of the 'quarkus.qute.suffixes' property of the given module.
+     */
+    static @Nullable String getCustomSuffixes(@NotNull Module javaProject) {
+        var mpProject = PsiMicroProfileProjectManager.getInstance(javaProject.getProject()).getMicroProfileProject(javaProject);
+        return mpProject.getProperty(QuteConfigConstants.QUARKUS_QUTE_SUFFIXES);
+    }
+
     /**
      * Support for "Template Fields"
      *
@@ -261,6 +294,7 @@ public abstract class AbstractQuteTemplateLinkCollector extends JavaRecursiveEle
         try {
             String location = locationAnnotation != null && locationAnnotation.getValue() instanceof String ? (String) locationAnnotation.getValue() : null;
             Module project = utils.getModule();
+            initializeTemplatesSettings();
 
             TemplatePathInfo templatePathInfo = location != null
                     ? PsiQuteProjectUtils.getTemplatePath(null, basePath, null, location, ignoreFragment, templateNameStrategy)
@@ -321,17 +355,19 @@ public abstract class AbstractQuteTemplateLinkCollector extends JavaRecursiveEle
         if (templatesDir == null || !templatesDir.exists()) {
             return null;
         }
+        Module module = utils.getModule();
+        QuteTemplateFilesIndex index = QuteTemplateFilesIndex.getInstance(module.getProject());
         if (!discoverSuffix) {
-            return templatesDir.findFileByRelativePath(templateUri);
+            return index.findTemplateFile(module, templatesDir, templateUri);
         }
 
         for (String suffix : suffixes) {
-            VirtualFile templateFile = templatesDir.findFileByRelativePath(templateUri + suffix);
-            if (templateFile != null && templateFile.exists()) {
+            VirtualFile templateFile = index.findTemplateFile(module, templatesDir, templateUri + suffix);
+            if (templateFile != null) {
                 return templateFile;
             }
         }
-        return templatesDir.findFileByRelativePath(templateUri + suffixes[0]);
+        return null;
     }
 
     protected static String getVirtualFileUrl(Module project, String templateFilePath) {
@@ -37,8 +37,7 @@ public class QuarkusIntegrationForQute {
 			return Collections.emptyList();
 		}
 		List<CodeLens> lenses = new ArrayList<>();
-		PsiFile cu = typeRoot;
-		cu.accept(new QuteJavaCodeLensCollector(typeRoot, lenses, utils, monitor));
+		new QuteJavaCodeLensCollector(typeRoot, lenses, utils, monitor).collect();
 		return lenses;
 	}
 
@@ -47,8 +46,7 @@ public class QuarkusIntegrationForQute {
 		if (typeRoot == null || !hasQuteSupport(utils.getModule())) {
 			return;
 		}
-		PsiFile cu = typeRoot;
-		cu.accept(new QuteJavaDiagnosticsCollector(typeRoot, diagnostics, utils, monitor));
+		new QuteJavaDiagnosticsCollector(typeRoot, diagnostics, utils, monitor).collect();
 	}
 
 	public static List<DocumentLink> documentLink(PsiFile typeRoot, IPsiUtils utils,
@@ -57,8 +55,7 @@ public class QuarkusIntegrationForQute {
 			return Collections.emptyList();
 		}
 		List<DocumentLink> links = new ArrayList<>();
-		PsiFile cu = typeRoot;
-		cu.accept(new QuteJavaDocumentLinkCollector(typeRoot, links, utils, monitor));
+		new QuteJavaDocumentLinkCollector(typeRoot, links, utils, monitor).collect();
 		return links;
 	}
 }
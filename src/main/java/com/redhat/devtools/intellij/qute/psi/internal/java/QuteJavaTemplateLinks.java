@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.java;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiLiteralValue;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.qute.psi.utils.TemplatePathInfo;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Template links (@CheckedTemplate methods, template records, Template fields) of a Java file, shared by the Qute
+ * codeLens, diagnostics and document links which are requested together on each change of the Java file.
+ *
+ * <p>
+ * The template links are collected once with a {@link AbstractQuteTemplateLinkCollector} and reused as long as:
+ * <ul>
+ *     <li>the Java file has not been modified (PSI modification stamp).</li>
+ *     <li>no file or folder has been created, deleted, moved or renamed (the template files are searched in the
+ *     templates folder).</li>
+ *     <li>the module roots have not changed (the templates folder is searched in the resources folders).</li>
+ *     <li>the 'quarkus.qute.suffixes' property has not changed.</li>
+ * </ul>
+ * </p>
+ */
+class QuteJavaTemplateLinks {
+
+    private static final Key<QuteJavaTemplateLinks> TEMPLATE_LINKS_KEY = Key.create(QuteJavaTemplateLinks.class.getName());
+
+    /**
+     * A template link collected by the {@link AbstractQuteTemplateLinkCollector}.
+     */
+    record TemplateLink(String basePath, PsiElement fieldOrMethod, PsiLiteralValue locationAnnotation, PsiClass type,
+                        String className, String fieldOrMethodName, String location, VirtualFile templateFile,
+                        TemplatePathInfo templatePathInfo) {
+    }
+
+    private final long modificationStamp;
+
+    private final long vfsStructureModificationCount;
+
+    private final long rootsModificationCount;
+
+    private final @Nullable String customSuffixes;
+
+    private final List<TemplateLink> links;
+
+    private QuteJavaTemplateLinks(long modificationStamp, long vfsStructureModificationCount, long rootsModificationCount,
+                                  @Nullable String customSuffixes, List<TemplateLink> links) {
+        this.modificationStamp = modificationStamp;
+        this.vfsStructureModificationCount = vfsStructureModificationCount;
+        this.rootsModificationCount = rootsModificationCount;
+        this.customSuffixes = customSuffixes;
+        this.links = links;
+    }
+
+    /**
+     * Returns the template links of the given Java file.
+     *
+     * @param typeRoot the Java file.
+     * @param utils    the PSI utilities.
+     * @param monitor  the progress monitor.
+     * @return the template links of the given Java file.
+     */
+    static @NotNull List<TemplateLink> getTemplateLinks(@NotNull PsiFile typeRoot, @NotNull IPsiUtils utils,
+                                                        ProgressIndicator monitor) {
+        Module javaProject = utils.getModule();
+        long modificationStamp = typeRoot.getModificationStamp();
+        long vfsStructureModificationCount = VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS.getModificationCount();
+        long rootsModificationCount = ProjectRootManager.getInstance(javaProject.getProject()).getModificationCount();
+        String customSuffixes = AbstractQuteTemplateLinkCollector.getCustomSuffixes(javaProject);
+
+        QuteJavaTemplateLinks templateLinks = typeRoot.getUserData(TEMPLATE_LINKS_KEY);
+        if (templateLinks != null
+                && templateLinks.modificationStamp == modificationStamp
+                && templateLinks.vfsStructureModificationCount == vfsStructureModificationCount
+                && templateLinks.rootsModificationCount == rootsModificationCount
+                && Objects.equals(templateLinks.customSuffixes, customSuffixes)) {
+            return templateLinks.links;
+        }
+
+        List<TemplateLink> links = new ArrayList<>();
+        typeRoot.accept(new AbstractQuteTemplateLinkCollector(typeRoot, utils, monitor) {
+
+            @Override
+            protected void collectTemplateLink(String basePath, PsiElement fieldOrMethod, PsiLiteralValue locationAnnotation,
+                                               PsiClass type, String className, String fieldOrMethodName, String location,
+                                               VirtualFile templateFile, TemplatePathInfo templatePathInfo) {
+                links.add(new TemplateLink(basePath, fieldOrMethod, locationAnnotation, type, className,
+                        fieldOrMethodName, location, templateFile, templatePathInfo));
+            }
+        });
+        templateLinks = new QuteJavaTemplateLinks(modificationStamp, vfsStructureModificationCount, rootsModificationCount,
+                customSuffixes, Collections.unmodifiableList(links));
+        typeRoot.putUserData(TEMPLATE_LINKS_KEY, templateLinks);
+        return templateLinks.links;
+    }
+}
@@ -15,30 +15,36 @@ import com.intellij.codeInsight.completion.AllClassesGetter;
 import com.intellij.codeInsight.completion.PrefixMatcher;
 import com.intellij.codeInsight.completion.impl.BetterPrefixMatcher;
 import com.intellij.codeInsight.completion.impl.CamelHumpMatcher;
+import com.intellij.lang.java.JavaLanguage;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiPackage;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.search.LocalSearchScope;
-import com.intellij.psi.search.SearchScope;
-import com.intellij.psi.search.searches.AllClassesSearch;
-import com.intellij.util.Query;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.redhat.devtools.intellij.qute.psi.internal.resolver.AbstractTypeResolver;
 import com.redhat.devtools.intellij.qute.psi.utils.PsiTypeUtils;
 import com.redhat.qute.commons.JavaTypeInfo;
 import com.redhat.qute.commons.JavaTypeKind;
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 
 /**
  * Java types search for a given pattern and project Uri.
@@ -49,6 +55,36 @@ public class JavaTypesSearch {
 
     private static final Logger LOGGER = Logger.getLogger(JavaTypesSearch.class.getName());
 
+    /**
+     * Maximum number of classes returned by the search.
+     */
+    static final int MAX_TYPES = 100;
+
+    /**
+     * Maximum number of classes matching the type name collected (and ranked) by the search.
+     */
+    static final int MAX_CANDIDATES = 1000;
+
+    /**
+     * Maximum number of searches cached per module.
+     */
+    private static final int MAX_CACHED_SEARCHES = 32;
+
+    private static final Key<CachedValue<Map<String, ClassesSearch>>> CLASSES_SEARCHES_KEY = Key.create(JavaTypesSearch.class.getName());
+
+    /**
+     * A class matching the type name.
+     */
+    private record ClassMatch(String name, boolean inModule, JavaTypeInfo classInfo) {
+    }
+
+    /**
+     * The classes matching a type name, complete is false when the search has been stopped after
+     * {@link #MAX_CANDIDATES} classes.
+     */
+    private record ClassesSearch(List<ClassMatch> matches, boolean complete) {
+    }
+
     private final Module javaProject;
 
     private final String packageName;
@@ -85,7 +121,7 @@ public class JavaTypesSearch {
     public List<JavaTypeInfo> search(ProgressIndicator monitor) {
         List<JavaTypeInfo> javaTypes = new ArrayList<>();
         PsiPackage packageRoot = collectPackages(packageName, javaProject, javaTypes);
-        collectClassesAndInterfaces(packageRoot, javaTypes);
+        collectClassesAndInterfaces(packageRoot, javaTypes, monitor);
         return javaTypes;
     }
 
@@ -112,39 +148,177 @@ public class JavaTypesSearch {
 
     // ------------- Classes, Interfaces, etc collector
 
-    private void collectClassesAndInterfaces(PsiPackage packageRoot, List<JavaTypeInfo> javaTypes) {
+    private void collectClassesAndInterfaces(PsiPackage packageRoot, List<JavaTypeInfo> javaTypes,
+                                             ProgressIndicator monitor) {
         if (packageRoot != null) {
             // Search classes from the given proper package root.
             PsiClass[] classes = packageRoot.getClasses(scope);
-            for (int i = 0; i < classes.length; i++) {
-                collectClass(classes[i], javaTypes);
+            int count = 0;
+            for (int i = 0; i < classes.length && count < MAX_TYPES; i++) {
+                monitor.checkCanceled();
+                JavaTypeInfo classInfo = createClassInfo(classes[i]);
+                if (classInfo != null) {
+                    javaTypes.add(classInfo);
+                    count++;
+                }
             }
         } else {
+            PrefixMatcher matcher = createMatcher(typeName);
+            PsiClass outerClass = !packageName.isEmpty() && !packageName.equals(typeName) ?
+                    JavaPsiFacade.getInstance(javaProject.getProject()).findClass(packageName, scope) : null;
+            if (outerClass != null) {
+                // Search inner classes from the given outer class
+                // ex : pattern = org.acme.qute.NestedClass.Fo
+                for (PsiClass innerClass : outerClass.getInnerClasses()) {
+                    monitor.checkCanceled();
+                    String name = innerClass.getName();
+                    JavaTypeInfo classInfo = name != null && matcher.prefixMatches(name) ? createClassInfo(innerClass) : null;
+                    if (classInfo != null) {
+                        javaTypes.add(classInfo);
+                    }
+                }
+                return;
+            }
             // Search classes by the name (without the package name)
-            PrefixMatcher matcher = new CamelHumpMatcher(typeName, true);
-            matcher = new BetterPrefixMatcher(matcher, Integer.MIN_VALUE);
-
-            final List<String> existing = new ArrayList<>();
-            AllClassesGetter.processJavaClasses(matcher, javaProject.getProject(), scope,
-                    psiClass -> {
-                        String qName = psiClass.getQualifiedName();
-                        if (qName != null && existing.add(qName)) {
-                            collectClass(psiClass, javaTypes);
-                        }
-                        return true;
-                    });
+            List<ClassMatch> matches = new ArrayList<>(searchClasses(matcher, monitor).matches());
+            // The classes of the module first, then the best matching names
+            matches.sort(Comparator.comparing((ClassMatch match) -> !match.inModule())
+                    .thenComparingInt(match -> -matcher.matchingDegree(match.name()))
+                    .thenComparingInt(match -> match.name().length())
+                    .thenComparing(match -> match.classInfo().getSignature()));
+            for (int i = 0; i < matches.size() && i < MAX_TYPES; i++) {
+                javaTypes.add(matches.get(i).classInfo());
+            }
         }
     }
 
-    private static void collectClass(PsiClass type, List<JavaTypeInfo> javaTypes) {
-        String typeSignature = AbstractTypeResolver.resolveJavaTypeSignature(type);
-        if (typeSignature != null) {
-            JavaTypeInfo classInfo = new JavaTypeInfo();
-            classInfo.setSignature(typeSignature);
-            classInfo.setJavaTypeKind(PsiTypeUtils.getJavaTypeKind(type));
-            javaTypes.add(classInfo);
+    private static PrefixMatcher createMatcher(String typeName) {
+        PrefixMatcher matcher = new CamelHumpMatcher(typeName, true);
+        return new BetterPrefixMatcher(matcher, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the classes of the module and its libraries which match the type name.
+     *
+     * <p>
+     * The last searches of the module are cached until a Java file or the project roots change. When the classes of
+     * a previous search for a prefix of the type name have all been collected (ex : 'Ite' while typing 'Item'), the
+     * classes are filtered from this search instead of processing all the class names of the module again.
+     * </p>
+     */
+    private ClassesSearch searchClasses(PrefixMatcher matcher, ProgressIndicator monitor) {
+        Map<String, ClassesSearch> searches = getClassesSearches(javaProject);
+        ClassesSearch prefixSearch = null;
+        synchronized (searches) {
+            ClassesSearch search = searches.get(typeName);
+            if (search != null) {
+                return search;
+            }
+            String prefix = null;
+            for (Map.Entry<String, ClassesSearch> entry : searches.entrySet()) {
+                String key = entry.getKey();
+                if (entry.getValue().complete() && typeName.startsWith(key)
+                        && (prefix == null || key.length() > prefix.length())) {
+                    prefix = key;
+                    prefixSearch = entry.getValue();
+                }
+            }
+        }
+
+        ClassesSearch search;
+        if (prefixSearch != null) {
+            List<ClassMatch> matches = new ArrayList<>();
+            for (ClassMatch match : prefixSearch.matches()) {
+                if (matcher.prefixMatches(match.name())) {
+                    matches.add(match);
+                }
+            }
+            search = new ClassesSearch(matches, true);
+        } else {
+            search = processClasses(matcher, monitor);
         }
+        synchronized (searches) {
+            searches.put(typeName, search);
+        }
+        return search;
     }
 
+    private ClassesSearch processClasses(PrefixMatcher matcher, ProgressIndicator monitor) {
+        GlobalSearchScope moduleScope = javaProject.getModuleScope();
+        Set<String> existing = new HashSet<>();
+        List<ClassMatch> matches = new ArrayList<>();
+        // Search the classes of the module first, so that they are not ignored when there are too many classes
+        processClasses(matcher, moduleScope, true, existing, matches, monitor);
+        boolean complete = processClasses(matcher, scope.intersectWith(GlobalSearchScope.notScope(moduleScope)),
+                false, existing, matches, monitor);
+        return new ClassesSearch(matches, complete);
+    }
+
+    /**
+     * Collects the classes of the given scope which match the given matcher.
+     *
+     * @return false if the search has been stopped because there are too many classes and true otherwise.
+     */
+    private boolean processClasses(PrefixMatcher matcher, GlobalSearchScope searchScope, boolean inModule,
+                                   Set<String> existing, List<ClassMatch> matches, ProgressIndicator monitor) {
+        if (matches.size() >= MAX_CANDIDATES) {
+            return false;
+        }
+        boolean[] complete = {true};
+        // The class names are processed from the best to the worst matching name
+        AllClassesGetter.processJavaClasses(matcher, javaProject.getProject(), searchScope,
+                psiClass -> {
+                    monitor.checkCanceled();
+                    String qName = psiClass.getQualifiedName();
+                    if (qName != null && existing.add(qName)) {
+                        JavaTypeInfo classInfo = createClassInfo(psiClass);
+                        if (classInfo != null) {
+                            matches.add(new ClassMatch(psiClass.getName(), inModule, classInfo));
+                            if (matches.size() >= MAX_CANDIDATES) {
+                                // Stop the search when there are too many classes
+                                complete[0] = false;
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                });
+        return complete[0];
+    }
 
+    private static Map<String, ClassesSearch> getClassesSearches(Module javaProject) {
+        Project project = javaProject.getProject();
+        return CachedValuesManager.getManager(project).getCachedValue(javaProject, CLASSES_SEARCHES_KEY, () ->
+                CachedValueProvider.Result.create(new LinkedHashMap<String, ClassesSearch>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, ClassesSearch> eldest) {
+                        return size() > MAX_CACHED_SEARCHES;
+                    }
+                }, PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE),
+                        ProjectRootManager.getInstance(project)), false);
+    }
+
+    /**
+     * Returns the classes of the cached search for the given type name and null if the search is not cached.
+     */
+    @TestOnly
+    @Nullable
+    static List<JavaTypeInfo> getCachedClasses(Module javaProject, String typeName) {
+        Map<String, ClassesSearch> searches = getClassesSearches(javaProject);
+        synchronized (searches) {
+            ClassesSearch search = searches.get(typeName);
+            return search != null ? search.matches().stream().map(ClassMatch::classInfo).toList() : null;
+        }
+    }
+
+    private static JavaTypeInfo createClassInfo(PsiClass type) {
+        String typeSignature = AbstractTypeResolver.resolveJavaTypeSignature(type);
+        if (typeSignature == null) {
+            return null;
+        }
+        JavaTypeInfo classInfo = new JavaTypeInfo();
+        classInfo.setSignature(typeSignature);
+        classInfo.setJavaTypeKind(PsiTypeUtils.getJavaTypeKind(type));
+        return classInfo;
+    }
 }
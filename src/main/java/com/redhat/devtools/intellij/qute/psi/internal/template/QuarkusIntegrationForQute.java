@@ -14,7 +14,10 @@ package com.redhat.devtools.intellij.qute.psi.internal.template;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.containers.ContainerUtil;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.qute.psi.internal.template.datamodel.DataModelProviderRegistry;
 import com.redhat.devtools.lsp4ij.LSPIJUtils;
@@ -24,6 +27,7 @@ import com.redhat.qute.commons.binary.BinaryTemplateInfo;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
 import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -58,6 +62,17 @@ public class QuarkusIntegrationForQute {
     private static final String ALT_EXPR_PROPERTY = "alt-expr-syntax";
     private static final Logger LOGGER = Logger.getLogger(QuarkusIntegrationForQute.class.getName());
 
+    /**
+     * The binary templates of a JAR, identified by its timestamp and its size.
+     */
+    private record JarBinaryTemplates(long timeStamp, long length, @Nullable BinaryTemplateInfo info) {
+    }
+
+    /**
+     * The binary templates per JAR path, shared by all the projects which use the same JAR.
+     */
+    private static final Map<String, JarBinaryTemplates> JAR_BINARY_TEMPLATES = ContainerUtil.createConcurrentSoftValueMap();
+
     public static DataModelProject<DataModelTemplate<DataModelParameter>> getDataModelProject(Module javaProject,
                                                                                               IPsiUtils utils,
                                                                                               ProgressIndicator monitor) {
@@ -68,7 +83,8 @@ public class QuarkusIntegrationForQute {
     /**
      * Collect binary templates from all JAR dependencies of the given module.
      * Templates are read from the {@code templates/} entry and its sub-folders
-     * inside each JAR.
+     * inside each JAR. The templates of a JAR are collected once and cached until
+     * the JAR changes.
      *
      * @param javaProject the IntelliJ module.
      * @param monitor     the progress indicator.
@@ -84,7 +100,8 @@ public class QuarkusIntegrationForQute {
                 .getRoots();
 
         for (VirtualFile root : roots) {
-            BinaryTemplateInfo info = collectBinaryTemplates(root);
+            monitor.checkCanceled();
+            BinaryTemplateInfo info = getBinaryTemplates(root);
             if (info != null) {
                 binaryTemplates.add(info);
             }
@@ -92,6 +109,30 @@ public class QuarkusIntegrationForQute {
         return binaryTemplates;
     }
 
+    /**
+     * Returns the binary templates of the given classpath root from the cache when the root is a JAR which has not
+     * changed since the last collect, and collects them otherwise.
+     *
+     * @param root the classpath root VirtualFile.
+     * @return a {@link BinaryTemplateInfo} if templates were found, {@code null} otherwise.
+     */
+    private static BinaryTemplateInfo getBinaryTemplates(VirtualFile root) {
+        VirtualFile jarFile = JarFileSystem.getInstance().getVirtualFileForJar(root);
+        if (jarFile == null) {
+            // Folder library, its templates can change at any time
+            return collectBinaryTemplates(root);
+        }
+        long timeStamp = jarFile.getTimeStamp();
+        long length = jarFile.getLength();
+        String path = jarFile.getPath();
+        JarBinaryTemplates jarTemplates = JAR_BINARY_TEMPLATES.get(path);
+        if (jarTemplates == null || jarTemplates.timeStamp() != timeStamp || jarTemplates.length() != length) {
+            jarTemplates = new JarBinaryTemplates(timeStamp, length, collectBinaryTemplates(root));
+            JAR_BINARY_TEMPLATES.put(path, jarTemplates);
+        }
+        return jarTemplates.info();
+    }
+
     /**
      * Collects binary templates for a single classpath root (JAR).
      *
@@ -147,7 +188,7 @@ public class QuarkusIntegrationForQute {
                     String fileName = child.getName();
                     String path = currentPath.isEmpty() ? fileName : currentPath + "/" + fileName;
                     String uri = toUri(child);
-                    String content = convertStreamToString(child.getInputStream());
+                    String content = VfsUtilCore.loadText(child);
 
                     BinaryTemplate template = new BinaryTemplate();
                     template.setPath(path);
@@ -205,20 +246,6 @@ public class QuarkusIntegrationForQute {
         return false;
     }
 
-    /**
-     * Convert the given {@link InputStream} into a String. The source InputStream
-     * will then be closed.
-     *
-     * @param is the input stream
-     * @return the given input stream in a String.
-     */
-    private static String convertStreamToString(InputStream is) {
-        try (Scanner s = new Scanner(is)) {
-            s.useDelimiter("\\A");
-            return s.hasNext() ? s.next() : "";
-        }
-    }
-
     // see
     // https://github.com/microsoft/vscode-java-dependency/blob/27c306b770c23b1eba1f9a7c3e70d2793baced68/jdtls.ext/com.microsoft.jdtls.ext.core/src/com/microsoft/jdtls/ext/core/ExtUtils.java#L39
 
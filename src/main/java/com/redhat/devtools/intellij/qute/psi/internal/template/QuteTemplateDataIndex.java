@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaRecursiveElementWalkingVisitor;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiMethodCallExpression;
+import com.intellij.psi.PsiNewExpression;
+import com.intellij.psi.PsiParenthesizedExpression;
+import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.PsiSearchHelper;
+import com.intellij.psi.search.UsageSearchContext;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Index of the template#data(name, value) method invocations of the Java files of the project.
+ *
+ * <p>
+ * For each invocation chain (ex : 'hello.data("name", name)', 'Templates.hello().data("age", 12).data("name", name)',
+ * 'new Hello(name).data("age", 12)'), the index stores the references of the chain (ex : 'hello', 'Templates.hello',
+ * 'Hello') by their name. Only the Java files which contain the 'data' word (see the word index) are parsed, and
+ * the invocations of a Java file are collected again only when the Java file is modified, so that collecting the
+ * parameters of a template field or method doesn't need a reference search in the whole project. The references
+ * are stored with their file and offset (and not as PSI elements, to not keep the AST of the Java files in memory),
+ * and they are found and resolved only when the invocations of a given field or method are requested.
+ * </p>
+ */
+public class QuteTemplateDataIndex {
+
+    private static final String DATA_METHOD = "data";
+
+    private static final Key<CachedValue<Map<String, List<ReferenceLocation>>>> DATA_INVOCATIONS_KEY = Key.create(QuteTemplateDataIndex.class.getName());
+
+    /**
+     * The location of a reference of a template#data(name, value) invocation chain.
+     *
+     * @param file              the Java file.
+     * @param modificationStamp the modification stamp of the Java file when the reference has been collected.
+     * @param offset            the offset of the reference name (ex : offset of 'hello' in 'Templates.hello').
+     */
+    private record ReferenceLocation(VirtualFile file, long modificationStamp, int offset) {
+    }
+
+    /**
+     * The offsets of the references (per reference name) of the template#data(name, value) invocation chains of a
+     * Java file.
+     */
+    record FileDataInvocations(long modificationStamp, int invocationsHash, Map<String, int[]> offsets) {
+
+        private boolean isValid(long modificationStamp) {
+            return this.modificationStamp == modificationStamp;
+        }
+    }
+
+    private final Project project;
+
+    private final Map<VirtualFile, FileDataInvocations> fileDataInvocations = new ConcurrentHashMap<>();
+
+    private final AtomicLong modificationCount = new AtomicLong();
+
+    public static QuteTemplateDataIndex getInstance(@NotNull Project project) {
+        return project.getService(QuteTemplateDataIndex.class);
+    }
+
+    public QuteTemplateDataIndex(Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Returns the references to the given field, method or record of the template#data(name, value) invocation
+     * chains of the project.
+     *
+     * @param fieldOrMethod the template field (ex : Template hello;), the method which returns TemplateInstance or
+     *                      the template record.
+     * @return the references to the given field, method or record of the template#data(name, value) invocation
+     * chains of the project.
+     */
+    public @NotNull List<PsiElement> getDataMethodInvocationReferences(@NotNull PsiMember fieldOrMethod) {
+        String name = fieldOrMethod.getName();
+        if (name == null) {
+            return Collections.emptyList();
+        }
+        List<ReferenceLocation> candidates = getDataInvocations().get(name);
+        if (candidates == null) {
+            return Collections.emptyList();
+        }
+        PsiManager psiManager = PsiManager.getInstance(project);
+        List<PsiElement> references = new ArrayList<>();
+        for (ReferenceLocation candidate : candidates) {
+            ProgressManager.checkCanceled();
+            PsiJavaCodeReferenceElement reference = findReference(candidate, psiManager);
+            if (reference != null && reference.isReferenceTo(fieldOrMethod)) {
+                references.add(reference);
+            }
+        }
+        return references;
+    }
+
+    private static @Nullable PsiJavaCodeReferenceElement findReference(@NotNull ReferenceLocation location,
+                                                                       @NotNull PsiManager psiManager) {
+        PsiFile file = location.file().isValid() ? psiManager.findFile(location.file()) : null;
+        if (file == null || file.getModificationStamp() != location.modificationStamp()) {
+            return null;
+        }
+        PsiElement referenceName = file.findElementAt(location.offset());
+        PsiElement parent = referenceName != null ? referenceName.getParent() : null;
+        if (parent instanceof PsiJavaCodeReferenceElement reference && reference.getReferenceNameElement() == referenceName) {
+            return reference;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the modification count of the template#data(name, value) invocations of the project, which changes
+     * when an invocation is added, removed or updated.
+     *
+     * @return the modification count of the template#data(name, value) invocations of the project.
+     */
+    public long getModificationCount() {
+        // Update the index before returning the modification count
+        getDataInvocations();
+        return modificationCount.get();
+    }
+
+    private @NotNull Map<String, List<ReferenceLocation>> getDataInvocations() {
+        return CachedValuesManager.getManager(project).getCachedValue(project, DATA_INVOCATIONS_KEY, () ->
+                CachedValueProvider.Result.create(computeDataInvocations(),
+                        PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE),
+                        ProjectRootManager.getInstance(project)), false);
+    }
+
+    private @NotNull Map<String, List<ReferenceLocation>> computeDataInvocations() {
+        Set<VirtualFile> files = new HashSet<>();
+        PsiSearchHelper.getInstance(project).processCandidateFilesForText(GlobalSearchScope.projectScope(project),
+                UsageSearchContext.IN_CODE, true, DATA_METHOD, file -> {
+                    files.add(file);
+                    return true;
+                });
+
+        // Remove the Java files which have been deleted or which don't contain the 'data' word anymore
+        if (fileDataInvocations.keySet().retainAll(files)) {
+            modificationCount.incrementAndGet();
+        }
+
+        Map<String, List<ReferenceLocation>> invocations = new HashMap<>();
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (VirtualFile file : files) {
+            ProgressManager.checkCanceled();
+            PsiFile psiFile = file.isValid() ? psiManager.findFile(file) : null;
+            if (!(psiFile instanceof PsiJavaFile)) {
+                continue;
+            }
+            long modificationStamp = psiFile.getModificationStamp();
+            FileDataInvocations invocationsOfFile = fileDataInvocations.get(file);
+            if (invocationsOfFile == null || !invocationsOfFile.isValid(modificationStamp)) {
+                FileDataInvocations newInvocationsOfFile = collectDataInvocations(psiFile, modificationStamp);
+                if (invocationsOfFile == null
+                        ? !newInvocationsOfFile.offsets().isEmpty()
+                        : invocationsOfFile.invocationsHash() != newInvocationsOfFile.invocationsHash()) {
+                    modificationCount.incrementAndGet();
+                }
+                invocationsOfFile = newInvocationsOfFile;
+                fileDataInvocations.put(file, invocationsOfFile);
+            }
+            for (Map.Entry<String, int[]> entry : invocationsOfFile.offsets().entrySet()) {
+                List<ReferenceLocation> locations = invocations.computeIfAbsent(entry.getKey(), k -> new ArrayList<>());
+                for (int offset : entry.getValue()) {
+                    locations.add(new ReferenceLocation(file, modificationStamp, offset));
+                }
+            }
+        }
+        return invocations;
+    }
+
+    /**
+     * Returns the references of the template#data(name, value) invocation chains of the given Java file collected by
+     * the last update of the index and null otherwise.
+     *
+     * @param file the Java file.
+     * @return the references of the template#data(name, value) invocation chains of the given Java file collected by
+     * the last update of the index and null otherwise.
+     */
+    @TestOnly
+    @Nullable
+    FileDataInvocations getFileDataInvocations(@NotNull VirtualFile file) {
+        getDataInvocations();
+        return fileDataInvocations.get(file);
+    }
+
+    /**
+     * Collects the references of the template#data(name, value) invocation chains of the given Java file.
+     */
+    private static @NotNull FileDataInvocations collectDataInvocations(@NotNull PsiFile file, long modificationStamp) {
+        Map<String, List<Integer>> references = new HashMap<>();
+        Set<PsiElement> visited = new HashSet<>();
+        int[] invocationsHash = {0};
+        file.accept(new JavaRecursiveElementWalkingVisitor() {
+
+            @Override
+            public void visitMethodCallExpression(@NotNull PsiMethodCallExpression expression) {
+                super.visitMethodCallExpression(expression);
+                if (!DATA_METHOD.equals(expression.getMethodExpression().getReferenceName())) {
+                    return;
+                }
+                invocationsHash[0] = 31 * invocationsHash[0] + expression.getText().hashCode();
+                // Collect the references of the invocation chain
+                // ex : Templates.hello().data("age", 12) -> 'Templates.hello', 'Templates'
+                PsiExpression qualifier = expression.getMethodExpression().getQualifierExpression();
+                while (qualifier != null) {
+                    if (qualifier instanceof PsiParenthesizedExpression parenthesized) {
+                        qualifier = parenthesized.getExpression();
+                    } else if (qualifier instanceof PsiMethodCallExpression methodCall) {
+                        addReference(methodCall.getMethodExpression());
+                        qualifier = methodCall.getMethodExpression().getQualifierExpression();
+                    } else if (qualifier instanceof PsiReferenceExpression reference) {
+                        addReference(reference);
+                        qualifier = reference.getQualifierExpression();
+                    } else {
+                        if (qualifier instanceof PsiNewExpression newExpression) {
+                            addReference(newExpression.getClassReference());
+                        }
+                        qualifier = null;
+                    }
+                }
+            }
+
+            private void addReference(PsiJavaCodeReferenceElement reference) {
+                if (reference == null || !visited.add(reference)) {
+                    return;
+                }
+                String name = reference.getReferenceName();
+                PsiElement referenceName = reference.getReferenceNameElement();
+                if (name != null && referenceName != null) {
+                    references.computeIfAbsent(name, k -> new ArrayList<>()).add(referenceName.getTextRange().getStartOffset());
+                }
+            }
+        });
+        if (references.isEmpty()) {
+            return new FileDataInvocations(modificationStamp, invocationsHash[0], Collections.emptyMap());
+        }
+        Map<String, int[]> offsets = new HashMap<>(references.size());
+        references.forEach((name, nameOffsets) ->
+                offsets.put(name, nameOffsets.stream().mapToInt(Integer::intValue).toArray()));
+        return new FileDataInvocations(modificationStamp, invocationsHash[0], offsets);
+    }
+}
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.VirtualFileVisitor;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.util.messages.MessageBusConnection;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.redhat.devtools.intellij.qute.psi.utils.PsiQuteProjectUtils.TEMPLATES_FOLDER_NAME;
+import static com.redhat.devtools.intellij.qute.psi.utils.PsiQuteProjectUtils.findBestResourcesDir;
+
+/**
+ * Index, per module, of the files of the Qute templates folder (ex : 'src/main/resources/templates') by their path
+ * relative to the templates folder (ex : 'HelloResource/hello.html').
+ *
+ * <p>
+ * The index is built the first time a template file is searched and updated from the VFS events, so that checking
+ * the existence of a template file for each suffix of each template method is a hash lookup instead of a VFS lookup.
+ * The index is rebuilt when the templates folder changes (module roots updated, folder moved or renamed, etc).
+ * </p>
+ */
+public class QuteTemplateFilesIndex implements BulkFileListener, Disposable {
+
+    private static final Key<TemplateFiles> TEMPLATE_FILES_KEY = Key.create(QuteTemplateFilesIndex.class.getName());
+
+    /**
+     * Files of a templates folder.
+     */
+    private static class TemplateFiles {
+
+        private final VirtualFile templatesDir;
+
+        private final String templatesDirPath;
+
+        private final Map<String, VirtualFile> files = new ConcurrentHashMap<>();
+
+        private TemplateFiles(VirtualFile templatesDir) {
+            this.templatesDir = templatesDir;
+            this.templatesDirPath = templatesDir.getPath() + "/";
+            VfsUtilCore.visitChildrenRecursively(templatesDir, new VirtualFileVisitor<Void>() {
+                @Override
+                public boolean visitFile(@NotNull VirtualFile file) {
+                    if (!file.isDirectory()) {
+                        files.put(file.getPath().substring(templatesDirPath.length()), file);
+                    }
+                    return true;
+                }
+            });
+        }
+
+        private boolean isValid(@NotNull VirtualFile templatesDir) {
+            return this.templatesDir.equals(templatesDir) && templatesDirPath.equals(templatesDir.getPath() + "/");
+        }
+
+        private boolean isInTemplatesDir(@NotNull String path) {
+            return path.startsWith(templatesDirPath);
+        }
+
+        /**
+         * Returns true if the given path is the templates folder or one of its parent folders.
+         */
+        private boolean isTemplatesDirOrParent(@NotNull String path) {
+            return templatesDirPath.startsWith(path.endsWith("/") ? path : path + "/");
+        }
+    }
+
+    private final Project project;
+
+    private final MessageBusConnection connection;
+
+    public static QuteTemplateFilesIndex getInstance(@NotNull Project project) {
+        return project.getService(QuteTemplateFilesIndex.class);
+    }
+
+    public QuteTemplateFilesIndex(Project project) {
+        this.project = project;
+        connection = ApplicationManager.getApplication().getMessageBus().connect(QuarkusPluginDisposable.getInstance(project));
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, this);
+    }
+
+    /**
+     * Returns the templates folder (ex : 'src/main/resources/templates') of the given module and null otherwise.
+     *
+     * @param module the module.
+     * @return the templates folder of the given module and null otherwise.
+     */
+    public @Nullable VirtualFile getTemplatesDir(@NotNull Module module) {
+        VirtualFile resourcesDir = findBestResourcesDir(module);
+        VirtualFile templatesDir = resourcesDir != null ? resourcesDir.findChild(TEMPLATES_FOLDER_NAME) : null;
+        return templatesDir != null && templatesDir.isValid() && templatesDir.isDirectory() ? templatesDir : null;
+    }
+
+    /**
+     * Returns the template file of the given module for the given path relative to the templates folder and null otherwise.
+     *
+     * @param module       the module.
+     * @param templatesDir the templates folder of the module.
+     * @param relativePath the template file path relative to the templates folder (ex : 'HelloResource/hello.html').
+     * @return the template file of the given module for the given path relative to the templates folder and null otherwise.
+     */
+    public @Nullable VirtualFile findTemplateFile(@NotNull Module module, @NotNull VirtualFile templatesDir, @NotNull String relativePath) {
+        if (!isNormalized(relativePath)) {
+            // ex : '../foo.html', './foo.html'
+            return templatesDir.findFileByRelativePath(relativePath);
+        }
+        VirtualFile file = getTemplateFiles(module, templatesDir).files.get(relativePath);
+        return file != null && file.isValid() ? file : null;
+    }
+
+    private static boolean isNormalized(@NotNull String relativePath) {
+        return !relativePath.isEmpty()
+                && !relativePath.startsWith("/")
+                && !relativePath.contains("\\")
+                && !relativePath.contains("//")
+                && !relativePath.startsWith("./")
+                && !relativePath.contains("/./")
+                && !relativePath.contains("..");
+    }
+
+    @NotNull
+    private static TemplateFiles getTemplateFiles(@NotNull Module module, @NotNull VirtualFile templatesDir) {
+        TemplateFiles templateFiles = module.getUserData(TEMPLATE_FILES_KEY);
+        if (templateFiles == null || !templateFiles.isValid(templatesDir)) {
+            templateFiles = new TemplateFiles(templatesDir);
+            module.putUserData(TEMPLATE_FILES_KEY, templateFiles);
+        }
+        return templateFiles;
+    }
+
+    /**
+     * Returns the paths, relative to the templates folder, of the template files indexed for the given module and null
+     * if the index has not been built (or has been evicted by a VFS event).
+     */
+    @TestOnly
+    @Nullable
+    Set<String> getIndexedTemplateFiles(@NotNull Module module) {
+        TemplateFiles templateFiles = module.getUserData(TEMPLATE_FILES_KEY);
+        if (templateFiles == null) {
+            return null;
+        }
+        Set<String> paths = new TreeSet<>();
+        templateFiles.files.forEach((path, file) -> {
+            if (file.isValid()) {
+                paths.add(path);
+            }
+        });
+        return paths;
+    }
+
+    /**
+     * Returns the paths, relative to the given templates folder, of the template files collected from scratch.
+     */
+    @TestOnly
+    @NotNull
+    static Set<String> collectTemplateFiles(@NotNull VirtualFile templatesDir) {
+        return new TreeSet<>(new TemplateFiles(templatesDir).files.keySet());
+    }
+
+    @Override
+    public void after(@NotNull List<? extends VFileEvent> events) {
+        if (project.isDisposed()) {
+            return;
+        }
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            TemplateFiles templateFiles = module.getUserData(TEMPLATE_FILES_KEY);
+            if (templateFiles != null) {
+                for (VFileEvent event : events) {
+                    if (!update(templateFiles, event)) {
+                        // The index cannot be updated, it will be rebuilt the next time a template file is searched
+                        module.putUserData(TEMPLATE_FILES_KEY, null);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the given template files with the given VFS event.
+     *
+     * @return false if the template files must be rebuilt and true otherwise.
+     */
+    private static boolean update(@NotNull TemplateFiles templateFiles, @NotNull VFileEvent event) {
+        if (event instanceof VFileContentChangeEvent) {
+            return true;
+        }
+        String path = event.getPath();
+        if (event instanceof VFileMoveEvent moveEvent) {
+            String oldPath = moveEvent.getOldPath();
+            return !(templateFiles.isInTemplatesDir(oldPath) || templateFiles.isTemplatesDirOrParent(oldPath)
+                    || templateFiles.isInTemplatesDir(moveEvent.getNewPath()));
+        }
+        if (event instanceof VFilePropertyChangeEvent propertyChangeEvent) {
+            if (!propertyChangeEvent.isRename()) {
+                return true;
+            }
+            String oldPath = propertyChangeEvent.getOldPath();
+            return !(templateFiles.isInTemplatesDir(oldPath) || templateFiles.isTemplatesDirOrParent(oldPath));
+        }
+        if (templateFiles.isTemplatesDirOrParent(path)) {
+            // The templates folder or one of its parent folders has been created, deleted, etc
+            return false;
+        }
+        if (!templateFiles.isInTemplatesDir(path)) {
+            return true;
+        }
+        if (event instanceof VFileCreateEvent createEvent && !createEvent.isDirectory()) {
+            VirtualFile file = createEvent.getFile();
+            if (file != null) {
+                templateFiles.files.put(path.substring(templateFiles.templatesDirPath.length()), file);
+                return true;
+            }
+            return false;
+        }
+        if (event instanceof VFileDeleteEvent deleteEvent && !deleteEvent.getFile().isDirectory()) {
+            templateFiles.files.remove(path.substring(templateFiles.templatesDirPath.length()));
+            return true;
+        }
+        // A folder has been created, deleted, a file has been copied, etc
+        return false;
+    }
+
+    @Override
+    public void dispose() {
+        connection.disconnect();
+        if (!project.isDisposed()) {
+            for (Module module : ModuleManager.getInstance(project).getModules()) {
+                module.putUserData(TEMPLATE_FILES_KEY, null);
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.redhat.devtools.intellij.qute.psi.internal.template;
 
+import java.util.List;
 import java.util.concurrent.CancellationException;
-import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -9,19 +9,12 @@ import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.IndexNotReadyException;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiField;
 import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiMethodCallExpression;
-import com.intellij.psi.PsiReference;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.search.LocalSearchScope;
-import com.intellij.psi.search.SearchScope;
-import com.intellij.psi.search.searches.ReferencesSearch;
 import com.intellij.psi.util.PsiTreeUtil;
-import com.intellij.psi.util.PsiUtil;
-import com.intellij.util.Processor;
-import com.intellij.util.Query;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.qute.commons.datamodel.DataModelBaseTemplate;
 import org.eclipse.lsp4j.Location;
@@ -67,17 +60,19 @@ public class TemplateDataSupport {
 
     private static void search(PsiMember fieldOrMethod, TemplateDataVisitor visitor, ProgressIndicator monitor) {
         boolean searchInJavaProject = isSearchInJavaProject(fieldOrMethod);
-        SearchScope searchScope = GlobalSearchScope.projectScope(fieldOrMethod.getProject());
-        if (!searchInJavaProject) {
-            searchScope = searchScope.intersectWith(new LocalSearchScope(fieldOrMethod.getContainingClass()));
-        }
-        Query<PsiReference> query = ReferencesSearch.search(fieldOrMethod, searchScope);
-        query.forEach((Processor<? super PsiReference>) psiReference -> {
+        PsiClass containingClass = fieldOrMethod.getContainingClass();
+        List<PsiElement> references = QuteTemplateDataIndex.getInstance(fieldOrMethod.getProject())
+                .getDataMethodInvocationReferences(fieldOrMethod);
+        for (PsiElement reference : references) {
             // Check if the operation has been cancelled
             if (monitor != null) {
                 monitor.checkCanceled();
             }
-            PsiMethodCallExpression methodCall = PsiTreeUtil.getParentOfType(psiReference.getElement(), PsiMethodCallExpression.class);
+            if (!searchInJavaProject && !PsiTreeUtil.isAncestor(containingClass, reference, false)) {
+                // The method invocation must be inside the compilation unit of the field/method
+                continue;
+            }
+            PsiMethodCallExpression methodCall = PsiTreeUtil.getParentOfType(reference, PsiMethodCallExpression.class);
             if (methodCall != null) {
                 PsiMethod method = PsiTreeUtil.getParentOfType(methodCall, PsiMethod.class);
                 if (method != null) {
@@ -85,8 +80,7 @@ public class TemplateDataSupport {
                     methodCall.accept(visitor);
                 }
             }
-            return true; // Continue processing
-        });
+        }
     }
 
     /**
@@ -13,19 +13,30 @@
  *******************************************************************************/
 package com.redhat.devtools.intellij.qute.psi.internal.template.datamodel;
 
+import com.intellij.lang.java.JavaLanguage;
 import com.intellij.openapi.extensions.ExtensionPointName;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.project.IndexNotReadyException;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.UserDataHolderEx;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiReference;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.ProjectScope;
 import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.util.KeyedLazyInstanceEP;
 import com.intellij.util.MergeQuery;
 import com.intellij.util.Query;
 import com.intellij.util.xmlb.annotations.Attribute;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.qute.psi.internal.AbstractQuteExtensionPointRegistry;
+import com.redhat.devtools.intellij.qute.psi.internal.template.QuteTemplateDataIndex;
 import com.redhat.devtools.intellij.qute.psi.template.datamodel.IDataModelProvider;
 import com.redhat.devtools.intellij.qute.psi.template.datamodel.SearchContext;
 import com.redhat.devtools.intellij.qute.psi.utils.PsiQuteProjectUtils;
@@ -34,15 +45,24 @@ import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
 import com.redhat.qute.commons.datamodel.DataModelTemplate;
 import com.redhat.qute.commons.datamodel.resolvers.NamespaceResolverInfo;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverInfo;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -66,6 +86,60 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
     private static final String URL_ATTR = "url";
     private static final DataModelProviderRegistry INSTANCE = new DataModelProviderRegistry();
 
+    private static final Key<Map<VirtualFile, FileDataModel>> FILE_DATA_MODELS_KEY = Key.create(DataModelProviderRegistry.class.getName() + "#fileDataModels");
+
+    private static final Key<LibraryDataModel> LIBRARY_DATA_MODEL_KEY = Key.create(DataModelProviderRegistry.class.getName() + "#libraryDataModel");
+
+    /**
+     * The data model collected from the matches of the libraries, grouped per class file.
+     *
+     * <p>
+     * Only the collected data model is kept (not the PSI of the matches), so the PSI of the libraries can be released.
+     * </p>
+     */
+    private record LibraryDataModel(long rootsModificationCount, long dataInvocationsModificationCount,
+                                    String relativeTemplateBaseDir,
+                                    Map<VirtualFile, DataModelProject<DataModelTemplate<DataModelParameter>>> dataModelPerFile) {
+
+        private boolean isValid(long rootsModificationCount, long dataInvocationsModificationCount,
+                                String relativeTemplateBaseDir) {
+            return this.rootsModificationCount == rootsModificationCount
+                    && this.dataInvocationsModificationCount == dataInvocationsModificationCount
+                    && Objects.equals(this.relativeTemplateBaseDir, relativeTemplateBaseDir);
+        }
+    }
+
+    /**
+     * The data model (templates, value resolvers) collected from the matches of a Java source file.
+     *
+     * <p>
+     * The template URIs are computed with the templates base dir (ex : 'src/main/resources/templates/') which can
+     * change without a change of the module roots (ex : a 'templates' folder is created in another resources
+     * folder), so the data model is collected again when the templates base dir is not the same.
+     * </p>
+     *
+     * <p>
+     * The Java types of the data model of a source file (ex : the type of a template parameter) are resolved against
+     * the other Java types of the module, so the data model of a source file is collected again when any Java PSI has
+     * changed (ex : the type of a template parameter is created).
+     * </p>
+     */
+    private record FileDataModel(long modificationStamp, long rootsModificationCount, long javaModificationCount,
+                                 long dataInvocationsModificationCount, String relativeTemplateBaseDir,
+                                 int matchesCount, DataModelProject<DataModelTemplate<DataModelParameter>> dataModel) {
+
+        private boolean isValid(long modificationStamp, long rootsModificationCount, long javaModificationCount,
+                                long dataInvocationsModificationCount, String relativeTemplateBaseDir,
+                                int matchesCount) {
+            return this.modificationStamp == modificationStamp
+                    && this.rootsModificationCount == rootsModificationCount
+                    && this.javaModificationCount == javaModificationCount
+                    && this.dataInvocationsModificationCount == dataInvocationsModificationCount
+                    && Objects.equals(this.relativeTemplateBaseDir, relativeTemplateBaseDir)
+                    && this.matchesCount == matchesCount;
+        }
+    }
+
 
     private DataModelProviderRegistry() {
         super();
@@ -99,6 +173,17 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
     /**
      * Returns the data model project for the given java project.
      *
+     * <p>
+     * The data model is collected per Java file (source file or class file of a library) and merged. The data model
+     * of a Java file is collected again only when the Java file is modified (or the module roots or the templates base
+     * dir change, or any Java PSI changes for a source file), the data
+     * model of the other Java files is reused from the previous collect. As the parameters of a template can be
+     * collected from the template#data(name, value) invocations of another Java file, all the data model is collected
+     * again when those invocations change. The Java elements of the libraries are searched only when the project
+     * roots (or those invocations or the templates base dir) change, the Java elements of the module sources are
+     * searched for each collect.
+     * </p>
+     *
      * @param javaProject the java project.
      * @param scopes      the scopes used to scan Java classes.
      * @param monitor     the progress monitor.
@@ -108,11 +193,16 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
                                                                                        List<QuteProjectScope> scopes,
                                                                                        IPsiUtils utils,
                                                                                        @NotNull ProgressIndicator monitor) {
+        DataModelProject<DataModelTemplate<DataModelParameter>> project = createDataModelProject();
+        collectDataModel(project, javaProject, scopes, utils, monitor);
+        return project;
+    }
+
+    private static DataModelProject<DataModelTemplate<DataModelParameter>> createDataModelProject() {
         DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<DataModelTemplate<DataModelParameter>>();
         project.setTemplates(new ArrayList<>());
         project.setNamespaceResolverInfos(new HashMap<>());
         project.setValueResolvers(new ArrayList<>());
-        collectDataModel(project, javaProject, scopes, utils, monitor);
         return project;
     }
 
@@ -158,17 +248,22 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
         try {
             //subMonitor.split(5); // give feedback to the user that something is happening
 
-            SearchContext context = new SearchContext(javaProject, project, utils, scopes);
+            // The module sources are searched for each collect, the libraries only when they change
+            GlobalSearchScope searchScope = javaProject.getModuleWithDependenciesAndLibrariesScope(false);
+            GlobalSearchScope librariesScope = ProjectScope.getLibrariesScope(javaProject.getProject());
+            GlobalSearchScope sourcesScope = searchScope.intersectWith(GlobalSearchScope.notScope(librariesScope));
+            SearchContext context = new SearchContext(javaProject, project, utils, scopes, sourcesScope);
             Query<?> pattern = createSearchPattern(context, subMonitor);
             if (pattern != null) {
                 SearchScope scope = createSearchScope(javaProject, scopes, excludeTestCode, subMonitor);
                 // Execute the search
                 try {
                     beginSearch(context, subMonitor);
-                    pattern.forEach((Consumer<Object>) psiMember -> {
-                        mainMonitor.checkCanceled();
-                        collectDataModel(psiMember, context, mainMonitor);
-                    });
+                    // Group the matches per Java file
+                    Map<PsiFile, List<Object>> matchesPerFile = new LinkedHashMap<>();
+                    search(pattern, sourcesScope, matchesPerFile, mainMonitor);
+                    collectDataModel(matchesPerFile, context, mainMonitor);
+                    collectLibraryDataModel(context, searchScope.intersectWith(librariesScope), mainMonitor);
                 } finally {
                     endSearch(context, subMonitor);
                 }
@@ -178,6 +273,63 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
         }
     }
 
+    /**
+     * Groups the matches of the given pattern per Java file.
+     *
+     * <p>
+     * A provider can ignore the search scope of the context (ex : a provider of a third-party plugin which searches
+     * all the project), so the matches stored in a Java file outside the given scope are ignored: they are collected
+     * by the search of the other scope, and not twice.
+     * </p>
+     */
+    private static void search(Query<?> pattern, GlobalSearchScope scope, Map<PsiFile, List<Object>> matchesPerFile,
+                               @NotNull ProgressIndicator monitor) {
+        pattern.forEach((Consumer<Object>) psiMember -> {
+            monitor.checkCanceled();
+            PsiFile file = getContainingFile(psiMember);
+            VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+            if (virtualFile == null || scope.contains(virtualFile)) {
+                matchesPerFile.computeIfAbsent(file, k -> new ArrayList<>()).add(psiMember);
+            }
+        });
+    }
+
+    /**
+     * Collects the data model of the libraries in the data model project of the given context. The libraries are
+     * searched again only when the project roots (and the libraries), the template#data(name, value) invocations or
+     * the templates base dir change.
+     */
+    private void collectLibraryDataModel(SearchContext context, GlobalSearchScope librariesScope,
+                                         @NotNull ProgressIndicator monitor) {
+        Module javaProject = context.getJavaProject();
+        long rootsModificationCount = ProjectRootManager.getInstance(javaProject.getProject()).getModificationCount();
+        long dataInvocationsModificationCount = QuteTemplateDataIndex.getInstance(javaProject.getProject()).getModificationCount();
+        String relativeTemplateBaseDir = context.getRelativeTemplateBaseDir();
+        LibraryDataModel libraryDataModel = javaProject.getUserData(LIBRARY_DATA_MODEL_KEY);
+        if (libraryDataModel == null || !libraryDataModel.isValid(rootsModificationCount,
+                dataInvocationsModificationCount, relativeTemplateBaseDir)) {
+            SearchContext librariesContext = new SearchContext(javaProject, context.getDataModelProject(),
+                    context.getUtils(), context.getScopes(), librariesScope);
+            Map<PsiFile, List<Object>> matchesPerFile = new LinkedHashMap<>();
+            Query<?> pattern = createSearchPattern(librariesContext, monitor);
+            if (pattern != null) {
+                search(pattern, librariesScope, matchesPerFile, monitor);
+            }
+            // The matches which are not stored in a file are collected by the search of the module sources
+            matchesPerFile.remove(null);
+            Map<VirtualFile, DataModelProject<DataModelTemplate<DataModelParameter>>> dataModelPerFile = new LinkedHashMap<>();
+            for (Map.Entry<PsiFile, List<Object>> entry : matchesPerFile.entrySet()) {
+                dataModelPerFile.put(entry.getKey().getVirtualFile(), collectFileDataModel(entry.getValue(), context, monitor));
+            }
+            libraryDataModel = new LibraryDataModel(rootsModificationCount, dataInvocationsModificationCount,
+                    relativeTemplateBaseDir, Collections.unmodifiableMap(dataModelPerFile));
+            javaProject.putUserData(LIBRARY_DATA_MODEL_KEY, libraryDataModel);
+        }
+        for (DataModelProject<DataModelTemplate<DataModelParameter>> dataModel : libraryDataModel.dataModelPerFile().values()) {
+            mergeDataModel(dataModel, context.getDataModelProject());
+        }
+    }
+
     private void beginSearch(SearchContext context, @NotNull ProgressIndicator monitor) {
         for (IDataModelProvider provider : getProviders()) {
             monitor.checkCanceled();
@@ -208,6 +360,108 @@ public class DataModelProviderRegistry extends AbstractQuteExtensionPointRegistr
         return leftPattern;
     }
 
+    private static @Nullable PsiFile getContainingFile(Object match) {
+        PsiElement element = match instanceof PsiReference reference ? reference.getElement() :
+                match instanceof PsiElement psiElement ? psiElement : null;
+        return element != null ? element.getContainingFile() : null;
+    }
+
+    private void collectDataModel(Map<PsiFile, List<Object>> matchesPerFile, SearchContext context,
+                                  @NotNull ProgressIndicator monitor) {
+        Module javaProject = context.getJavaProject();
+        long rootsModificationCount = ProjectRootManager.getInstance(javaProject.getProject()).getModificationCount();
+        long javaModificationCount = PsiModificationTracker.getInstance(javaProject.getProject())
+                .forLanguage(JavaLanguage.INSTANCE).getModificationCount();
+        // The parameters of a template can be collected from the template#data(name, value) invocations of another Java file
+        long dataInvocationsModificationCount = QuteTemplateDataIndex.getInstance(javaProject.getProject()).getModificationCount();
+        String relativeTemplateBaseDir = context.getRelativeTemplateBaseDir();
+        Map<VirtualFile, FileDataModel> fileDataModels = getFileDataModels(javaProject);
+        Set<VirtualFile> matchedFiles = new HashSet<>(matchesPerFile.size());
+        for (Map.Entry<PsiFile, List<Object>> entry : matchesPerFile.entrySet()) {
+            monitor.checkCanceled();
+            PsiFile file = entry.getKey();
+            List<Object> matches = entry.getValue();
+            VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+            if (virtualFile == null) {
+                // The match is not stored in a file, collect it directly in the project data model
+                for (Object match : matches) {
+                    collectDataModel(match, context, monitor);
+                }
+                continue;
+            }
+            matchedFiles.add(virtualFile);
+            long modificationStamp = file.getModificationStamp();
+            FileDataModel fileDataModel = fileDataModels.get(virtualFile);
+            if (fileDataModel == null || !fileDataModel.isValid(modificationStamp, rootsModificationCount,
+                    javaModificationCount, dataInvocationsModificationCount, relativeTemplateBaseDir, matches.size())) {
+                fileDataModel = new FileDataModel(modificationStamp, rootsModificationCount, javaModificationCount,
+                        dataInvocationsModificationCount, relativeTemplateBaseDir, matches.size(),
+                        collectFileDataModel(matches, context, monitor));
+                fileDataModels.put(virtualFile, fileDataModel);
+            }
+            mergeDataModel(fileDataModel.dataModel(), context.getDataModelProject());
+        }
+        // Remove the Java files which don't contribute to the data model anymore
+        fileDataModels.keySet().retainAll(matchedFiles);
+    }
+
+    /**
+     * Returns the data model collected from the given matches of a Java file.
+     */
+    private DataModelProject<DataModelTemplate<DataModelParameter>> collectFileDataModel(List<Object> matches,
+                                                                                        SearchContext context,
+                                                                                        @NotNull ProgressIndicator monitor) {
+        DataModelProject<DataModelTemplate<DataModelParameter>> dataModel = createDataModelProject();
+        SearchContext fileContext = new SearchContext(context.getJavaProject(), dataModel, context.getUtils(), context.getScopes());
+        for (Object match : matches) {
+            monitor.checkCanceled();
+            collectDataModel(match, fileContext, monitor);
+        }
+        return dataModel;
+    }
+
+    private static void mergeDataModel(DataModelProject<DataModelTemplate<DataModelParameter>> from,
+                                       DataModelProject<DataModelTemplate<DataModelParameter>> to) {
+        to.getTemplates().addAll(from.getTemplates());
+        List<ValueResolverInfo> resolvers = to.getValueResolvers();
+        for (ValueResolverInfo resolver : from.getValueResolvers()) {
+            if (!resolvers.contains(resolver)) {
+                resolvers.add(resolver);
+            }
+        }
+        to.getNamespaceResolverInfos().putAll(from.getNamespaceResolverInfos());
+    }
+
+    /**
+     * Returns the data model collected from the matches of the given Java file by the last collect and null otherwise.
+     *
+     * @param javaProject the java project.
+     * @param file        the Java file.
+     * @return the data model collected from the matches of the given Java file by the last collect and null otherwise.
+     */
+    @TestOnly
+    @Nullable
+    DataModelProject<DataModelTemplate<DataModelParameter>> getFileDataModel(@NotNull Module javaProject, @NotNull VirtualFile file) {
+        FileDataModel fileDataModel = getFileDataModels(javaProject).get(file);
+        if (fileDataModel != null) {
+            return fileDataModel.dataModel();
+        }
+        LibraryDataModel libraryDataModel = javaProject.getUserData(LIBRARY_DATA_MODEL_KEY);
+        return libraryDataModel != null ? libraryDataModel.dataModelPerFile().get(file) : null;
+    }
+
+    private static Map<VirtualFile, FileDataModel> getFileDataModels(Module javaProject) {
+        Map<VirtualFile, FileDataModel> fileDataModels = javaProject.getUserData(FILE_DATA_MODELS_KEY);
+        if (fileDataModels == null) {
+            fileDataModels = new ConcurrentHashMap<>();
+            if (javaProject instanceof UserDataHolderEx holder) {
+                return holder.putUserDataIfAbsent(FILE_DATA_MODELS_KEY, fileDataModels);
+            }
+            javaProject.putUserData(FILE_DATA_MODELS_KEY, fileDataModels);
+        }
+        return fileDataModels;
+    }
+
     private void collectDataModel(Object match, SearchContext context, @NotNull ProgressIndicator monitor) {
         for (IDataModelProvider provider : getProviders()) {
             try {
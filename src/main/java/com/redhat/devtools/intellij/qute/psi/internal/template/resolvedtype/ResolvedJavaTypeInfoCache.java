@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template.resolvedtype;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.UserDataHolderEx;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.messages.MessageBusConnection;
+import com.redhat.devtools.intellij.lsp4mp4ij.classpath.ClasspathResourceChangedManager;
+import com.redhat.devtools.intellij.quarkus.QuarkusPluginDisposable;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverKind;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache, per module, of the {@link ResolvedJavaTypeInfo} created by the {@link ResolvedJavaTypeFactoryRegistry} for a
+ * given Java type and {@link ValueResolverKind}.
+ *
+ * <p>
+ * A template validation resolves the same Java types (ex : java.util.List, java.lang.String) again and again, and
+ * creating a {@link ResolvedJavaTypeInfo} walks all the fields, record components and methods of the type and resolves
+ * their signatures. The resolved types are reused as long as:
+ * <ul>
+ *     <li>no library has changed for binary types (see {@link ClasspathResourceChangedManager.Listener#librariesChanged()}).</li>
+ *     <li>no Java PSI has changed for source types (see {@link PsiModificationTracker#forLanguage(com.intellij.lang.Language)}),
+ *     because the signatures of the members are resolved with the other types of the module.</li>
+ * </ul>
+ * </p>
+ */
+public class ResolvedJavaTypeInfoCache implements ClasspathResourceChangedManager.Listener, Disposable {
+
+    private static final Key<Map<String, CachedResolvedJavaType>> RESOLVED_JAVA_TYPES_KEY = new Key<>(ResolvedJavaTypeInfoCache.class.getName());
+
+    /**
+     * Resolved Java type with the Java PSI modification count used to create it (-1 for binary types).
+     */
+    private record CachedResolvedJavaType(long modificationCount, ResolvedJavaTypeInfo resolvedType) {
+    }
+
+    private final MessageBusConnection connection;
+
+    private final Project project;
+
+    public static ResolvedJavaTypeInfoCache getInstance(@NotNull Project project) {
+        return project.getService(ResolvedJavaTypeInfoCache.class);
+    }
+
+    public ResolvedJavaTypeInfoCache(Project project) {
+        this.project = project;
+        connection = project.getMessageBus().connect(QuarkusPluginDisposable.getInstance(project));
+        connection.subscribe(ClasspathResourceChangedManager.TOPIC, this);
+    }
+
+    /**
+     * Returns the resolved Java type of the given type from the cache if it is up to date, and created with the given
+     * factory otherwise.
+     *
+     * @param type        the Java type.
+     * @param kind        the value resolver kind.
+     * @param javaProject the module.
+     * @param factory     the factory which creates the resolved Java type.
+     * @return the resolved Java type of the given type.
+     */
+    public ResolvedJavaTypeInfo getResolvedJavaType(@NotNull PsiClass type, ValueResolverKind kind,
+                                                    @NotNull Module javaProject,
+                                                    @NotNull Supplier<ResolvedJavaTypeInfo> factory) {
+        String qualifiedName = type.getQualifiedName();
+        if (qualifiedName == null || javaProject.isDisposed()) {
+            return factory.get();
+        }
+        long modificationCount = type instanceof PsiCompiledElement ? -1 :
+                PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE).getModificationCount();
+        String key = qualifiedName + "#" + kind;
+        Map<String, CachedResolvedJavaType> cache = getCache(javaProject);
+        CachedResolvedJavaType cached = cache.get(key);
+        if (cached != null && cached.modificationCount() == modificationCount) {
+            return cached.resolvedType();
+        }
+        ResolvedJavaTypeInfo resolvedType = factory.get();
+        if (resolvedType != null) {
+            cache.put(key, new CachedResolvedJavaType(modificationCount, resolvedType));
+        }
+        return resolvedType;
+    }
+
+    @NotNull
+    private static Map<String, CachedResolvedJavaType> getCache(@NotNull Module module) {
+        Map<String, CachedResolvedJavaType> cache = module.getUserData(RESOLVED_JAVA_TYPES_KEY);
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>();
+            if (module instanceof UserDataHolderEx holder) {
+                return holder.putUserDataIfAbsent(RESOLVED_JAVA_TYPES_KEY, cache);
+            }
+            module.putUserData(RESOLVED_JAVA_TYPES_KEY, cache);
+        }
+        return cache;
+    }
+
+    @Override
+    public void librariesChanged() {
+        evictAll();
+    }
+
+    @Override
+    public void sourceFilesChanged(Set<Pair<VirtualFile, Module>> sources) {
+        // Source types are validated with the Java PSI modification count
+    }
+
+    private void evictAll() {
+        if (project.isDisposed()) {
+            return;
+        }
+        for (Module module : ModuleManager.getInstance(project).getModules()) {
+            module.putUserData(RESOLVED_JAVA_TYPES_KEY, null);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        connection.disconnect();
+        evictAll();
+    }
+}
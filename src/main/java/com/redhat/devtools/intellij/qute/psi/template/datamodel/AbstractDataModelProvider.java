@@ -102,7 +102,7 @@ public abstract class AbstractDataModelProvider implements IDataModelProvider {
 																							String annotationName) {
 		PsiClass annotationClass = context.getUtils().findClass(context.getJavaProject(), annotationName);
 		if (annotationClass != null) {
-			return AnnotatedElementsSearch.searchElements(annotationClass, context.getJavaProject().getModuleWithDependenciesAndLibrariesScope(false), PsiModifierListOwner.class);
+			return AnnotatedElementsSearch.searchElements(annotationClass, context.getSearchScope(), PsiModifierListOwner.class);
 		} else {
 			return new EmptyQuery<>();
 		}
@@ -120,7 +120,7 @@ public abstract class AbstractDataModelProvider implements IDataModelProvider {
 				IJavaSearchConstants.FIELD_DECLARATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH);*/
 		PsiClass templateClass = context.getUtils().findClass(context.getJavaProject(), className);
 		if (templateClass != null) {
-			return ReferencesSearch.search(templateClass, context.getJavaProject().getModuleWithDependenciesAndLibrariesScope(false));
+			return ReferencesSearch.search(templateClass, context.getSearchScope());
 		} else {
 			return new EmptyQuery<>();
 		}
@@ -140,7 +140,7 @@ public abstract class AbstractDataModelProvider implements IDataModelProvider {
 																				  String interfaceName) {
 		PsiClass interfaceClass = context.getUtils().findClass(context.getJavaProject(), interfaceName);
 		if (interfaceClass != null) {
-			return DefinitionsScopedSearch.search(interfaceClass, context.getJavaProject().getModuleWithDependenciesAndLibrariesScope(false), false);
+			return DefinitionsScopedSearch.search(interfaceClass, context.getSearchScope(), false);
 		} else {
 			return new EmptyQuery<>();
 		}
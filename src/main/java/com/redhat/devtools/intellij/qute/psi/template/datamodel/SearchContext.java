@@ -19,6 +19,7 @@ import java.util.Map;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 
 import com.redhat.devtools.intellij.qute.psi.QuteSupportForTemplate;
@@ -40,6 +41,7 @@ import static com.redhat.devtools.intellij.qute.psi.utils.PsiQuteProjectUtils.ge
 public class SearchContext extends BaseContext {
 	private final DataModelProject<DataModelTemplate<DataModelParameter>> dataModelProject;
 	private final String relativeTemplateBaseDir;
+	private final GlobalSearchScope searchScope;
 
 	private Map<PsiClass, ITypeResolver> typeResolvers;
 
@@ -48,9 +50,16 @@ public class SearchContext extends BaseContext {
 	public SearchContext(Module javaProject,
 						 DataModelProject<DataModelTemplate<DataModelParameter>> dataModelProject, IPsiUtils utils,
 						 List<QuteProjectScope> scopes) {
+		this(javaProject, dataModelProject, utils, scopes, javaProject.getModuleWithDependenciesAndLibrariesScope(false));
+	}
+
+	public SearchContext(Module javaProject,
+						 DataModelProject<DataModelTemplate<DataModelParameter>> dataModelProject, IPsiUtils utils,
+						 List<QuteProjectScope> scopes, GlobalSearchScope searchScope) {
 		super(javaProject, scopes);
 		this.dataModelProject = dataModelProject;
 		this.utils = utils;
+		this.searchScope = searchScope;
 		relativeTemplateBaseDir = PsiQuteProjectUtils.getRelativeTemplateBaseDir(javaProject);
 	}
 
@@ -58,6 +67,15 @@ public class SearchContext extends BaseContext {
 		return dataModelProject;
 	}
 
+	/**
+	 * Returns the scope where the Java elements must be searched.
+	 *
+	 * @return the scope where the Java elements must be searched.
+	 */
+	public GlobalSearchScope getSearchScope() {
+		return searchScope;
+	}
+
 	/**
 	 * Returns the JDT utilities.
 	 *
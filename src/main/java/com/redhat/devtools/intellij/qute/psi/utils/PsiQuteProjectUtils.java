@@ -25,6 +25,7 @@ import com.intellij.openapi.roots.SourceFolder;
 import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.psi.util.CachedValue;
 import com.intellij.psi.util.CachedValueProvider;
 import com.intellij.psi.util.CachedValuesManager;
@@ -47,7 +48,10 @@ import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -68,6 +72,7 @@ public class PsiQuteProjectUtils {
 
     private static final Key<CachedValue<Boolean>> QUTE_PROJECT_KEY = Key.create("quteProject");
     private static final Key<CachedValue<Boolean>> QUTE_SUPPORT_KEY = Key.create("quteSupport");
+    private static final Key<CachedValue<Map<String, Optional<VirtualFile>>>> BEST_RESOURCES_DIR_KEY = Key.create("quteBestResourcesDir");
 
     private PsiQuteProjectUtils() {
     }
@@ -228,11 +233,25 @@ public class PsiQuteProjectUtils {
     /**
      * Returns the best 'resources' directory for the given Java module project and null otherwise.
      *
+     * <p>The result is cached per templates folder name using {@link CachedValuesManager} and invalidated when
+     * module roots change or when a file or folder is created, deleted, moved or renamed.</p>
+     *
      * @param javaProject         the Java module project, must not be null.
      * @param templatesFolderName the name of the templates folder, must not be null.
      * @return the best resources dir for the given Java module project, or null if not found.
      */
     public static @Nullable VirtualFile findBestResourcesDir(@NotNull Module javaProject, @NotNull String templatesFolderName) {
+        CachedValuesManager manager = CachedValuesManager.getManager(javaProject.getProject());
+        Map<String, Optional<VirtualFile>> resourcesDirs = manager.getCachedValue(javaProject, BEST_RESOURCES_DIR_KEY, () ->
+                CachedValueProvider.Result.create(new ConcurrentHashMap<>(),
+                        ProjectRootManager.getInstance(javaProject.getProject()),
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS), false);
+        return resourcesDirs.computeIfAbsent(templatesFolderName,
+                        folderName -> Optional.ofNullable(computeBestResourcesDir(javaProject, folderName)))
+                .orElse(null);
+    }
+
+    private static @Nullable VirtualFile computeBestResourcesDir(@NotNull Module javaProject, @NotNull String templatesFolderName) {
         List<VirtualFile> resourcesDirs = ModuleRootManager.getInstance(javaProject).getSourceRoots(JavaResourceRootType.RESOURCE);
         if (!resourcesDirs.isEmpty()) {
             QuarkusModuleUtil.sortRoot(resourcesDirs);
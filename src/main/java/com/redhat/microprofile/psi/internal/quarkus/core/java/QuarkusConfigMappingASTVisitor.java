@@ -23,6 +23,8 @@ import com.redhat.microprofile.psi.internal.quarkus.QuarkusConstants;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
 import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.List;
 import java.util.logging.Logger;
 
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.isMatchAnnotation;
@@ -37,6 +39,8 @@ public class QuarkusConfigMappingASTVisitor extends JavaASTValidator {
 
 	private static final Logger LOGGER = Logger.getLogger(QuarkusConfigMappingASTVisitor.class.getName());
 
+	private static final List<String> ANNOTATION_NAMES = List.of(QuarkusConstants.CONFIG_MAPPING_ANNOTATION);
+
 	private static final String EXPECTED_INTERFACE_ERROR = "The @ConfigMapping annotation can only be placed in interfaces, class `{0}` is a class";
 
 	@Override
@@ -45,6 +49,16 @@ public class QuarkusConfigMappingASTVisitor extends JavaASTValidator {
 		return PsiTypeUtils.findType(javaProject, QuarkusConstants.CONFIG_MAPPING_ANNOTATION) != null;
 	}
 
+	@Override
+	public Collection<String> getAnnotationNames() {
+		return ANNOTATION_NAMES;
+	}
+
+	@Override
+	public boolean isVisitingChildren() {
+		return false;
+	}
+
 	@Override
 	public void visitClass(PsiClass node) {
 		for (PsiAnnotation annotation : node.getAnnotations()) {
@@ -61,6 +61,9 @@ public class QuarkusConfigPropertiesProvider extends AbstractAnnotationTypeRefer
 
 	private static final String[] ANNOTATION_NAMES = { QuarkusConstants.CONFIG_PROPERTIES_ANNOTATION };
 
+	private static final Set<String> CONFIG_PROPERTY_NAMES = Set
+			.of(QuarkusConstants.QUARKUS_ARC_CONFIG_PROPERTIES_DEFAULT_NAMING_STRATEGY);
+
 	private static final String CONFIG_PROPERTIES_CONTEXT_KEY = QuarkusConfigPropertiesProvider.class.getName()
 			+ "#ConfigPropertiesContext";
 
@@ -114,6 +117,11 @@ public class QuarkusConfigPropertiesProvider extends AbstractAnnotationTypeRefer
 		context.put(CONFIG_PROPERTIES_CONTEXT_KEY, new ConfigPropertiesContext(context));
 	}
 
+	@Override
+	public Set<String> getConfigPropertyNames() {
+		return CONFIG_PROPERTY_NAMES;
+	}
+
 	@Override
 	protected void processAnnotation(PsiModifierListOwner psiElement, PsiAnnotation annotation, String annotationName,
 									 SearchContext context) {
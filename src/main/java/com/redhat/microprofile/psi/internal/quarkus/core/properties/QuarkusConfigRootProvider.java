@@ -32,14 +32,11 @@ import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import io.quarkus.runtime.annotations.ConfigItem;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.Reader;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.PsiTypeUtils.getEnclosedType;
 import static io.quarkus.runtime.util.StringUtil.camelHumpsIterator;
@@ -68,7 +65,7 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 
 	@Override
 	public void beginSearch(SearchContext context) {
-		Map<VirtualFile, Properties> javadocCache = new HashMap();
+		Map<VirtualFile, Map<String, String>> javadocCache = new HashMap<>();
 		context.put(JAVADOC_CACHE_KEY, javadocCache);
 	}
 
@@ -76,7 +73,7 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 	@Override
 	protected void processAnnotation(PsiModifierListOwner psiElement, PsiAnnotation annotation, String annotationName,
 									 SearchContext context) {
-		Map<VirtualFile, Properties> javadocCache = (Map<VirtualFile, Properties>) context
+		Map<VirtualFile, Map<String, String>> javadocCache = (Map<VirtualFile, Map<String, String>>) context
 				.get(JAVADOC_CACHE_KEY);
 		QuarkusSearchContext quarkusContext = QuarkusSearchContext.getQuarkusContext(context);
 		processConfigRoot(psiElement, annotation, javadocCache, quarkusContext, context.getCollector());
@@ -95,7 +92,7 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 	 * @param collector            the properties to fill
 	 */
 	private void processConfigRoot(PsiModifierListOwner psiElement, PsiAnnotation configRootAnnotation,
-			Map<VirtualFile, Properties> javadocCache, QuarkusSearchContext quarkusContext, IPropertiesCollector collector) {
+			Map<VirtualFile, Map<String, String>> javadocCache, QuarkusSearchContext quarkusContext, IPropertiesCollector collector) {
 		ConfigPhase configPhase = getConfigPhase(configRootAnnotation);
 		String configRootAnnotationName = getConfigRootName(configRootAnnotation);
 		String extension = getExtensionName(getSimpleName(psiElement), configRootAnnotationName, configPhase);
@@ -235,7 +232,7 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 	 * @param collector     the properties to fill.
 	 */
 	private void processConfigGroup(String extensionName, PsiModifierListOwner psiElement, String baseKey,
-			ConfigPhase configPhase, Map<VirtualFile, Properties> javadocCache,
+			ConfigPhase configPhase, Map<VirtualFile, Map<String, String>> javadocCache,
 									QuarkusSearchContext quarkusContext, IPropertiesCollector collector) {
 		if (psiElement instanceof PsiClass) {
 			PsiElement[] elements = psiElement.getChildren();
@@ -297,7 +294,7 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 
 
 	private void addItemMetadata(String extensionName, PsiField field, String fieldTypeName, PsiClass fieldClass,
-			String name, String defaultValue, Map<VirtualFile, Properties> javadocCache,
+			String name, String defaultValue, Map<VirtualFile, Map<String, String>> javadocCache,
 			ConfigPhase configPhase, QuarkusSearchContext quarkusContext, IPropertiesCollector collector) {
 
 		// Class type
@@ -363,7 +360,7 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 	}
 
 	private void processMap(PsiField field, String baseKey, String mapValueClass, String docs, String extensionName,
-							String source, ConfigPhase configPhase, Map<VirtualFile, Properties> javadocCache, int keyIndex,
+							String source, ConfigPhase configPhase, Map<VirtualFile, Map<String, String>> javadocCache, int keyIndex,
 							QuarkusSearchContext quarkusContext, IPropertiesCollector collector) {
 		final String subKey = baseKey + "." + quarkusContext.getPropertyMapKey(extensionName, baseKey, keyIndex);
 		if ("java.util.Map".equals(mapValueClass)) {
@@ -403,7 +400,7 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 	 * @param javadocCache the Javadoc cache
 	 * @return the doc entry for the field
 	 */
-	private static String getJavadoc(PsiField field, Map<VirtualFile, Properties> javadocCache) {
+	private static String getJavadoc(PsiField field, Map<VirtualFile, Map<String, String>> javadocCache) {
 		// TODO: get Javadoc from source anad attached doc by processing Javadoc tag as
 		// markdown
 		// Try to get javadoc from sources
@@ -414,22 +411,12 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 		 */
 		// Try to get the javadoc inside the META-INF/quarkus-javadoc.properties of the
 		// JAR
-		VirtualFile packageRoot = PsiTypeUtils.getRootDirectory(PsiTreeUtil.getParentOfType(field, PsiFile.class));;
-		Properties properties = javadocCache.get(packageRoot);
-		if (properties == null) {
-			properties = new Properties();
-			javadocCache.put(packageRoot, properties);
-			String quarkusJavadocResource = findJavadocFromQuakusJavadocProperties(packageRoot);
-			if (quarkusJavadocResource != null) {
-				try (Reader reader = new StringReader(quarkusJavadocResource)) {
-					properties.load(reader);
-				} catch (Exception e) {
-					// TODO : log it
-					e.printStackTrace();
-				}
-			}
-		}
-		if (properties.isEmpty()) {
+		VirtualFile packageRoot = PsiTypeUtils.getRootDirectory(PsiTreeUtil.getParentOfType(field, PsiFile.class));
+		// The content of the properties file is shared by the scans of all projects, the scan cache avoids
+		// checking the properties file timestamp for each field
+		Map<String, String> javadocs = javadocCache.computeIfAbsent(packageRoot,
+				root -> QuarkusJavadocPropertiesCache.getInstance().getJavadocs(root));
+		if (javadocs.isEmpty()) {
 			return null;
 		}
 		// The META-INF/quarkus-javadoc.properties stores Javadoc without $ . Ex:
@@ -442,11 +429,7 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 		// Ex : io.quarkus.deployment.SslProcessor$SslConfig.native_
 		// replace '$' with '.'
 		fieldKey = fieldKey.replace('$', '.');
-		return properties.getProperty(fieldKey);
-	}
-
-	private static String findJavadocFromQuakusJavadocProperties(VirtualFile packageRoot) {
-		return PsiTypeUtils.findPropertiesResource(packageRoot, QuarkusConstants.QUARKUS_JAVADOC_PROPERTIES_FILE);
+		return javadocs.get(fieldKey);
 	}
 
 	private static int getPhase(ConfigPhase configPhase) {
@@ -0,0 +1,111 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* https://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.microprofile.psi.internal.quarkus.core.properties;
+
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.containers.Interner;
+import com.redhat.devtools.intellij.quarkus.QuarkusConstants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Application cache of the Quarkus extension 'META-INF/quarkus-javadoc.properties' files.
+ *
+ * <p>
+ * The content of a 'quarkus-javadoc.properties' file is loaded once and shared by all the properties scans of all
+ * the projects which use the same extension JAR. An entry is loaded again when the timestamp or the length of the
+ * properties file changes (ex : SNAPSHOT JAR rebuilt). The keys and the Javadoc are interned, so that the same
+ * Javadoc stored in several versions of an extension is kept once in memory, and the entries are softly referenced
+ * so that they can be reclaimed under memory pressure.
+ * </p>
+ */
+class QuarkusJavadocPropertiesCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(QuarkusJavadocPropertiesCache.class);
+
+	private static final QuarkusJavadocPropertiesCache INSTANCE = new QuarkusJavadocPropertiesCache();
+
+	private record Entry(long timeStamp, long length, Map<String, String> javadocs) {
+	}
+
+	private final Map<String, Entry> entries = ContainerUtil.createConcurrentSoftValueMap();
+
+	private final Interner<String> interner = Interner.createWeakInterner();
+
+	static QuarkusJavadocPropertiesCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the Javadoc per field key (ex : 'io.quarkus.deployment.SslProcessor.SslConfig.native_') of the
+	 * 'META-INF/quarkus-javadoc.properties' file of the given package root and an empty map otherwise.
+	 *
+	 * @param packageRoot the package root (JAR root or output folder).
+	 * @return the Javadoc per field key of the 'META-INF/quarkus-javadoc.properties' file of the given package root
+	 * and an empty map otherwise.
+	 */
+	@NotNull
+	Map<String, String> getJavadocs(@Nullable VirtualFile packageRoot) {
+		VirtualFile file = findJavadocPropertiesFile(packageRoot);
+		if (file == null) {
+			return Collections.emptyMap();
+		}
+		long timeStamp = file.getTimeStamp();
+		long length = file.getLength();
+		String url = file.getUrl();
+		Entry entry = entries.get(url);
+		if (entry == null || entry.timeStamp() != timeStamp || entry.length() != length) {
+			entry = new Entry(timeStamp, length, load(file));
+			entries.put(url, entry);
+		}
+		return entry.javadocs();
+	}
+
+	private static @Nullable VirtualFile findJavadocPropertiesFile(@Nullable VirtualFile packageRoot) {
+		if (packageRoot == null || !packageRoot.isValid()) {
+			return null;
+		}
+		VirtualFile metaInfDir = packageRoot.findChild("META-INF");
+		if (metaInfDir == null) {
+			return null;
+		}
+		VirtualFile file = metaInfDir.findChild(QuarkusConstants.QUARKUS_JAVADOC_PROPERTIES_FILE);
+		return file != null && file.isValid() ? file : null;
+	}
+
+	private @NotNull Map<String, String> load(@NotNull VirtualFile file) {
+		Properties properties = new Properties();
+		try (Reader reader = new StringReader(VfsUtilCore.loadText(file))) {
+			properties.load(reader);
+		} catch (IOException | IllegalArgumentException e) {
+			LOGGER.warn("Error while loading '" + file.getUrl() + "'", e);
+		}
+		if (properties.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> javadocs = new HashMap<>(properties.size());
+		for (String key : properties.stringPropertyNames()) {
+			javadocs.put(interner.intern(key), interner.intern(properties.getProperty(key)));
+		}
+		return Collections.unmodifiableMap(javadocs);
+	}
+}
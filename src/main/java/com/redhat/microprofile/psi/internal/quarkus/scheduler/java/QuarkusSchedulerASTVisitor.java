@@ -26,6 +26,8 @@ import com.redhat.microprofile.psi.internal.quarkus.scheduler.SchedulerErrorCode
 import com.redhat.microprofile.psi.internal.quarkus.scheduler.SchedulerUtils;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.logging.Logger;
 
 import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.AnnotationUtils.getAnnotationMemberValueExpression;
@@ -35,6 +37,8 @@ public class QuarkusSchedulerASTVisitor extends JavaASTValidator {
 
 	private static Logger LOGGER = Logger.getLogger(QuarkusSchedulerASTVisitor.class.getName());
 
+	private static final List<String> ANNOTATION_NAMES = List.of(QuarkusConstants.SCHEDULED_ANNOTATION);
+
 	public QuarkusSchedulerASTVisitor() {
 		super();
 	}
@@ -45,6 +49,16 @@ public class QuarkusSchedulerASTVisitor extends JavaASTValidator {
 		return PsiTypeUtils.findType(javaProject, QuarkusConstants.SCHEDULED_ANNOTATION) != null;
 	}
 
+	@Override
+	public Collection<String> getAnnotationNames() {
+		return ANNOTATION_NAMES;
+	}
+
+	@Override
+	public boolean isVisitingChildren() {
+		return false;
+	}
+
 	@Override
 	public void visitMethod(PsiMethod node) {
 		for (PsiAnnotation annotation : node.getAnnotations()) {
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.util.registry.Registry;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.MicroProfilePropertiesIndex;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.assertPropertiesDuplicate;
+
+/**
+ * Test that the parallel scan of the properties (see {@link PropertiesManager#PARALLEL_SCAN_REGISTRY_KEY}) gives
+ * the same result as the sequential scan.
+ */
+public class PropertiesManagerParallelScanTest extends LSP4MPMavenModuleImportingTestCase {
+
+    @Test
+    public void testRestClientQuickstart() throws Exception {
+        Module module = loadMavenProject(MicroProfileMavenProjectName.rest_client_quickstart);
+        MicroProfileProjectInfo info = assertSameAsSequentialScan(module);
+        // Several classes are annotated with @RegisterRestClient, the mp-rest properties must be added once
+        assertPropertiesDuplicate(info);
+    }
+
+    @Test
+    public void testMicroProfileFaultTolerance() throws Exception {
+        Module module = loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance);
+        assertSameAsSequentialScan(module);
+    }
+
+    private MicroProfileProjectInfo assertSameAsSequentialScan(Module module) {
+        MicroProfileProjectInfo sequentialInfo = fullScan(module);
+        Registry.get(PropertiesManager.PARALLEL_SCAN_REGISTRY_KEY).setValue(true, getTestRootDisposable());
+        MicroProfileProjectInfo parallelInfo = fullScan(module);
+        assertEquals(toString(sequentialInfo), toString(parallelInfo));
+        return parallelInfo;
+    }
+
+    private MicroProfileProjectInfo fullScan(Module module) {
+        // Evict the contributions stored in the index to collect all the Java elements
+        MicroProfilePropertiesIndex.getInstance(getProject()).librariesChanged();
+        return PropertiesManager.getInstance().getMicroProfileProjectInfo(module,
+                MicroProfilePropertiesScope.ONLY_SOURCES, ClasspathKind.SRC, PsiUtilsLSImpl.getInstance(getProject()),
+                DocumentFormat.PlainText, new EmptyProgressIndicator());
+    }
+
+    private static String toString(MicroProfileProjectInfo info) {
+        List<String> lines = new ArrayList<>();
+        for (ItemMetadata property : info.getProperties()) {
+            lines.add(property.getName() + "|" + property.getType() + "|" + property.getSourceType() + "|"
+                    + property.getSourceField() + "|" + property.getSourceMethod() + "|"
+                    + property.getDefaultValue() + "|" + property.getDescription());
+        }
+        for (ItemHint hint : info.getHints()) {
+            StringBuilder line = new StringBuilder(hint.getName()).append('|').append(hint.getSourceType());
+            for (ValueHint value : hint.getValues()) {
+                line.append('|').append(value.getValue()).append('@').append(value.getSourceType());
+            }
+            lines.add(line.toString());
+        }
+        return String.join("\n", lines);
+    }
+}
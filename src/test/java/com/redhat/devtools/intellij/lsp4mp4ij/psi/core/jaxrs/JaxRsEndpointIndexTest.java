@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.LSP4MPMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileMavenProjectName;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.deleteFile;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
+
+/**
+ * Test the invalidation of the {@link JaxRsEndpointIndex}.
+ */
+public class JaxRsEndpointIndexTest extends LSP4MPMavenModuleImportingTestCase {
+
+    private static final String FRUIT_RESOURCE_ENDPOINTS = "DELETE http://localhost:8080/fruits/{id}\n" + //
+            "GET http://localhost:8080/fruits\n" + //
+            "GET http://localhost:8080/fruits/path_with_java_constant\n" + //
+            "GET http://localhost:8080/fruits/{id}\n" + //
+            "POST http://localhost:8080/fruits\n" + //
+            "PUT http://localhost:8080/fruits/{id}";
+
+    private static final String VEGETABLE_RESOURCE = "package org.acme.hibernate.orm;\n" + //
+            "\n" + //
+            "import javax.ws.rs.GET;\n" + //
+            "import javax.ws.rs.Path;\n" + //
+            "\n" + //
+            "@Path(\"vegetables\")\n" + //
+            "public class VegetableResource {\n" + //
+            "\n" + //
+            "    @GET\n" + //
+            "    @Path(\"%s\")\n" + //
+            "    public String get() {\n" + //
+            "        return \"\";\n" + //
+            "    }\n" + //
+            "}\n";
+
+    @Test
+    public void testEndpointsReused() throws Exception {
+        Module javaProject = loadMavenProject(MicroProfileMavenProjectName.hibernate_orm_resteasy);
+        List<JaxRsMethodInfo> endpoints = getEndpoints(javaProject, new JaxRsContext(javaProject));
+        assertEquals(FRUIT_RESOURCE_ENDPOINTS, toString(endpoints));
+
+        VirtualFile fruitResource = findSourceFile(javaProject, "org/acme/hibernate/orm/FruitResource.java");
+        List<JaxRsEndpointIndex.IndexedEndpoint> indexedEndpoints = getIndexedEndpoints(javaProject, fruitResource);
+        assertNotNull(indexedEndpoints);
+
+        // No Java file has changed, the endpoints are reused
+        List<JaxRsMethodInfo> endpoints2 = getEndpoints(javaProject, new JaxRsContext(javaProject));
+        assertSame(indexedEndpoints, getIndexedEndpoints(javaProject, fruitResource));
+        assertEquals(endpoints.size(), endpoints2.size());
+        for (int i = 0; i < endpoints.size(); i++) {
+            // The Java methods are restored from the smart pointers
+            assertSame(endpoints.get(i).getJavaMethod(), endpoints2.get(i).getJavaMethod());
+            assertEquals(endpoints.get(i).getUrl(), endpoints2.get(i).getUrl());
+        }
+    }
+
+    @Test
+    public void testFindEndpoints() throws Exception {
+        Module javaProject = loadMavenProject(MicroProfileMavenProjectName.hibernate_orm_resteasy);
+        assertEquals("GET http://localhost:8080/fruits\n" + //
+                "POST http://localhost:8080/fruits", toString(findEndpoints(javaProject, "/fruits")));
+        assertEquals("DELETE http://localhost:8080/fruits/{id}\n" + //
+                "GET http://localhost:8080/fruits/{id}\n" + //
+                "PUT http://localhost:8080/fruits/{id}", toString(findEndpoints(javaProject, "/fruits/{id}")));
+        assertEquals("", toString(findEndpoints(javaProject, "/fruits/1")));
+    }
+
+    @Test
+    public void testJavaFileCreatedUpdatedAndDeleted() throws Exception {
+        Module javaProject = loadMavenProject(MicroProfileMavenProjectName.hibernate_orm_resteasy);
+        List<JaxRsMethodInfo> endpoints = getEndpoints(javaProject, new JaxRsContext(javaProject));
+        assertEquals(FRUIT_RESOURCE_ENDPOINTS, toString(endpoints));
+        VirtualFile fruitResource = findSourceFile(javaProject, "org/acme/hibernate/orm/FruitResource.java");
+        List<JaxRsEndpointIndex.IndexedEndpoint> indexedEndpoints = getIndexedEndpoints(javaProject, fruitResource);
+        assertNotNull(indexedEndpoints);
+
+        // Create a JAX-RS resource
+        String path = "org/acme/hibernate/orm/VegetableResource.java";
+        saveFile(path, String.format(VEGETABLE_RESOURCE, "all"), javaProject, true);
+        List<JaxRsMethodInfo> updatedEndpoints = getEndpoints(javaProject, new JaxRsContext(javaProject));
+        assertEquals("DELETE http://localhost:8080/fruits/{id}\n" + //
+                "GET http://localhost:8080/fruits\n" + //
+                "GET http://localhost:8080/fruits/path_with_java_constant\n" + //
+                "GET http://localhost:8080/fruits/{id}\n" + //
+                "GET http://localhost:8080/vegetables/all\n" + //
+                "POST http://localhost:8080/fruits\n" + //
+                "PUT http://localhost:8080/fruits/{id}", toString(updatedEndpoints));
+        // The endpoints of FruitResource which has not changed are reused
+        assertSame(indexedEndpoints, getIndexedEndpoints(javaProject, fruitResource));
+
+        // Update the JAX-RS resource
+        saveFile(path, String.format(VEGETABLE_RESOURCE, "list"), javaProject, true);
+        assertEquals("DELETE http://localhost:8080/fruits/{id}\n" + //
+                "GET http://localhost:8080/fruits\n" + //
+                "GET http://localhost:8080/fruits/path_with_java_constant\n" + //
+                "GET http://localhost:8080/fruits/{id}\n" + //
+                "GET http://localhost:8080/vegetables/list\n" + //
+                "POST http://localhost:8080/fruits\n" + //
+                "PUT http://localhost:8080/fruits/{id}", toString(getEndpoints(javaProject, new JaxRsContext(javaProject))));
+
+        // Delete the JAX-RS resource
+        deleteFile(path, javaProject);
+        assertEquals(FRUIT_RESOURCE_ENDPOINTS, toString(getEndpoints(javaProject, new JaxRsContext(javaProject))));
+    }
+
+    @Test
+    public void testBaseUrlChanged() throws Exception {
+        Module javaProject = loadMavenProject(MicroProfileMavenProjectName.hibernate_orm_resteasy);
+        assertEquals(FRUIT_RESOURCE_ENDPOINTS, toString(getEndpoints(javaProject, new JaxRsContext(javaProject))));
+
+        // The endpoints are collected again when the server port is not the same
+        JaxRsContext context = new JaxRsContext(javaProject);
+        context.setServerPort(9090);
+        assertEquals(FRUIT_RESOURCE_ENDPOINTS.replace("8080", "9090"), toString(getEndpoints(javaProject, context)));
+        assertEquals(FRUIT_RESOURCE_ENDPOINTS, toString(getEndpoints(javaProject, new JaxRsContext(javaProject))));
+    }
+
+    private List<JaxRsMethodInfo> getEndpoints(Module javaProject, JaxRsContext context) {
+        return ReadAction.compute(() -> JaxRsEndpointIndex.getInstance(getProject()).getEndpoints(javaProject, context,
+                PsiUtilsLSImpl.getInstance(getProject()), new EmptyProgressIndicator()));
+    }
+
+    private List<JaxRsMethodInfo> findEndpoints(Module javaProject, String path) {
+        return ReadAction.compute(() -> JaxRsEndpointIndex.getInstance(getProject()).findEndpoints(javaProject, path,
+                PsiUtilsLSImpl.getInstance(getProject()), new EmptyProgressIndicator()));
+    }
+
+    private List<JaxRsEndpointIndex.IndexedEndpoint> getIndexedEndpoints(Module javaProject, VirtualFile file) {
+        return JaxRsEndpointIndex.getInstance(getProject()).getIndexedEndpoints(javaProject, file);
+    }
+
+    private static VirtualFile findSourceFile(Module javaProject, String path) {
+        for (VirtualFile sourceRoot : ModuleRootManager.getInstance(javaProject).getSourceRoots(false)) {
+            VirtualFile file = sourceRoot.findFileByRelativePath(path);
+            if (file != null) {
+                return file;
+            }
+        }
+        fail("Cannot find '" + path + "'");
+        return null;
+    }
+
+    private static String toString(List<JaxRsMethodInfo> endpoints) {
+        // The order of the JAX-RS classes depends on the search, sort the endpoints
+        return String.join("\n", endpoints.stream() //
+                .map(endpoint -> endpoint.getHttpMethod() + " " + endpoint.getUrl()) //
+                .sorted() //
+                .toList());
+    }
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.jaxrs.java;
+
+import com.intellij.openapi.module.Module;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.LSP4MPMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileMavenProjectName;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4j.Position;
+import org.junit.Test;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileForJavaAssert.*;
+
+/**
+ * Definition from the path of a REST Assured request to the JAX-RS endpoint.
+ */
+public class JaxRsRestAssuredDefinitionTest extends LSP4MPMavenModuleImportingTestCase {
+
+    @Test
+    public void testRequestPathDefinition() throws Exception {
+        Module javaProject = loadMavenProject(MicroProfileMavenProjectName.hibernate_orm_resteasy);
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        String testFileUri = getFileUri("/src/test/java/org/acme/hibernate/orm/FruitsEndpointTest.java", javaProject);
+        String resourceFileUri = getFileUri("/src/main/java/org/acme/hibernate/orm/FruitResource.java", javaProject);
+
+        // .when().get("/fr|uits")
+        assertJavaDefinitions(new Position(16, 30), testFileUri, utils, //
+                def(r(16, 27, 34), resourceFileUri, r(31, 19, 22)));
+
+        // .when().delete("/fr|uits/1") : no JAX-RS endpoint with the '/fruits/1' path
+        assertJavaDefinitions(new Position(27, 33), testFileUri, utils);
+    }
+
+}
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.project;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link ConfigPropertiesSnapshot}.
+ */
+public class ConfigPropertiesSnapshotTest {
+
+    @Test
+    public void bigOrdinalWins() {
+        MapConfigSource application = new MapConfigSource("application.properties", 250);
+        application.values.put("greeting.message", "hello");
+        application.values.put("greeting.name", "");
+        MapConfigSource microprofile = new MapConfigSource("microprofile-config.properties", 100);
+        microprofile.values.put("greeting.message", "hi");
+        microprofile.values.put("greeting.name", "quarkus");
+        microprofile.values.put("greeting.empty", "");
+
+        ConfigPropertiesSnapshot snapshot = ConfigPropertiesSnapshot.create(Arrays.asList(application, microprofile));
+        assertEquals("hello", snapshot.getProperty("greeting.message", null));
+        assertEquals("quarkus", snapshot.getProperty("greeting.name", null));
+        assertEquals("", snapshot.getProperty("greeting.empty", "default"));
+        assertEquals("default", snapshot.getProperty("greeting.unknown", "default"));
+
+        List<MicroProfileConfigPropertyInformation> infos = snapshot.getPropertyInformations("greeting.message");
+        assertEquals(1, infos.size());
+        assertEquals("application.properties", infos.get(0).getConfigFileName());
+        assertTrue(snapshot.hasProperty("greeting.name"));
+        assertFalse(snapshot.hasProperty("greeting.unknown"));
+    }
+
+    @Test
+    public void updateChangedKeys() {
+        MapConfigSource application = new MapConfigSource("application.properties", 250);
+        application.values.put("host", "localhost");
+        application.values.put("%dev.host", "dev-host");
+        application.values.put("url", "http://${host}/api");
+        application.values.put("%dev.url", "http://${host}/dev");
+        application.values.put("full.url", "${url}?q=1");
+        application.values.put("other", "${unrelated}");
+        application.values.put("unrelated", "value");
+
+        ConfigPropertiesSnapshot snapshot = ConfigPropertiesSnapshot.create(List.of(application));
+        assertEquals("http://localhost/api?q=1", snapshot.getProperty("full.url", null));
+
+        // The config source is reloaded in a new instance
+        MapConfigSource reloaded = new MapConfigSource("application.properties", 250);
+        reloaded.values.putAll(application.values);
+        reloaded.values.put("host", "example.com");
+        reloaded.values.remove("%dev.host");
+        reloaded.values.put("new.key", "new");
+        ConfigSourceDiff diff = ConfigSourceDiff.compute(application.values, reloaded.values);
+        assertEquals(Set.of("host"), diff.getUpdatedKeys());
+        assertEquals(Set.of("%dev.host"), diff.getRemovedKeys());
+        assertEquals(Set.of("new.key"), diff.getAddedKeys());
+
+        ConfigPropertiesSnapshot updated = ConfigPropertiesSnapshot.update(snapshot, List.of(reloaded), diff);
+        ConfigPropertiesSnapshot created = ConfigPropertiesSnapshot.create(List.of(reloaded));
+        for (String key : Arrays.asList("host", "%dev.host", "url", "%dev.url", "full.url", "other", "new.key")) {
+            assertEquals(key, created.getProperty(key, null), updated.getProperty(key, null));
+        }
+        assertEquals("http://example.com/api?q=1", updated.getProperty("full.url", null));
+        assertNull(updated.getProperty("%dev.host", null));
+        assertEquals("http://example.com/api", updated.getPropertyInformations("url").get(1).getValue());
+
+        // The previous snapshot is not modified
+        assertEquals("http://localhost/api?q=1", snapshot.getProperty("full.url", null));
+    }
+
+    @Test
+    public void updateWithEmptyDiff() {
+        MapConfigSource application = new MapConfigSource("application.properties", 250);
+        application.values.put("greeting.message", "hello");
+        ConfigPropertiesSnapshot snapshot = ConfigPropertiesSnapshot.create(List.of(application));
+        MapConfigSource reloaded = new MapConfigSource("application.properties", 250);
+        reloaded.values.putAll(application.values);
+        ConfigSourceDiff diff = ConfigSourceDiff.compute(application.values, reloaded.values);
+        assertTrue(diff.isEmpty());
+        ConfigPropertiesSnapshot updated = ConfigPropertiesSnapshot.update(snapshot, List.of(reloaded), diff);
+        assertSame(reloaded, updated.getConfigSources().get(0));
+        assertEquals("hello", updated.getProperty("greeting.message", null));
+    }
+
+    private static class MapConfigSource implements IConfigSource {
+
+        private final String configFileName;
+
+        private final int ordinal;
+
+        private final Map<String, String> values = new HashMap<>();
+
+        private MapConfigSource(String configFileName, int ordinal) {
+            this.configFileName = configFileName;
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public String getProperty(String key) {
+            return values.get(key);
+        }
+
+        @Override
+        public Integer getPropertyAsInt(String key) {
+            String value = values.get(key);
+            return value != null ? Integer.valueOf(value) : null;
+        }
+
+        @Override
+        public String getConfigFileName() {
+            return configFileName;
+        }
+
+        @Override
+        public String getSourceConfigFileURI() {
+            return "file:///" + configFileName;
+        }
+
+        @Override
+        public boolean isSourceConfigFile(VirtualFile file) {
+            return false;
+        }
+
+        @Override
+        public List<MicroProfileConfigPropertyInformation> getPropertyInformations(String propertyKey) {
+            List<MicroProfileConfigPropertyInformation> infos = new ArrayList<>();
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                if (propertyKey.equals(MicroProfileConfigPropertyInformation.getPropertyNameWithoutProfile(entry.getKey()))) {
+                    infos.add(new MicroProfileConfigPropertyInformation(entry.getKey(), entry.getValue(),
+                            getSourceConfigFileURI(), configFileName));
+                }
+            }
+            return infos.isEmpty() ? null : infos;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        @Override
+        public String getProfile() {
+            return null;
+        }
+
+        @Override
+        public Set<String> getAllKeys() {
+            return values.keySet();
+        }
+
+        @Override
+        public ReloadResult reload(PsiFile file) {
+            return new ReloadResult(this, ConfigSourceDiff.EMPTY);
+        }
+    }
+}
@@ -9,11 +9,15 @@
  *******************************************************************************/
 package com.redhat.devtools.intellij.lsp4mp4ij.psi.core.restclient.java;
 
+import com.intellij.openapi.application.WriteAction;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
 import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtil;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.testFramework.IndexingTestUtil;
 import com.redhat.devtools.intellij.MavenModuleImportingTestCase;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
@@ -200,4 +204,53 @@ public class MicroProfileRestClientJavaDiagnosticsTest extends MavenModuleImport
                         te(0, 0, 5, 0,
                                 "package com.demo.rest;\n\npublic interface MyService {\n\n}\n")));
     }
+
+    @Test
+    public void testRestClientAnnotationMissingForCreatedInterface() throws Exception {
+        Module module = createMavenModule(new File("projects/lsp4mp/projects/maven/rest-client-quickstart"));
+        IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+        VirtualFile packageDir = LocalFileSystem.getInstance().refreshAndFindFileByPath(ModuleUtilCore.getModuleDirPath(module) + "/src/main/java/org/acme/restclient");
+        assertNotNull(packageDir);
+
+        // The injection field references an interface which doesn't exist yet
+        createJavaFile(packageDir, "NewServiceInjections.java", "package org.acme.restclient;\n\n" + //
+                "import javax.inject.Inject;\n\n" + //
+                "import org.eclipse.microprofile.rest.client.inject.RestClient;\n\n" + //
+                "public class NewServiceInjections {\n\n" + //
+                "    @Inject\n" + //
+                "    @RestClient\n" + //
+                "    public NewService service;\n" + //
+                "}\n");
+        // Index the injection fields of the module
+        MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+        params.setUris(Arrays.asList(VfsUtilCore.virtualToIoFile(packageDir.findChild("MyService.java")).toURI().toString()));
+        params.setDocumentFormat(DocumentFormat.Markdown);
+        assertJavaDiagnostics(params, utils, //
+                d(2, 17, 26,
+                        "The interface `MyService` does not have the @RegisterRestClient annotation. The 1 fields references will not be injected as CDI beans.",
+                        DiagnosticSeverity.Warning, MicroProfileRestClientConstants.DIAGNOSTIC_SOURCE,
+                        MicroProfileRestClientErrorCode.RegisterRestClientAnnotationMissing));
+
+        // Create the interface without modifying the Java file of the injection field
+        VirtualFile javaFile = createJavaFile(packageDir, "NewService.java", "package org.acme.restclient;\n\n" + //
+                "public interface NewService {\n\n" + //
+                "}\n");
+        params.setUris(Arrays.asList(VfsUtilCore.virtualToIoFile(javaFile).toURI().toString()));
+        assertJavaDiagnostics(params, utils, //
+                d(2, 17, 27,
+                        "The interface `NewService` does not have the @RegisterRestClient annotation. The 1 fields references will not be injected as CDI beans.",
+                        DiagnosticSeverity.Warning, MicroProfileRestClientConstants.DIAGNOSTIC_SOURCE,
+                        MicroProfileRestClientErrorCode.RegisterRestClientAnnotationMissing));
+    }
+
+    private VirtualFile createJavaFile(VirtualFile dir, String name, String content) throws Exception {
+        VirtualFile file = WriteAction.computeAndWait(() -> {
+            VirtualFile javaFile = dir.createChildData(this, name);
+            VfsUtil.saveText(javaFile, content);
+            PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+            return javaFile;
+        });
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+        return file;
+    }
 }
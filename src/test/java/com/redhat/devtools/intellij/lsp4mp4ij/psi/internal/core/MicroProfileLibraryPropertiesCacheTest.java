@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.JarFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.LSP4MPMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileMavenProjectName;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.config.properties.MicroProfileConfigPropertyProvider;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Test the persistence and the invalidation of the {@link MicroProfileLibraryPropertiesCache}.
+ */
+public class MicroProfileLibraryPropertiesCacheTest extends LSP4MPMavenModuleImportingTestCase {
+
+    @Test
+    public void testSaveAndLoad() throws Exception {
+        VirtualFile classFile = findConfigPropertyClassFile();
+        Path storageDir = FileUtil.createTempDirectory("microprofile-properties", null).toPath();
+
+        MicroProfileLibraryPropertiesCache cache = new MicroProfileLibraryPropertiesCache(storageDir, "signature");
+        assertNull(cache.getContributions(classFile, DocumentFormat.PlainText, "", Set.of()));
+        cache.putContributions(classFile, DocumentFormat.PlainText, "", Set.of(), createContributions("greeting.message"), Set.of());
+        cache.save();
+
+        // A new cache (ex : after an IDE restart) loads the persisted contributions
+        MicroProfileLibraryPropertiesCache loadedCache = new MicroProfileLibraryPropertiesCache(storageDir, "signature");
+        assertContributions(loadedCache.getContributions(classFile, DocumentFormat.PlainText, "", Set.of()), "greeting.message");
+        // The contributions are stored per document format
+        assertNull(loadedCache.getContributions(classFile, DocumentFormat.Markdown, "", Set.of()));
+    }
+
+    @Test
+    public void testSignatureChanged() throws Exception {
+        VirtualFile classFile = findConfigPropertyClassFile();
+        Path storageDir = FileUtil.createTempDirectory("microprofile-properties", null).toPath();
+
+        MicroProfileLibraryPropertiesCache cache = new MicroProfileLibraryPropertiesCache(storageDir, "signature");
+        cache.putContributions(classFile, DocumentFormat.PlainText, "", Set.of(), createContributions("greeting.message"), Set.of());
+        cache.save();
+
+        // The persisted contributions must be ignored when the plugin or the properties providers have changed
+        MicroProfileLibraryPropertiesCache updatedCache = new MicroProfileLibraryPropertiesCache(storageDir, "updated-signature");
+        assertNull(updatedCache.getContributions(classFile, DocumentFormat.PlainText, "", Set.of()));
+        updatedCache.putContributions(classFile, DocumentFormat.PlainText, "", Set.of(), createContributions("greeting.name"), Set.of());
+        updatedCache.save();
+        assertContributions(new MicroProfileLibraryPropertiesCache(storageDir, "updated-signature")
+                .getContributions(classFile, DocumentFormat.PlainText, "", Set.of()), "greeting.name");
+    }
+
+    @Test
+    public void testConfigKey() throws Exception {
+        VirtualFile classFile = findConfigPropertyClassFile();
+        Path storageDir = FileUtil.createTempDirectory("microprofile-properties", null).toPath();
+        String configKey = "{quarkus.arc.config-properties-default-naming-strategy=verbatim}";
+
+        MicroProfileLibraryPropertiesCache cache = new MicroProfileLibraryPropertiesCache(storageDir, "signature");
+        cache.putContributions(classFile, DocumentFormat.PlainText, "", Set.of(), createContributions("greeting.message"), Set.of());
+        // The contributions computed without the config property cannot be used when the config property is defined
+        assertNull(cache.getContributions(classFile, DocumentFormat.PlainText, configKey, Set.of()));
+        cache.putContributions(classFile, DocumentFormat.PlainText, configKey, Set.of(), createContributions("greeting_message"), Set.of());
+        assertContributions(cache.getContributions(classFile, DocumentFormat.PlainText, "", Set.of()), "greeting.message");
+        assertContributions(cache.getContributions(classFile, DocumentFormat.PlainText, configKey, Set.of()), "greeting_message");
+
+        // The contributions computed with a config key are persisted when they are evicted
+        cache.evictConfiguredContributions();
+        assertContributions(new MicroProfileLibraryPropertiesCache(storageDir, "signature")
+                .getContributions(classFile, DocumentFormat.PlainText, configKey, Set.of()), "greeting_message");
+    }
+
+    @Test
+    public void testDependencyChanged() throws Exception {
+        VirtualFile classFile = findConfigPropertyClassFile();
+        VirtualFile dependencyJar = findJar("io.quarkus.runtime.annotations.ConfigRoot");
+        Path storageDir = FileUtil.createTempDirectory("microprofile-properties", null).toPath();
+        Set<String> classpath = Set.of(JarFileSystem.getInstance().getVirtualFileForJar(classFile).getPath(), dependencyJar.getPath());
+
+        MicroProfileLibraryPropertiesCache cache = new MicroProfileLibraryPropertiesCache(storageDir, "signature");
+        cache.putContributions(classFile, DocumentFormat.PlainText, "", classpath, createContributions("greeting.message"), Set.of(dependencyJar));
+        cache.save();
+        assertContributions(new MicroProfileLibraryPropertiesCache(storageDir, "signature")
+                .getContributions(classFile, DocumentFormat.PlainText, "", classpath), "greeting.message");
+
+        // The JAR which declares a referenced type is not in the classpath of the module
+        Set<String> otherClasspath = Set.of(JarFileSystem.getInstance().getVirtualFileForJar(classFile).getPath());
+        assertNull(new MicroProfileLibraryPropertiesCache(storageDir, "signature")
+                .getContributions(classFile, DocumentFormat.PlainText, "", otherClasspath));
+        // The invalid persisted contributions have been deleted
+        assertEquals(0, listStorageFiles(storageDir));
+    }
+
+    @Test
+    public void testPrune() throws Exception {
+        VirtualFile classFile = findConfigPropertyClassFile();
+        Path storageDir = FileUtil.createTempDirectory("microprofile-properties", null).toPath();
+
+        MicroProfileLibraryPropertiesCache cache = new MicroProfileLibraryPropertiesCache(storageDir, "signature");
+        cache.putContributions(classFile, DocumentFormat.PlainText, "", Set.of(), createContributions("greeting.message"), Set.of());
+        cache.save();
+        // Contributions of a JAR which has been deleted (ex : an old version of a dependency)
+        Files.writeString(storageDir.resolve("deleted.json"),
+                "{\"signature\":\"signature\",\"path\":\"" + storageDir.resolve("deleted.jar").toString().replace('\\', '/') + "\",\"length\":1,\"timestamp\":1,\"entries\":{}}",
+                StandardCharsets.UTF_8);
+        // Contributions computed by another version of the plugin
+        Files.writeString(storageDir.resolve("old.json"),
+                "{\"signature\":\"old-signature\",\"path\":\"\",\"length\":1,\"timestamp\":1,\"entries\":{}}",
+                StandardCharsets.UTF_8);
+        assertEquals(3, listStorageFiles(storageDir));
+
+        cache.prune();
+        assertEquals(1, listStorageFiles(storageDir));
+        assertContributions(new MicroProfileLibraryPropertiesCache(storageDir, "signature")
+                .getContributions(classFile, DocumentFormat.PlainText, "", Set.of()), "greeting.message");
+    }
+
+    @Test
+    public void testSignature() {
+        String signature = MicroProfileLibraryPropertiesCache.computeSignature();
+        assertTrue(signature, signature.contains(MicroProfileConfigPropertyProvider.class.getName()));
+        assertEquals(signature, MicroProfileLibraryPropertiesCache.computeSignature());
+    }
+
+    private VirtualFile findConfigPropertyClassFile() throws Exception {
+        loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+        return findClassFile("org.eclipse.microprofile.config.inject.ConfigProperty");
+    }
+
+    private VirtualFile findJar(String className) {
+        VirtualFile jarFile = JarFileSystem.getInstance().getVirtualFileForJar(findClassFile(className));
+        assertNotNull(jarFile);
+        return jarFile;
+    }
+
+    private VirtualFile findClassFile(String className) {
+        VirtualFile classFile = ReadAction.compute(() -> {
+            PsiClass psiClass = JavaPsiFacade.getInstance(getProject()).findClass(className, GlobalSearchScope.allScope(getProject()));
+            return psiClass != null ? psiClass.getContainingFile().getVirtualFile() : null;
+        });
+        assertNotNull(classFile);
+        assertTrue(MicroProfileLibraryPropertiesCache.isJarEntry(classFile));
+        return classFile;
+    }
+
+    private static long listStorageFiles(Path storageDir) throws Exception {
+        try (Stream<Path> files = Files.list(storageDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json")).count();
+        }
+    }
+
+    private static List<ConfigurationMetadata> createContributions(String propertyName) {
+        ItemMetadata property = new ItemMetadata();
+        property.setName(propertyName);
+        property.setType("java.lang.String");
+        ConfigurationMetadata contribution = new ConfigurationMetadata();
+        contribution.setProperties(List.of(property));
+        return List.of(contribution);
+    }
+
+    private static void assertContributions(List<ConfigurationMetadata> contributions, String propertyName) {
+        assertNotNull(contributions);
+        assertEquals(1, contributions.size());
+        List<ItemMetadata> properties = contributions.get(0).getProperties();
+        assertEquals(1, properties.size());
+        assertEquals(propertyName, properties.get(0).getName());
+        assertEquals("java.lang.String", properties.get(0).getType());
+    }
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.LSP4MPMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileMavenProjectName;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManager;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.assertPropertiesDuplicate;
+import static com.redhat.devtools.intellij.lsp4mp4ij.psi.core.MicroProfileAssert.saveFile;
+
+/**
+ * Test the reuse of the contributions stored in the {@link MicroProfilePropertiesIndex}: after a Java file has been
+ * updated, the properties collected with the index must be the same as the properties of a full scan.
+ */
+public class MicroProfilePropertiesIndexTest extends LSP4MPMavenModuleImportingTestCase {
+
+    @Test
+    public void testRestClientAnnotationRemoved() throws Exception {
+        Module module = loadMavenProject(MicroProfileMavenProjectName.rest_client_quickstart);
+        MicroProfileProjectInfo info = collect(module);
+        assertPropertiesDuplicate(info);
+        assertTrue(hasProperty(info, "${mp.register.rest.client.class}/mp-rest/url"));
+
+        // The '${mp.register.rest.client.class}/mp-rest/*' properties must be kept when the first
+        // @RegisterRestClient class is updated
+        String path = "org/acme/restclient/CountriesService.java";
+        updateFile(module, path, content -> content.replace("@RegisterRestClient\n", "\n"));
+        info = assertSameAsFullScan(module);
+        assertPropertiesDuplicate(info);
+        assertTrue(hasProperty(info, "${mp.register.rest.client.class}/mp-rest/url"));
+
+        // The '${mp.register.rest.client.class}/mp-rest/*' properties must not be duplicated when
+        // the @RegisterRestClient class is collected again
+        updateFile(module, path, content -> content.replace("@Path(\"/v2\")\n", "@Path(\"/v2\")\n@RegisterRestClient\n"));
+        info = assertSameAsFullScan(module);
+        assertPropertiesDuplicate(info);
+    }
+
+    @Test
+    public void testFaultToleranceClassUpdated() throws Exception {
+        Module module = loadMavenProject(MicroProfileMavenProjectName.microprofile_fault_tolerance);
+        collect(module);
+
+        // The <annotation>/<parameter> properties must not be duplicated when a class is collected again
+        updateFile(module, "org/acme/MyClient.java", content -> content + "\n// updated");
+        assertSameAsFullScan(module);
+    }
+
+    @Test
+    public void testReferencedTypeUpdated() throws Exception {
+        Module module = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+        saveFile("org/acme/config/Level.java", "package org.acme.config;\n" + //
+                "\n" + //
+                "public enum Level {\n" + //
+                "    LOW, HIGH\n" + //
+                "}\n", module, true);
+        saveFile("org/acme/config/LevelResource.java", "package org.acme.config;\n" + //
+                "\n" + //
+                "import org.eclipse.microprofile.config.inject.ConfigProperty;\n" + //
+                "\n" + //
+                "public class LevelResource {\n" + //
+                "\n" + //
+                "    @ConfigProperty(name = \"greeting.level\")\n" + //
+                "    Level level;\n" + //
+                "}\n", module, true);
+        MicroProfileProjectInfo info = collect(module);
+        assertEquals(List.of("LOW", "HIGH"), getHintValues(info, "org.acme.config.Level"));
+
+        // LevelResource has not been updated, but its contribution depends on Level
+        updateFile(module, "org/acme/config/Level.java", content -> content.replace("LOW, HIGH", "LOW, MEDIUM, HIGH"));
+        info = assertSameAsFullScan(module);
+        assertEquals(List.of("LOW", "MEDIUM", "HIGH"), getHintValues(info, "org.acme.config.Level"));
+    }
+
+    private MicroProfileProjectInfo assertSameAsFullScan(Module module) {
+        MicroProfileProjectInfo info = collect(module);
+        // Evict all the contributions to do a full scan
+        MicroProfilePropertiesIndex.getInstance(getProject()).librariesChanged();
+        MicroProfileProjectInfo fullScanInfo = collect(module);
+        assertEquals(toString(fullScanInfo), toString(info));
+        return info;
+    }
+
+    private MicroProfileProjectInfo collect(Module module) {
+        return PropertiesManager.getInstance().getMicroProfileProjectInfo(module,
+                MicroProfilePropertiesScope.ONLY_SOURCES, ClasspathKind.SRC, PsiUtilsLSImpl.getInstance(getProject()),
+                DocumentFormat.PlainText, new EmptyProgressIndicator());
+    }
+
+    private static void updateFile(Module module, String path, UnaryOperator<String> update) throws IOException {
+        for (VirtualFile sourceRoot : ModuleRootManager.getInstance(module).getSourceRoots(false)) {
+            VirtualFile file = sourceRoot.findFileByRelativePath(path);
+            if (file != null) {
+                String content = VfsUtilCore.loadText(file).replace("\r\n", "\n");
+                String newContent = update.apply(content);
+                assertFalse("The content of '" + path + "' has not been updated", content.equals(newContent));
+                saveFile(path, newContent, module, true);
+                return;
+            }
+        }
+        fail("Cannot find '" + path + "'");
+    }
+
+    private static boolean hasProperty(MicroProfileProjectInfo info, String name) {
+        return info.getProperties().stream().anyMatch(property -> name.equals(property.getName()));
+    }
+
+    private static List<String> getHintValues(MicroProfileProjectInfo info, String name) {
+        return info.getHints().stream() //
+                .filter(hint -> name.equals(hint.getName())) //
+                .flatMap(hint -> hint.getValues().stream()) //
+                .map(ValueHint::getValue) //
+                .toList();
+    }
+
+    private static String toString(MicroProfileProjectInfo info) {
+        List<String> lines = new ArrayList<>();
+        for (ItemMetadata property : info.getProperties()) {
+            lines.add(property.getName() + "|" + property.getType() + "|" + property.getSourceType() + "|"
+                    + property.getSourceField() + "|" + property.getSourceMethod() + "|"
+                    + property.getDefaultValue() + "|" + property.getDescription());
+        }
+        for (ItemHint hint : info.getHints()) {
+            StringBuilder line = new StringBuilder(hint.getName()).append('|').append(hint.getSourceType());
+            for (ValueHint value : hint.getValues()) {
+                line.append('|').append(value.getValue()).append('@').append(value.getSourceType());
+            }
+            lines.add(line.toString());
+        }
+        return String.join("\n", lines);
+    }
+}
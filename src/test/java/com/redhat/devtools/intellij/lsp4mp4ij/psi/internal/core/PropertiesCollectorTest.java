@@ -19,6 +19,7 @@ import static org.junit.Assert.assertNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.IPropertiesCollector.MergingStrategy;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.PropertiesCollector;
@@ -106,6 +107,48 @@ public class PropertiesCollectorTest {
 		assertNull(configuration.getProperties().get(0).getDescription());
 	}
 
+	@Test(timeout = 10000)
+	public void mergeLargeMetadata() {
+		// Quarkus platforms contribute more than 10k properties with static JSON
+		// providers, the merge must not be quadratic.
+		int size = 50000;
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		collector.merge(createLargeMetadata(size, null), MergingStrategy.IGNORE_IF_EXISTS);
+		assertEquals(size, configuration.getProperties().size());
+
+		collector.merge(createLargeMetadata(size, "ignored"), MergingStrategy.IGNORE_IF_EXISTS);
+		assertEquals(size, configuration.getProperties().size());
+		assertNull(configuration.getProperties().get(0).getDescription());
+
+		ConfigurationMetadata replace = createLargeMetadata(size, "replaced");
+		replace.getProperties().remove(0);
+		collector.merge(replace, MergingStrategy.REPLACE);
+		assertEquals(size, configuration.getProperties().size());
+		// the property which was not replaced is kept at the first position, the
+		// replaced properties are added at the end in the merge order.
+		assertEquals("quarkus.property0", configuration.getProperties().get(0).getName());
+		assertNull(configuration.getProperties().get(0).getDescription());
+		assertEquals("quarkus.property1", configuration.getProperties().get(1).getName());
+		assertEquals("replaced", configuration.getProperties().get(1).getDescription());
+		assertEquals("quarkus.property" + (size - 1), configuration.getProperties().get(size - 1).getName());
+		assertEquals("replaced", configuration.getProperties().get(size - 1).getDescription());
+	}
+
+	private static ConfigurationMetadata createLargeMetadata(int size, String description) {
+		ConfigurationMetadata metadata = new ConfigurationMetadata();
+		metadata.setProperties(new ArrayList<>());
+		for (int i = 0; i < size; i++) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName("quarkus.property" + i);
+			property.setDescription(description);
+			metadata.getProperties().add(property);
+		}
+		return metadata;
+	}
+
 	private static ConfigurationMetadata createToMerge() {
 		ConfigurationMetadata toMerge = new ConfigurationMetadata();
 		toMerge.setProperties(new ArrayList<>());
@@ -224,6 +267,160 @@ public class PropertiesCollectorTest {
 		assertEquals("OFF [2]", configuration1.getHints().get(0).getValues().get(5).getDescription());
 	}
 
+	// ------------ Test with contribution merge
+
+	@Test
+	public void mergeContribution() {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		ConfigurationMetadata contribution1 = new ConfigurationMetadata();
+		PropertiesCollector contributionCollector1 = new PropertiesCollector(contribution1, Collections.emptyList());
+		contributionCollector1.addItemMetadata("quarkus.log.level", "java.util.logging.Level", null, null, null,
+				null, null, null, false, 0);
+		ItemHint hint1 = contributionCollector1.getItemHint("java.util.logging.Level");
+		hint1.getValues().add(vh("OFF", "OFF [1]"));
+		hint1.getValues().add(vh("INFO", "INFO [1]"));
+
+		ConfigurationMetadata contribution2 = new ConfigurationMetadata();
+		PropertiesCollector contributionCollector2 = new PropertiesCollector(contribution2, Collections.emptyList());
+		contributionCollector2.addItemMetadata("quarkus.log.min-level", "java.util.logging.Level", null, null, null,
+				null, null, null, false, 0);
+		ItemHint hint2 = contributionCollector2.getItemHint("java.util.logging.Level");
+		hint2.getValues().add(vh("OFF", "OFF [2]"));
+		hint2.getValues().add(vh("DEBUG", "DEBUG [2]"));
+
+		collector.mergeContribution(contribution1);
+		collector.mergeContribution(contribution2);
+
+		assertEquals(2, configuration.getProperties().size());
+		assertEquals("quarkus.log.level", configuration.getProperties().get(0).getName());
+		assertEquals("quarkus.log.min-level", configuration.getProperties().get(1).getName());
+
+		assertEquals(1, configuration.getHints().size());
+		assertEquals(3, configuration.getHints().get(0).getValues().size());
+		assertEquals("OFF [1]", configuration.getHints().get(0).getValues().get(0).getDescription());
+		assertEquals("INFO [1]", configuration.getHints().get(0).getValues().get(1).getDescription());
+		assertEquals("DEBUG [2]", configuration.getHints().get(0).getValues().get(2).getDescription());
+
+		// the contributions must not be updated by the merge
+		assertEquals(2, hint1.getValues().size());
+		assertEquals(2, hint2.getValues().size());
+	}
+
+	@Test
+	public void mergeContributionWithSameProperties() {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		// The '${mp.register.rest.client.class}/mp-rest/url' property is generated by each
+		// @RegisterRestClient contribution
+		ConfigurationMetadata contribution1 = new ConfigurationMetadata();
+		PropertiesCollector contributionCollector1 = new PropertiesCollector(contribution1, Collections.emptyList());
+		contributionCollector1.addItemMetadata("${mp.register.rest.client.class}/mp-rest/url", "java.lang.String",
+				null, null, null, null, null, null, false, 0);
+		contributionCollector1.addItemMetadata("greeting", "java.lang.String", null, "org.acme.A", "greeting",
+				null, null, null, false, 0);
+
+		ConfigurationMetadata contribution2 = new ConfigurationMetadata();
+		PropertiesCollector contributionCollector2 = new PropertiesCollector(contribution2, Collections.emptyList());
+		contributionCollector2.addItemMetadata("${mp.register.rest.client.class}/mp-rest/url", "java.lang.String",
+				null, null, null, null, null, null, false, 0);
+		// same name but another source
+		contributionCollector2.addItemMetadata("greeting", "java.lang.String", null, "org.acme.B", "greeting",
+				null, null, null, false, 0);
+
+		collector.mergeContribution(contribution1);
+		collector.mergeContribution(contribution2);
+
+		assertEquals(3, configuration.getProperties().size());
+		assertEquals("${mp.register.rest.client.class}/mp-rest/url", configuration.getProperties().get(0).getName());
+		assertEquals("org.acme.A", configuration.getProperties().get(1).getSourceType());
+		assertEquals("org.acme.B", configuration.getProperties().get(2).getSourceType());
+
+		// replay the second contribution alone
+		ConfigurationMetadata replay = new ConfigurationMetadata();
+		PropertiesCollector replayCollector = new PropertiesCollector(replay,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		replayCollector.mergeContribution(contribution2);
+		assertEquals(2, replay.getProperties().size());
+		assertEquals("${mp.register.rest.client.class}/mp-rest/url", replay.getProperties().get(0).getName());
+	}
+
+	@Test
+	public void mergeContributionWithDifferentProperties() {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+
+		ConfigurationMetadata contribution1 = new ConfigurationMetadata();
+		PropertiesCollector contributionCollector1 = new PropertiesCollector(contribution1, Collections.emptyList());
+		contributionCollector1.addItemMetadata("greeting", "java.lang.String", "Greeting", "org.acme.A", "greeting",
+				null, "hello", null, false, 0);
+
+		ConfigurationMetadata contribution2 = new ConfigurationMetadata();
+		PropertiesCollector contributionCollector2 = new PropertiesCollector(contribution2, Collections.emptyList());
+		// same name, type and source but another default value
+		contributionCollector2.addItemMetadata("greeting", "java.lang.String", "Greeting", "org.acme.A", "greeting",
+				null, "bonjour", null, false, 0);
+		// same name, type and source but another description
+		contributionCollector2.addItemMetadata("greeting", "java.lang.String", "Another greeting", "org.acme.A",
+				"greeting", null, "hello", null, false, 0);
+		// the same property twice in a contribution is kept like with MergingStrategy.FORCE
+		contributionCollector2.addItemMetadata("name", "java.lang.String", null, "org.acme.A", "name", null, null,
+				null, false, 0);
+		contributionCollector2.addItemMetadata("name", "java.lang.String", null, "org.acme.A", "name", null, null,
+				null, false, 0);
+
+		collector.mergeContribution(contribution1);
+		collector.mergeContribution(contribution2);
+
+		assertEquals(5, configuration.getProperties().size());
+		assertEquals("hello", configuration.getProperties().get(0).getDefaultValue());
+		assertEquals("bonjour", configuration.getProperties().get(1).getDefaultValue());
+		assertEquals("Another greeting", configuration.getProperties().get(2).getDescription());
+		assertEquals("name", configuration.getProperties().get(3).getName());
+		assertEquals("name", configuration.getProperties().get(4).getName());
+	}
+
+	@Test
+	public void mergeContributionCopiesPropertiesAndHints() {
+		ConfigurationMetadata contribution = new ConfigurationMetadata();
+		PropertiesCollector contributionCollector = new PropertiesCollector(contribution, Collections.emptyList());
+		contributionCollector.addItemMetadata("quarkus.log.level", "java.util.logging.Level", "Log level", null,
+				null, null, "INFO", null, true, 0);
+		ItemHint hint = contributionCollector.getItemHint("java.util.logging.Level");
+		hint.getValues().add(vh("INFO", "INFO"));
+
+		// The contribution stored in the index is merged in several configurations
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		collector.mergeContribution(contribution);
+		ConfigurationMetadata otherConfiguration = new ConfigurationMetadata();
+		PropertiesCollector otherCollector = new PropertiesCollector(otherConfiguration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		otherCollector.getItemHint("java.util.logging.Level").getValues().add(vh("OFF", "OFF"));
+		otherCollector.mergeContribution(contribution);
+
+		ItemMetadata property = configuration.getProperties().get(0);
+		assertEquals("quarkus.log.level", property.getName());
+		assertEquals("Log level", property.getDescription());
+		assertEquals("INFO", property.getDefaultValue());
+		assertEquals(1, configuration.getHints().get(0).getValues().size());
+		assertEquals(2, otherConfiguration.getHints().get(0).getValues().size());
+
+		// Updating the merged properties and hints doesn't update the contribution
+		property.setDescription("Updated");
+		configuration.getHints().get(0).getValues().get(0).setDescription("Updated");
+		otherConfiguration.getHints().get(0).getValues().get(1).setDescription("Updated");
+		assertEquals("Log level", contribution.getProperties().get(0).getDescription());
+		assertEquals("INFO", contribution.getHints().get(0).getValues().get(0).getDescription());
+		assertEquals("Log level", otherConfiguration.getProperties().get(0).getDescription());
+	}
+
 	private static ValueHint vh(String value, String description) {
 		ValueHint debug = new ValueHint();
 		debug.setValue(value);
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.javadoc;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test for {@link JavadocRenderingCache}.
+ */
+public class JavadocRenderingCacheTest {
+
+    private final List<String> rendered = new ArrayList<>();
+
+    private final Function<String, String> renderer = javadoc -> {
+        rendered.add(javadoc);
+        return javadoc.toUpperCase();
+    };
+
+    @Test
+    public void renderingReused() {
+        JavadocRenderingCache cache = new JavadocRenderingCache(100);
+        assertEquals("HELLO", cache.getRendering("hello", JavadocRenderingCache.Format.MARKDOWN, renderer));
+        assertEquals("HELLO", cache.getRendering("hello", JavadocRenderingCache.Format.MARKDOWN, renderer));
+        assertEquals(List.of("hello"), rendered);
+
+        // The rendering is cached per format
+        assertEquals("HELLO", cache.getRendering("hello", JavadocRenderingCache.Format.PLAIN_TEXT, renderer));
+        assertEquals(List.of("hello", "hello"), rendered);
+        assertEquals(2, cache.size());
+        assertEquals(20, cache.getWeight());
+    }
+
+    @Test
+    public void leastRecentlyUsedEvicted() {
+        // Each entry weighs 10 (5 characters for the Javadoc and 5 for its rendering)
+        JavadocRenderingCache cache = new JavadocRenderingCache(30);
+        cache.getRendering("aaaaa", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        cache.getRendering("bbbbb", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        cache.getRendering("ccccc", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        assertEquals(3, cache.size());
+        assertEquals(30, cache.getWeight());
+
+        // Access 'aaaaa' so that 'bbbbb' becomes the least recently used entry
+        cache.getRendering("aaaaa", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        cache.getRendering("ddddd", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        assertEquals(3, cache.size());
+        assertEquals(30, cache.getWeight());
+
+        rendered.clear();
+        cache.getRendering("aaaaa", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        cache.getRendering("ccccc", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        cache.getRendering("ddddd", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        assertEquals(List.of(), rendered);
+        cache.getRendering("bbbbb", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        assertEquals(List.of("bbbbb"), rendered);
+    }
+
+    @Test
+    public void heavyEntriesEvictSeveralEntries() {
+        JavadocRenderingCache cache = new JavadocRenderingCache(30);
+        cache.getRendering("aaaaa", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        cache.getRendering("bbbbb", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        cache.getRendering("ccccc", JavadocRenderingCache.Format.MARKDOWN, renderer);
+
+        // An entry which weighs 20 evicts the 2 least recently used entries
+        cache.getRendering("dddddddddd", JavadocRenderingCache.Format.MARKDOWN, renderer);
+        assertEquals(2, cache.size());
+        assertEquals(30, cache.getWeight());
+
+        // An entry heavier than the maximum weight is not cached
+        String javadoc = "e".repeat(20);
+        rendered.clear();
+        cache.getRendering(javadoc, JavadocRenderingCache.Format.MARKDOWN, renderer);
+        cache.getRendering(javadoc, JavadocRenderingCache.Format.MARKDOWN, renderer);
+        assertEquals(List.of(javadoc, javadoc), rendered);
+        assertEquals(2, cache.size());
+        assertEquals(30, cache.getWeight());
+    }
+}
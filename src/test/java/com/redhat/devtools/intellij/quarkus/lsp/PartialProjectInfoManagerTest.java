@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution,
+ * and is available at https://www.eclipse.org/legal/epl-v20.html
+ *
+ * Contributors:
+ * Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package com.redhat.devtools.intellij.quarkus.lsp;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link PartialProjectInfoManager}.
+ */
+public class PartialProjectInfoManagerTest {
+
+    private static final String KEY = "file:///project/application.properties#[sources, dependencies]#Markdown";
+
+    @Test
+    public void sourcesFirstThenComplete() throws Exception {
+        PartialProjectInfoManager manager = new PartialProjectInfoManager();
+        List<MicroProfileProjectInfo> notified = new ArrayList<>();
+        CompletableFuture<MicroProfileProjectInfo> fullInfo = new CompletableFuture<>();
+        CompletableFuture<MicroProfileProjectInfo> sourcesInfo = new CompletableFuture<>();
+        MicroProfileProjectInfo sources = createProjectInfo();
+        MicroProfileProjectInfo full = createProjectInfo();
+
+        CompletableFuture<MicroProfileProjectInfo> result = manager.computeProjectInfo(KEY, () -> fullInfo, () -> sourcesInfo, notified::add);
+        sourcesInfo.complete(sources);
+        assertSame(sources, result.get());
+        assertTrue(notified.isEmpty());
+
+        fullInfo.complete(full);
+        assertEquals(List.of(full), notified);
+
+        // The complete project info is returned for all the requests until the next change,
+        // to not start a new computation which would notify the language server again
+        assertSame(full, manager.getCompletedProjectInfo(KEY));
+        assertSame(full, manager.getCompletedProjectInfo(KEY));
+
+        manager.invalidate();
+        assertNull(manager.getCompletedProjectInfo(KEY));
+    }
+
+    @Test
+    public void completeFirst() throws Exception {
+        PartialProjectInfoManager manager = new PartialProjectInfoManager();
+        List<MicroProfileProjectInfo> notified = new ArrayList<>();
+        CompletableFuture<MicroProfileProjectInfo> sourcesInfo = new CompletableFuture<>();
+        MicroProfileProjectInfo full = createProjectInfo();
+
+        CompletableFuture<MicroProfileProjectInfo> result = manager.computeProjectInfo(KEY,
+                () -> CompletableFuture.completedFuture(full), () -> sourcesInfo, notified::add);
+        assertSame(full, result.get());
+        // The complete project info has been returned, there is nothing to notify
+        assertTrue(notified.isEmpty());
+        assertNull(manager.getCompletedProjectInfo(KEY));
+    }
+
+    @Test
+    public void invalidateCancelsPendingComputation() throws Exception {
+        PartialProjectInfoManager manager = new PartialProjectInfoManager();
+        List<MicroProfileProjectInfo> notified = new ArrayList<>();
+        CompletableFuture<MicroProfileProjectInfo> fullInfo = new CompletableFuture<>();
+        CompletableFuture<MicroProfileProjectInfo> sourcesInfo = new CompletableFuture<>();
+        MicroProfileProjectInfo sources = createProjectInfo();
+
+        CompletableFuture<MicroProfileProjectInfo> result = manager.computeProjectInfo(KEY, () -> fullInfo, () -> sourcesInfo, notified::add);
+        sourcesInfo.complete(sources);
+        assertSame(sources, result.get());
+
+        // A classpath / sources change makes the pending complete project info obsolete
+        manager.invalidate();
+        assertTrue(fullInfo.isCancelled());
+        assertTrue(notified.isEmpty());
+        assertNull(manager.getCompletedProjectInfo(KEY));
+    }
+
+    @Test
+    public void newRequestCancelsPreviousComputation() throws Exception {
+        PartialProjectInfoManager manager = new PartialProjectInfoManager();
+        List<MicroProfileProjectInfo> notified = new ArrayList<>();
+        CompletableFuture<MicroProfileProjectInfo> previousFullInfo = new CompletableFuture<>();
+        CompletableFuture<MicroProfileProjectInfo> fullInfo = new CompletableFuture<>();
+        MicroProfileProjectInfo sources = createProjectInfo();
+        MicroProfileProjectInfo full = createProjectInfo();
+
+        manager.computeProjectInfo(KEY, () -> previousFullInfo, () -> CompletableFuture.completedFuture(sources), notified::add);
+        CompletableFuture<MicroProfileProjectInfo> result = manager.computeProjectInfo(KEY, () -> fullInfo,
+                () -> CompletableFuture.completedFuture(sources), notified::add);
+        assertTrue(previousFullInfo.isCancelled());
+        assertSame(sources, result.get());
+
+        fullInfo.complete(full);
+        assertEquals(List.of(full), notified);
+        assertSame(full, manager.getCompletedProjectInfo(KEY));
+    }
+
+    private static MicroProfileProjectInfo createProjectInfo() {
+        MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+        info.setProjectURI("file:///project");
+        return info;
+    }
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.lang.psi;
+
+import com.intellij.lexer.Lexer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for the restart of the {@link QuteLexer} in the middle of a large template, like the
+ * {@link com.intellij.openapi.editor.ex.util.LexerEditorHighlighter} does after a document change.
+ */
+public class QuteLexerRestartTest {
+
+    private static final String ITEM = """
+            <tr class="{#if item.active}active{#else}inactive{/if}">
+              {! The item name !}
+              <td>{item.name.toUpperCase()}</td>
+              <td>{item.price ?: 0} {item.discount(customer, 'EUR', true)}</td>
+              {#let total=item.price.multiply(item.quantity) label="Total"}
+                <td>{label}: {total}</td>
+              {/let}
+              {#include footer /}
+            </tr>
+            """;
+
+    @Test
+    public void restartAtContentState() {
+        String text = createLargeTemplate(50);
+        List<Token> tokens = lex(new QuteLexer(false), text, 0);
+        int restarts = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (token.state == QuteLexer.CONTENT_STATE) {
+                List<Token> restartedTokens = lex(new QuteLexer(false), text, token.start);
+                assertEquals("Restart at " + token.start, tokens.subList(i, tokens.size()), restartedTokens);
+                restarts++;
+            }
+        }
+        assertTrue(restarts > 50);
+    }
+
+    @Test
+    public void noRestartInsideExpression() {
+        String text = "<p>{item.name}</p>";
+        List<Token> tokens = lex(new QuteLexer(false), text, 0);
+        for (Token token : tokens) {
+            if (token.start > 3 && token.end <= 14) {
+                // {item.name}
+                assertNotEquals("State of token at " + token.start, QuteLexer.CONTENT_STATE, token.state);
+            }
+        }
+    }
+
+    @Test
+    public void restartWithSameLexer() {
+        String text = createLargeTemplate(2_000);
+        QuteLexer lexer = new QuteLexer(true);
+        List<Token> tokens = lex(lexer, text, 0);
+        assertTrue(tokens.size() > 2_000 * 40);
+        int offset = tokens.get(tokens.size() / 2).start;
+        int index = indexOf(tokens, offset);
+        while (tokens.get(index).state != QuteLexer.CONTENT_STATE) {
+            index--;
+        }
+        assertEquals(tokens.subList(index, tokens.size()), lex(lexer, text, tokens.get(index).start));
+    }
+
+    private static String createLargeTemplate(int nbItems) {
+        StringBuilder text = new StringBuilder("---\ntitle: Order\n---\n<table>\n");
+        for (int i = 0; i < nbItems; i++) {
+            text.append(ITEM);
+        }
+        return text.append("</table>\n").toString();
+    }
+
+    private static int indexOf(List<Token> tokens, int offset) {
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.get(i).start == offset) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<Token> lex(Lexer lexer, String text, int startOffset) {
+        List<Token> tokens = new ArrayList<>();
+        lexer.start(text, startOffset, text.length(), QuteLexer.CONTENT_STATE);
+        while (lexer.getTokenType() != null) {
+            tokens.add(new Token(lexer.getTokenType().toString(), lexer.getTokenStart(), lexer.getTokenEnd(), lexer.getState()));
+            lexer.advance();
+        }
+        return tokens;
+    }
+
+    private record Token(String type, int start, int end, int state) {
+    }
+}
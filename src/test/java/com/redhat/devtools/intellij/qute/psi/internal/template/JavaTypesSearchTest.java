@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenProjectName;
+import com.redhat.qute.commons.JavaTypeInfo;
+import com.redhat.qute.commons.JavaTypeKind;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests for the limits and the cache of {@link JavaTypesSearch}.
+ */
+public class JavaTypesSearchTest extends QuteMavenModuleImportingTestCase {
+
+    private Module module;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+    }
+
+    @Test
+    public void testMaxTypes() throws Exception {
+        // A lot of classes of the JDK and the Quarkus libraries start with 'S'
+        List<JavaTypeInfo> javaTypes = search("S");
+        assertEquals(JavaTypesSearch.MAX_TYPES, javaTypes.size());
+        assertEquals(JavaTypesSearch.MAX_TYPES, javaTypes.stream().map(JavaTypeInfo::getSignature).distinct().count());
+        assertTrue(javaTypes.stream().noneMatch(javaType -> javaType.getJavaElementKind() == JavaTypeKind.Package));
+        // The search has been stopped after the maximum number of candidates
+        List<JavaTypeInfo> cachedClasses = JavaTypesSearch.getCachedClasses(module, "S");
+        assertNotNull(cachedClasses);
+        assertEquals(JavaTypesSearch.MAX_CANDIDATES, cachedClasses.size());
+    }
+
+    @Test
+    public void testModuleClassesFirst() throws Exception {
+        List<JavaTypeInfo> javaTypes = search("I");
+        assertEquals(JavaTypesSearch.MAX_TYPES, javaTypes.size());
+        // The classes of the module are returned even if there are too many classes in the libraries
+        assertTrue(javaTypes.get(0).getSignature().startsWith("org.acme.qute."));
+        assertTrue(javaTypes.stream().anyMatch(javaType -> javaType.getSignature().equals("org.acme.qute.Item")));
+        assertTrue(javaTypes.stream().anyMatch(javaType -> javaType.getSignature().equals("org.acme.qute.InjectedData")));
+    }
+
+    @Test
+    public void testPrefixSearchReused() throws Exception {
+        search("It");
+        List<JavaTypeInfo> prefixClasses = JavaTypesSearch.getCachedClasses(module, "It");
+        assertNotNull(prefixClasses);
+        assertTrue(prefixClasses.size() < JavaTypesSearch.MAX_CANDIDATES);
+
+        // The classes of 'Item' are filtered from the complete search of 'It'
+        List<JavaTypeInfo> javaTypes = search("Item");
+        assertTrue(javaTypes.stream().anyMatch(javaType -> javaType.getSignature().equals("org.acme.qute.Item")));
+        assertTrue(javaTypes.stream().anyMatch(javaType -> javaType.getSignature().equals("org.acme.qute.ItemResource")));
+        assertTrue(javaTypes.stream().noneMatch(javaType -> javaType.getSignature().startsWith("java.util.Iterator")));
+        List<JavaTypeInfo> classes = JavaTypesSearch.getCachedClasses(module, "Item");
+        assertNotNull(classes);
+        assertFalse(classes.isEmpty());
+        assertTrue(prefixClasses.size() > classes.size());
+        Set<JavaTypeInfo> prefixInstances = toIdentitySet(prefixClasses);
+        assertTrue(classes.stream().allMatch(prefixInstances::contains));
+
+        // The same search is returned from the cache
+        assertEquals(javaTypes, search("Item"));
+        assertSame(classes.get(0), JavaTypesSearch.getCachedClasses(module, "Item").get(0));
+    }
+
+    @Test
+    public void testIncompletePrefixSearchNotReused() throws Exception {
+        search("S");
+        List<JavaTypeInfo> prefixClasses = JavaTypesSearch.getCachedClasses(module, "S");
+        assertNotNull(prefixClasses);
+        assertEquals(JavaTypesSearch.MAX_CANDIDATES, prefixClasses.size());
+
+        // The search of 'S' has been stopped, the classes of 'St' are searched again
+        assertFalse(search("St").isEmpty());
+        List<JavaTypeInfo> classes = JavaTypesSearch.getCachedClasses(module, "St");
+        assertNotNull(classes);
+        Set<JavaTypeInfo> prefixInstances = toIdentitySet(prefixClasses);
+        assertTrue(classes.stream().noneMatch(prefixInstances::contains));
+    }
+
+    private List<JavaTypeInfo> search(String pattern) {
+        return ReadAction.compute(() -> new JavaTypesSearch(pattern, module).search(new EmptyProgressIndicator()));
+    }
+
+    private static Set<JavaTypeInfo> toIdentitySet(List<JavaTypeInfo> javaTypes) {
+        Set<JavaTypeInfo> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        instances.addAll(javaTypes);
+        return instances;
+    }
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.testFramework.IndexingTestUtil;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenProjectName;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Tests for {@link QuteTemplateDataIndex}.
+ */
+public class QuteTemplateDataIndexTest extends QuteMavenModuleImportingTestCase {
+
+    private static final String OTHER_RESOURCE = "package org.acme.qute;\n" + //
+            "\n" + //
+            "import javax.inject.Inject;\n" + //
+            "\n" + //
+            "import io.quarkus.qute.Template;\n" + //
+            "import io.quarkus.qute.TemplateInstance;\n" + //
+            "\n" + //
+            "public class OtherResource {\n" + //
+            "\n" + //
+            "    @Inject\n" + //
+            "    Template other;\n" + //
+            "\n" + //
+            "    public TemplateInstance get() {\n" + //
+            "        return other.data(\"%s\", 12);\n" + //
+            "    }\n" + //
+            "}\n";
+
+    @Test
+    public void testUpdateOneFile() throws Exception {
+        Module module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+        QuteTemplateDataIndex index = QuteTemplateDataIndex.getInstance(getProject());
+        VirtualFile helloFile = findSourceFile(module, "org/acme/qute/HelloResource.java");
+        VirtualFile otherFile = saveSourceFile(helloFile.getParent(), "OtherResource.java", String.format(OTHER_RESOURCE, "age"));
+
+        QuteTemplateDataIndex.FileDataInvocations helloInvocations = ReadAction.compute(() -> index.getFileDataInvocations(helloFile));
+        QuteTemplateDataIndex.FileDataInvocations otherInvocations = ReadAction.compute(() -> index.getFileDataInvocations(otherFile));
+        assertNotNull(helloInvocations);
+        assertNotNull(otherInvocations);
+        assertReferences(module, index, "org.acme.qute.HelloResource", "hello");
+        assertReferences(module, index, "org.acme.qute.OtherResource", "other");
+        long modificationCount = ReadAction.compute(index::getModificationCount);
+
+        // Update the template#data invocation of OtherResource
+        saveSourceFile(helloFile.getParent(), "OtherResource.java", String.format(OTHER_RESOURCE, "name"));
+
+        // Only the invocations of OtherResource have been collected again
+        assertSame(helloInvocations, ReadAction.compute(() -> index.getFileDataInvocations(helloFile)));
+        QuteTemplateDataIndex.FileDataInvocations updatedOtherInvocations = ReadAction.compute(() -> index.getFileDataInvocations(otherFile));
+        assertNotNull(updatedOtherInvocations);
+        assertNotSame(otherInvocations, updatedOtherInvocations);
+        assertTrue(ReadAction.compute(index::getModificationCount) > modificationCount);
+        assertReferences(module, index, "org.acme.qute.HelloResource", "hello");
+        assertReferences(module, index, "org.acme.qute.OtherResource", "other");
+    }
+
+    private void assertReferences(Module module, QuteTemplateDataIndex index, String className, String fieldName) {
+        ReadAction.run(() -> {
+            PsiClass psiClass = JavaPsiFacade.getInstance(getProject()).findClass(className, module.getModuleScope());
+            assertNotNull(psiClass);
+            PsiField field = psiClass.findFieldByName(fieldName, false);
+            assertNotNull(field);
+            List<PsiElement> references = index.getDataMethodInvocationReferences(field);
+            assertFalse(references.isEmpty());
+            for (PsiElement reference : references) {
+                assertTrue(reference.isValid());
+                assertEquals(fieldName, reference.getText());
+            }
+        });
+    }
+
+    private static VirtualFile findSourceFile(Module module, String path) {
+        for (VirtualFile sourceRoot : ModuleRootManager.getInstance(module).getSourceRoots(false)) {
+            VirtualFile file = sourceRoot.findFileByRelativePath(path);
+            if (file != null) {
+                return file;
+            }
+        }
+        fail("Cannot find '" + path + "'");
+        return null;
+    }
+
+    private VirtualFile saveSourceFile(VirtualFile folder, String name, String content) throws Exception {
+        VirtualFile file = WriteAction.computeAndWait(() -> {
+            VirtualFile javaFile = folder.findOrCreateChildData(QuteTemplateDataIndexTest.class, name);
+            VfsUtil.saveText(javaFile, content);
+            PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+            return javaFile;
+        });
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+        return file;
+    }
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenProjectName;
+import org.junit.Test;
+
+/**
+ * Tests for {@link QuteTemplateFilesIndex}: the index updated from the VFS events must always be the same as the index
+ * rebuilt from scratch.
+ */
+public class QuteTemplateFilesIndexTest extends QuteMavenModuleImportingTestCase {
+
+    @Test
+    public void testCreateAndDeleteTemplate() throws Exception {
+        Module module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+        QuteTemplateFilesIndex index = QuteTemplateFilesIndex.getInstance(getProject());
+        VirtualFile templatesDir = index.getTemplatesDir(module);
+        assertNotNull(templatesDir);
+        assertNotNull(index.findTemplateFile(module, templatesDir, "hello.qute.html"));
+        assertNotNull(index.findTemplateFile(module, templatesDir, "ItemResource/items.qute.html"));
+        assertNull(index.findTemplateFile(module, templatesDir, "ItemResource/foo.html"));
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Create a template
+        VirtualFile itemResourceDir = templatesDir.findChild("ItemResource");
+        VirtualFile foo = WriteAction.computeAndWait(() -> itemResourceDir.createChildData(this, "foo.html"));
+        // The index has been updated and not evicted
+        assertNotNull(index.getIndexedTemplateFiles(module));
+        assertEquals(foo, index.findTemplateFile(module, templatesDir, "ItemResource/foo.html"));
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Delete the template
+        WriteAction.runAndWait(() -> foo.delete(this));
+        assertNotNull(index.getIndexedTemplateFiles(module));
+        assertNull(index.findTemplateFile(module, templatesDir, "ItemResource/foo.html"));
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Create and delete a file outside the templates folder
+        VirtualFile resourcesDir = templatesDir.getParent();
+        VirtualFile bar = WriteAction.computeAndWait(() -> resourcesDir.createChildData(this, "bar.html"));
+        WriteAction.runAndWait(() -> bar.delete(this));
+        assertNotNull(index.getIndexedTemplateFiles(module));
+        assertTemplateFiles(index, module, templatesDir);
+    }
+
+    @Test
+    public void testCreateRenameAndDeleteFolder() throws Exception {
+        Module module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+        QuteTemplateFilesIndex index = QuteTemplateFilesIndex.getInstance(getProject());
+        VirtualFile templatesDir = index.getTemplatesDir(module);
+        assertNotNull(templatesDir);
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Create a folder with a template
+        VirtualFile newDir = WriteAction.computeAndWait(() -> {
+            VirtualFile dir = templatesDir.createChildDirectory(this, "NewResource");
+            dir.createChildData(this, "new.html");
+            return dir;
+        });
+        assertNotNull(index.findTemplateFile(module, templatesDir, "NewResource/new.html"));
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Rename the folder
+        WriteAction.runAndWait(() -> newDir.rename(this, "RenamedResource"));
+        assertNull(index.findTemplateFile(module, templatesDir, "NewResource/new.html"));
+        assertNotNull(index.findTemplateFile(module, templatesDir, "RenamedResource/new.html"));
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Delete the folder
+        WriteAction.runAndWait(() -> newDir.delete(this));
+        assertNull(index.findTemplateFile(module, templatesDir, "RenamedResource/new.html"));
+        assertTemplateFiles(index, module, templatesDir);
+    }
+
+    @Test
+    public void testMoveAndRenameTemplate() throws Exception {
+        Module module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+        QuteTemplateFilesIndex index = QuteTemplateFilesIndex.getInstance(getProject());
+        VirtualFile templatesDir = index.getTemplatesDir(module);
+        assertNotNull(templatesDir);
+        VirtualFile page1 = index.findTemplateFile(module, templatesDir, "detail/page1.html");
+        assertNotNull(page1);
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Move a template to the templates folder
+        WriteAction.runAndWait(() -> page1.move(this, templatesDir));
+        assertNull(index.findTemplateFile(module, templatesDir, "detail/page1.html"));
+        assertEquals(page1, index.findTemplateFile(module, templatesDir, "page1.html"));
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Rename the template
+        WriteAction.runAndWait(() -> page1.rename(this, "page2.html"));
+        assertNull(index.findTemplateFile(module, templatesDir, "page1.html"));
+        assertEquals(page1, index.findTemplateFile(module, templatesDir, "page2.html"));
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Move the template outside the templates folder
+        VirtualFile resourcesDir = templatesDir.getParent();
+        WriteAction.runAndWait(() -> page1.move(this, resourcesDir));
+        assertNull(index.findTemplateFile(module, templatesDir, "page2.html"));
+        assertTemplateFiles(index, module, templatesDir);
+
+        // Move a file from outside the templates folder to a sub folder of the templates folder
+        VirtualFile detailDir = templatesDir.findChild("detail");
+        WriteAction.runAndWait(() -> page1.move(this, detailDir));
+        assertEquals(page1, index.findTemplateFile(module, templatesDir, "detail/page2.html"));
+        assertTemplateFiles(index, module, templatesDir);
+    }
+
+    @Test
+    public void testRenameTemplatesFolder() throws Exception {
+        Module module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+        QuteTemplateFilesIndex index = QuteTemplateFilesIndex.getInstance(getProject());
+        VirtualFile templatesDir = index.getTemplatesDir(module);
+        assertNotNull(templatesDir);
+        assertNotNull(index.findTemplateFile(module, templatesDir, "hello.qute.html"));
+
+        // Rename the templates folder
+        WriteAction.runAndWait(() -> templatesDir.rename(this, "templates2"));
+        assertNull(index.getTemplatesDir(module));
+        assertNull(index.getIndexedTemplateFiles(module));
+
+        // Rename it back
+        WriteAction.runAndWait(() -> templatesDir.rename(this, "templates"));
+        assertEquals(templatesDir, index.getTemplatesDir(module));
+        assertNotNull(index.findTemplateFile(module, templatesDir, "hello.qute.html"));
+        assertTemplateFiles(index, module, templatesDir);
+    }
+
+    private static void assertTemplateFiles(QuteTemplateFilesIndex index, Module module, VirtualFile templatesDir) {
+        // Rebuild the index if it has been evicted by a VFS event
+        index.findTemplateFile(module, templatesDir, "hello.qute.html");
+        assertEquals(QuteTemplateFilesIndex.collectTemplateFiles(templatesDir), index.getIndexedTemplateFiles(module));
+    }
+}
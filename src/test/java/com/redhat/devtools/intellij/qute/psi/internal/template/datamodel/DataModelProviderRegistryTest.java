@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package com.redhat.devtools.intellij.qute.psi.internal.template.datamodel;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.testFramework.IndexingTestUtil;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenModuleImportingTestCase;
+import com.redhat.devtools.intellij.qute.psi.QuteMavenProjectName;
+import com.redhat.devtools.intellij.qute.psi.QuteSupportForTemplate;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.commons.datamodel.QuteDataModelProjectParams;
+import org.junit.Test;
+
+import static com.redhat.devtools.intellij.qute.psi.QuteAssert.assertNotValueResolver;
+import static com.redhat.devtools.intellij.qute.psi.QuteAssert.assertParameter;
+import static com.redhat.devtools.intellij.qute.psi.QuteAssert.assertValueResolver;
+
+/**
+ * Test the reuse of the data model collected per Java file by the {@link DataModelProviderRegistry}.
+ */
+public class DataModelProviderRegistryTest extends QuteMavenModuleImportingTestCase {
+
+    private static final String UPPER_SIGNATURE = "upper(value : java.lang.String) : java.lang.String";
+
+    @Test
+    public void testUpdateOneFile() throws Exception {
+        Module module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+        VirtualFile templatesFile = findSourceFile(module, "org/acme/qute/Templates.java");
+        VirtualFile extensionsFile = findSourceFile(module, "org/acme/qute/MyTemplateExtensions.java");
+        VirtualFile libraryFile = findLibraryFile(module, "io.quarkus.qute.runtime.extensions.CollectionTemplateExtensions");
+
+        DataModelProject<DataModelTemplate<DataModelParameter>> project = getDataModelProject();
+        assertNotNull(project.findDataModelTemplate("src/main/resources/templates/hello2"));
+        assertNotValueResolver(null, UPPER_SIGNATURE, "org.acme.qute.MyTemplateExtensions", null, project.getValueResolvers());
+        DataModelProviderRegistry registry = DataModelProviderRegistry.getInstance();
+        DataModelProject<DataModelTemplate<DataModelParameter>> templatesDataModel = registry.getFileDataModel(module, templatesFile);
+        DataModelProject<DataModelTemplate<DataModelParameter>> extensionsDataModel = registry.getFileDataModel(module, extensionsFile);
+        DataModelProject<DataModelTemplate<DataModelParameter>> libraryDataModel = registry.getFileDataModel(module, libraryFile);
+        assertNotNull(templatesDataModel);
+        assertNotNull(extensionsDataModel);
+        assertNotNull(libraryDataModel);
+
+        // Add a template extension method in the @TemplateExtension class
+        updateFile(extensionsFile, "public class MyTemplateExtensions {\n", "public class MyTemplateExtensions {\n" + //
+                "\n" + //
+                "    static String upper(String value) {\n" + //
+                "        return value.toUpperCase();\n" + //
+                "    }\n");
+
+        // The merged data model is updated
+        project = getDataModelProject();
+        assertValueResolver(null, UPPER_SIGNATURE, "org.acme.qute.MyTemplateExtensions", project.getValueResolvers());
+        assertNotNull(project.findDataModelTemplate("src/main/resources/templates/hello2"));
+        // The data model of the source files has been collected again, the data model of the libraries is reused
+        assertNotSame(templatesDataModel, registry.getFileDataModel(module, templatesFile));
+        assertNotSame(extensionsDataModel, registry.getFileDataModel(module, extensionsFile));
+        assertSame(libraryDataModel, registry.getFileDataModel(module, libraryFile));
+
+        // Add a template in the @CheckedTemplate class
+        templatesDataModel = registry.getFileDataModel(module, templatesFile);
+        extensionsDataModel = registry.getFileDataModel(module, extensionsFile);
+        updateFile(templatesFile, "    public static native TemplateInstance hello3(String name);\n",
+                "    public static native TemplateInstance hello3(String name);\n" + //
+                        "    public static native TemplateInstance hello4(String name);\n");
+
+        project = getDataModelProject();
+        DataModelTemplate<DataModelParameter> hello4Template = project.findDataModelTemplate("src/main/resources/templates/hello4");
+        assertNotNull(hello4Template);
+        assertEquals("org.acme.qute.Templates", hello4Template.getSourceType());
+        assertValueResolver(null, UPPER_SIGNATURE, "org.acme.qute.MyTemplateExtensions", project.getValueResolvers());
+        assertNotSame(extensionsDataModel, registry.getFileDataModel(module, extensionsFile));
+        assertNotSame(templatesDataModel, registry.getFileDataModel(module, templatesFile));
+        assertSame(libraryDataModel, registry.getFileDataModel(module, libraryFile));
+    }
+
+    @Test
+    public void testCreateParameterType() throws Exception {
+        Module module = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+        VirtualFile templatesFile = findSourceFile(module, "org/acme/qute/Templates.java");
+
+        // Add a template with a parameter type which doesn't exist yet
+        updateFile(templatesFile, "    public static native TemplateInstance hello3(String name);\n",
+                "    public static native TemplateInstance hello3(String name);\n" + //
+                        "    public static native TemplateInstance hello5(Greeting greeting);\n");
+        assertNotNull(getDataModelProject().findDataModelTemplate("src/main/resources/templates/hello5"));
+
+        // Create the parameter type without modifying the @CheckedTemplate class
+        WriteAction.runAndWait(() -> {
+            VirtualFile greetingFile = templatesFile.getParent().createChildData(this, "Greeting.java");
+            VfsUtil.saveText(greetingFile, "package org.acme.qute;\n\npublic class Greeting {\n}\n");
+            PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        });
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+
+        // The parameter type of the template is resolved
+        DataModelTemplate<DataModelParameter> hello5Template = getDataModelProject().findDataModelTemplate("src/main/resources/templates/hello5");
+        assertNotNull(hello5Template);
+        assertParameter("greeting", "org.acme.qute.Greeting", false, hello5Template);
+    }
+
+    private DataModelProject<DataModelTemplate<DataModelParameter>> getDataModelProject() {
+        QuteDataModelProjectParams params = new QuteDataModelProjectParams(QuteMavenProjectName.qute_quickstart);
+        DataModelProject<DataModelTemplate<DataModelParameter>> project = QuteSupportForTemplate.getInstance()
+                .getDataModelProject(params, PsiUtilsLSImpl.getInstance(getProject()), new EmptyProgressIndicator());
+        assertNotNull(project);
+        return project;
+    }
+
+    private static VirtualFile findSourceFile(Module module, String path) {
+        for (VirtualFile sourceRoot : ModuleRootManager.getInstance(module).getSourceRoots(false)) {
+            VirtualFile file = sourceRoot.findFileByRelativePath(path);
+            if (file != null) {
+                return file;
+            }
+        }
+        fail("Cannot find '" + path + "'");
+        return null;
+    }
+
+    private static VirtualFile findLibraryFile(Module module, String className) {
+        VirtualFile file = ReadAction.compute(() -> {
+            PsiClass type = JavaPsiFacade.getInstance(module.getProject()).findClass(className, module.getModuleWithLibrariesScope());
+            return type != null ? type.getContainingFile().getVirtualFile() : null;
+        });
+        assertNotNull("Cannot find '" + className + "'", file);
+        return file;
+    }
+
+    private void updateFile(VirtualFile file, String oldText, String newText) throws Exception {
+        WriteAction.runAndWait(() -> {
+            String content = VfsUtilCore.loadText(file).replace("\r\n", "\n");
+            assertTrue("Cannot find '" + oldText + "' in '" + file.getName() + "'", content.contains(oldText));
+            VfsUtil.saveText(file, content.replace(oldText, newText));
+            PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        });
+        IndexingTestUtil.waitUntilIndexesAreReady(getProject());
+    }
+}
@@ -13,9 +13,11 @@ package com.redhat.microprofile.psi.quarkus.jaxrs;
 
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.util.registry.Registry;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.openapi.vfs.VirtualFile;
+import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.PropertiesManagerForJava;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.core.utils.IPsiUtils;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.ls.PsiUtilsLSImpl;
 import com.redhat.devtools.intellij.lsp4mp4ij.psi.internal.core.providers.MicroProfileConfigSourceProvider;
@@ -134,6 +136,31 @@ public class JaxRsCodeLensTest extends QuarkusMavenModuleImportingTestCase {
 
 	}
 
+	@Test
+	public void testUrlCodeLensParallelParticipants() throws Exception {
+		// The port and root path stored in the codeLens context by the Quarkus participant must be used
+		// by the JAX-RS URL codeLens when the Java participants are executed in parallel
+		Registry.get(PropertiesManagerForJava.PARALLEL_PARTICIPANTS_REGISTRY_KEY).setValue(true, getTestRootDisposable());
+		Module javaProject = loadMavenProject(QuarkusMavenProjectName.hibernate_orm_resteasy);
+		IPsiUtils utils = PsiUtilsLSImpl.getInstance(getProject());
+
+		MicroProfileJavaCodeLensParams params = new MicroProfileJavaCodeLensParams();
+		params.setCheckServerAvailable(false);
+		String javaFileUri = getFileUri("/src/main/java/org/acme/hibernate/orm/FruitResource.java", javaProject);
+		params.setUri(javaFileUri);
+		params.setUrlCodeLensEnabled(true);
+
+		saveFile(QuarkusConfigSourceProvider.APPLICATION_YAML_FILE, "", javaProject);
+		saveFile(QuarkusConfigSourceProvider.APPLICATION_PROPERTIES_FILE, "", javaProject);
+
+		// Default port
+		assertCodeLenses(8080, "", params, utils);
+
+		// application.properties : port and root path
+		saveFile(QuarkusConfigSourceProvider.APPLICATION_PROPERTIES_FILE, "quarkus.http.port = 8082\nquarkus.http.root-path = /foo/bar", javaProject);
+		assertCodeLenses(8082, "/foo/bar", params, utils);
+	}
+
 	private static void assertCodeLenses(int port, String rootPath, MicroProfileJavaCodeLensParams params, IPsiUtils utils) {
 		assertCodeLens(params, utils, //
 				cl("http://localhost:" + port + rootPath + "/fruits", "", r(31, 4, 4)), //